@@ -0,0 +1,19 @@
+package it.unibo.jmpcoon.controller.agent;
+
+import java.util.Set;
+
+import it.unibo.jmpcoon.model.entities.MovementType;
+import it.unibo.jmpcoon.model.world.WorldObservation;
+
+/**
+ * An automated player, which decides every tick how the player should move by observing the game.
+ */
+@FunctionalInterface
+public interface Agent {
+    /**
+     * Decides the movements of the player for the current tick.
+     * @param observation the {@link WorldObservation} of the game, in the state before the tick
+     * @return the {@link MovementType}s the player should do in the tick
+     */
+    Set<MovementType> act(WorldObservation observation);
+}
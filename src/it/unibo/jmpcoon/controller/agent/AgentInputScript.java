@@ -0,0 +1,33 @@
+package it.unibo.jmpcoon.controller.agent;
+
+import java.util.Objects;
+import java.util.Set;
+
+import it.unibo.jmpcoon.controller.game.InputType;
+import it.unibo.jmpcoon.controller.game.InputUtils;
+import it.unibo.jmpcoon.controller.simulation.InputScript;
+import it.unibo.jmpcoon.model.world.UpdatableWorld;
+
+/**
+ * An {@link InputScript} which gives the inputs decided by an {@link Agent}, so that agents can play the games of a
+ * {@link it.unibo.jmpcoon.controller.simulation.BatchSimulator}.
+ */
+public final class AgentInputScript implements InputScript {
+    private final Agent agent;
+
+    /**
+     * Builds a new {@link AgentInputScript} for the given {@link Agent}.
+     * @param agent the {@link Agent} playing the game
+     */
+    public AgentInputScript(final Agent agent) {
+        this.agent = Objects.requireNonNull(agent);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Set<InputType> getInputs(final int tick, final UpdatableWorld world) {
+        return InputUtils.fromMovements(this.agent.act(world.getObservation()));
+    }
+}
@@ -0,0 +1,66 @@
+package it.unibo.jmpcoon.controller.agent;
+
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Random;
+import java.util.Set;
+
+import it.unibo.jmpcoon.model.entities.EntityType;
+import it.unibo.jmpcoon.model.entities.MovementType;
+import it.unibo.jmpcoon.model.world.WorldObservation;
+
+/**
+ * An {@link Agent} which chooses a random movement and keeps doing it for a fixed number of ticks, jumping every time an
+ * enemy comes close. The choices depend only on the seed and on the game, so two agents with the same seed playing the same
+ * deterministic game play it the same way.
+ */
+public final class RandomAgent implements Agent {
+    private static final String ILLEGAL_HOLD_MSG = "The movement should be kept for at least a tick";
+    private static final double DANGER_RADIUS = 0.6;
+    private static final MovementType[] CHOICES = {MovementType.MOVE_LEFT, MovementType.MOVE_RIGHT, MovementType.MOVE_RIGHT,
+                                                   MovementType.CLIMB_UP, MovementType.CLIMB_DOWN, MovementType.JUMP};
+
+    private final Random random;
+    private final int holdTicks;
+    private MovementType current;
+    private int heldFor;
+
+    /**
+     * Builds a new {@link RandomAgent}.
+     * @param seed the seed of the random choices
+     * @param holdTicks the number of ticks for which a chosen movement is kept
+     * @throws IllegalArgumentException if the number of ticks isn't positive
+     */
+    public RandomAgent(final long seed, final int holdTicks) throws IllegalArgumentException {
+        if (holdTicks <= 0) {
+            throw new IllegalArgumentException(ILLEGAL_HOLD_MSG);
+        }
+        this.random = new Random(seed);
+        this.holdTicks = holdTicks;
+        this.heldFor = holdTicks;
+        this.current = MovementType.MOVE_RIGHT;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Set<MovementType> act(final WorldObservation observation) {
+        if (!observation.getPlayer().isPresent()) {
+            return Collections.emptySet();
+        }
+        if (this.heldFor >= this.holdTicks) {
+            this.current = CHOICES[this.random.nextInt(CHOICES.length)];
+            this.heldFor = 0;
+        }
+        this.heldFor++;
+        final Set<MovementType> movements = EnumSet.of(this.current);
+        final double x = observation.getPlayer().get().getPosition().getLeft();
+        final double y = observation.getPlayer().get().getPosition().getRight();
+        if (!observation.getEntitiesNear(EntityType.ROLLING_ENEMY, x, y, DANGER_RADIUS).isEmpty()
+            || !observation.getEntitiesNear(EntityType.WALKING_ENEMY, x, y, DANGER_RADIUS).isEmpty()) {
+            movements.add(MovementType.JUMP);
+        }
+        return movements;
+    }
+}
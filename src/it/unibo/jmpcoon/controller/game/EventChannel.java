@@ -0,0 +1,47 @@
+package it.unibo.jmpcoon.controller.game;
+
+/**
+ * A channel through which the {@link GameEvent}s happened during the updates of the game are passed from the thread updating
+ * the game to the one reacting to them, as the thread playing their sounds. It's meant to be used by only one thread publishing
+ * the events and only one other thread draining them, so that every event published is received exactly once and in the order
+ * in which it was published.
+ */
+public interface EventChannel {
+    /**
+     * Publishes a {@link GameEvent} happened during the given tick of the game. It should be called only by the thread updating
+     * the game.
+     * @param event the {@link GameEvent} happened
+     * @param tick the tick of the game during which the event happened
+     * @return true if the event has been published, false if this {@link EventChannel} is full and the event has been dropped
+     */
+    boolean publish(GameEvent event, long tick);
+
+    /**
+     * Passes all the {@link GameEvent}s published and not yet drained to the given {@link EventConsumer}, in the order in which
+     * they have been published. It should be called always by the same thread, which isn't the one updating the game.
+     * @param consumer the {@link EventConsumer} to which passing the events
+     * @return the number of events drained
+     */
+    int drain(EventConsumer consumer);
+
+    /**
+     * Returns the number of {@link GameEvent}s that have been dropped because this {@link EventChannel} was full when they were
+     * published.
+     * @return the number of dropped events
+     */
+    long getDroppedCount();
+
+    /**
+     * A consumer of the {@link GameEvent}s drained from an {@link EventChannel}, which receives the tick during which every event
+     * happened along with the event itself.
+     */
+    @FunctionalInterface
+    interface EventConsumer {
+        /**
+         * Receives a {@link GameEvent} drained from the {@link EventChannel}.
+         * @param event the {@link GameEvent} happened
+         * @param tick the tick of the game during which the event happened
+         */
+        void accept(GameEvent event, long tick);
+    }
+}
@@ -0,0 +1,89 @@
+package it.unibo.jmpcoon.controller.game;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Class implementation of {@link EventChannel} as a ring buffer with a fixed capacity. The events and their ticks are stored in
+ * two arrays allocated once, while the positions of the producer and of the consumer are two counters that only ever grow, so
+ * no lock and no allocation is needed for publishing or draining an event.
+ */
+public class EventChannelImpl implements EventChannel {
+    private static final String ILLEGAL_CAPACITY_MSG = "The capacity of the channel must be positive";
+    private static final int MAX_CAPACITY = 1 << 30;
+
+    private final GameEvent[] events;
+    private final long[] ticks;
+    private final int mask;
+    /* the number of events drained, written only by the consumer */
+    private final AtomicLong head;
+    /* the number of events published, written only by the producer */
+    private final AtomicLong tail;
+    private final AtomicLong dropped;
+
+    /**
+     * Builds a new {@link EventChannelImpl} which can hold at least the given number of events not yet drained. The actual
+     * capacity is the smallest power of two not less than the one given.
+     * @param capacity the minimum number of events this {@link EventChannel} should be able to hold
+     * @throws IllegalArgumentException if the capacity is not positive or too big
+     */
+    public EventChannelImpl(final int capacity) throws IllegalArgumentException {
+        if (capacity <= 0 || capacity > MAX_CAPACITY) {
+            throw new IllegalArgumentException(ILLEGAL_CAPACITY_MSG);
+        }
+        final int actualCapacity = Integer.bitCount(capacity) == 1 ? capacity : Integer.highestOneBit(capacity) << 1;
+        this.events = new GameEvent[actualCapacity];
+        this.ticks = new long[actualCapacity];
+        this.mask = actualCapacity - 1;
+        this.head = new AtomicLong();
+        this.tail = new AtomicLong();
+        this.dropped = new AtomicLong();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean publish(final GameEvent event, final long tick) {
+        final long currentTail = this.tail.get();
+        if (currentTail - this.head.get() == this.events.length) {
+            this.dropped.incrementAndGet();
+            return false;
+        }
+        final int index = (int) (currentTail & this.mask);
+        this.events[index] = event;
+        this.ticks[index] = tick;
+        /* makes the written slot visible to the consumer before the new tail */
+        this.tail.lazySet(currentTail + 1);
+        return true;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int drain(final EventConsumer consumer) {
+        final long currentTail = this.tail.get();
+        long currentHead = this.head.get();
+        int drained = 0;
+        while (currentHead < currentTail) {
+            final int index = (int) (currentHead & this.mask);
+            final GameEvent event = this.events[index];
+            final long tick = this.ticks[index];
+            this.events[index] = null;
+            currentHead++;
+            /* frees the slot before handing the event out, so a failing consumer can't make it be received twice */
+            this.head.lazySet(currentHead);
+            drained++;
+            consumer.accept(event, tick);
+        }
+        return drained;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long getDroppedCount() {
+        return this.dropped.get();
+    }
+}
@@ -3,10 +3,12 @@ package it.unibo.jmpcoon.controller.game;
 import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.util.Collection;
-import java.util.Queue;
 
 import org.apache.commons.lang3.tuple.Pair;
 
+import com.google.common.base.Optional;
+
+import it.unibo.jmpcoon.controller.agent.Agent;
 import it.unibo.jmpcoon.model.entities.UnmodifiableEntity;
 
 /**
@@ -44,6 +46,48 @@ public interface GameController {
      */
     void stopGame();
 
+    /**
+     * Starts recording the current session from the current state of the game, so that it can later be re-run as a
+     * {@link it.unibo.jmpcoon.controller.replay.Replay}. If the system property "jmpcoon.record" is set to a path, a session
+     * is recorded from when the game is started to when it's stopped and then saved there.
+     * @throws IllegalStateException if a {@link it.unibo.jmpcoon.controller.replay.Replay} is currently running
+     */
+    void startRecording() throws IllegalStateException;
+
+    /**
+     * Stops recording the current session and saves it as a {@link it.unibo.jmpcoon.controller.replay.Replay}.
+     * @param path the path of the file in which saving the {@link it.unibo.jmpcoon.controller.replay.Replay}
+     * @throws IOException if an I/O error occurs
+     * @throws IllegalStateException if no session is being recorded
+     */
+    void stopRecording(String path) throws IOException, IllegalStateException;
+
+    /**
+     * Replaces the current game with the re-run of a {@link it.unibo.jmpcoon.controller.replay.Replay}, which will advance
+     * when the game is started, ignoring the inputs of the user. If the system property "jmpcoon.replay" is set to a path,
+     * the {@link it.unibo.jmpcoon.controller.replay.Replay} saved there is re-run instead of a new game.
+     * @param path the path of the file containing the {@link it.unibo.jmpcoon.controller.replay.Replay}
+     * @throws IOException if an I/O error occurs
+     * @throws IllegalArgumentException if the file isn't a {@link it.unibo.jmpcoon.controller.replay.Replay} of the current
+     * level
+     */
+    void startReplay(String path) throws IOException, IllegalArgumentException;
+
+    /**
+     * Sets an {@link Agent} which plays the game in place of the user, whose inputs are ignored until the {@link Agent} is
+     * removed.
+     * @param agent an {@link Optional} containing the {@link Agent} which should play, {@link Optional#absent()} if the user
+     * should play
+     */
+    void setAgent(Optional<Agent> agent);
+
+    /**
+     * Returns whether the game is played with the inputs of the user, which happens unless an {@link Agent} is playing it or a
+     * {@link it.unibo.jmpcoon.controller.replay.Replay} is being re-run.
+     * @return true if the inputs of the user are applied to the game, false if they are ignored
+     */
+    boolean isDrivenByUser();
+
     /**
      * Returns the current score of the game.
      * @return the current score of the game
@@ -75,8 +119,11 @@ public interface GameController {
     Collection<UnmodifiableEntity> getDeadEntities();
 
     /**
-     * Returns a {@link Queue} of {@link GameEvent} that recently happened in the game.
-     * @return a {@link Queue} of the last {@link GameEvent} that happened.
+     * Passes the {@link GameEvent}s happened in the game since the last call to the given {@link EventChannel.EventConsumer},
+     * along with the tick in which they happened. Every event is passed once, in the order in which the events happened. It
+     * should be called always by the same thread, which isn't the one updating the game.
+     * @param consumer the {@link EventChannel.EventConsumer} to which passing the events
+     * @return the number of events passed
      */
-    Queue<GameEvent> getCurrentEvents();
+    int drainEvents(EventChannel.EventConsumer consumer);
 }
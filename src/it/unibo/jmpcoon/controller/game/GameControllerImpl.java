@@ -6,26 +6,37 @@ import java.io.FileInputStream;
 import java.io.FileNotFoundException;
 import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
+import java.io.OutputStream;
 import java.net.URL;
-import java.util.Arrays;
 import java.util.Collection;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Objects;
-import java.util.Queue;
-import java.util.concurrent.ConcurrentLinkedQueue;
-import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.Set;
 import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.Logger;
 
-import org.apache.commons.lang3.tuple.ImmutablePair;
 import org.apache.commons.lang3.tuple.Pair;
 
+import com.google.common.base.Optional;
+import com.google.common.hash.Hashing;
+import com.google.common.io.ByteStreams;
+
 import it.unibo.jmpcoon.controller.SaveFile;
+import it.unibo.jmpcoon.controller.agent.Agent;
+import it.unibo.jmpcoon.controller.replay.Replay;
+import it.unibo.jmpcoon.controller.replay.ReplayDriver;
+import it.unibo.jmpcoon.controller.replay.ReplayDriverImpl;
+import it.unibo.jmpcoon.controller.replay.ReplayFiles;
+import it.unibo.jmpcoon.controller.replay.ReplayRecorder;
+import it.unibo.jmpcoon.controller.replay.ReplayRecorderImpl;
 import it.unibo.jmpcoon.model.entities.EntityProperties;
-import it.unibo.jmpcoon.model.entities.MovementType;
 import it.unibo.jmpcoon.model.entities.UnmodifiableEntity;
+import it.unibo.jmpcoon.model.world.CollisionEvent;
 import it.unibo.jmpcoon.model.world.UpdatableWorld;
 import it.unibo.jmpcoon.model.world.WorldFactoryImpl;
 import it.unibo.jmpcoon.view.game.GameView;
@@ -34,15 +45,28 @@ import it.unibo.jmpcoon.view.game.GameView;
  * A {@link GameController} for a game set in a {@link it.unibo.jmpcoon.model.world.World}.
  */
 public class GameControllerImpl implements GameController {
+    private static final Logger LOGGER = Logger.getLogger(GameControllerImpl.class.getName());
     private static final String INCOMPATIBLE_FILE_MSG = "The file read isn't compatible";
+    private static final String DIFFERENT_LEVEL_MSG = "The replay was recorded on a different level";
+    private static final String NOT_RECORDING_MSG = "No session is being recorded";
+    private static final String REPLAYING_MSG = "A session can't be recorded while a replay is running";
+    private static final String DIVERGENT_REPLAY_MSG = "The replay diverged from the recorded session at tick ";
+    private static final String REPLAY_NOT_LOADED_MSG = "The replay couldn't be loaded, the game is played by the user";
+    private static final String RECORD_NOT_SAVED_MSG = "The recorded session couldn't be saved";
+    private static final String RECORD_PROPERTY = "jmpcoon.record";
+    private static final String REPLAY_PROPERTY = "jmpcoon.replay";
     private static final long DELTA_UPDATE = 15;
+    private static final int EVENTS_CAPACITY = 1024;
     private static final URL LEVEL_FILE = ClassLoader.getSystemResource("level.lev");
 
     private UpdatableWorld gameWorld;
     private final GameView gameView;
-    private ScheduledThreadPoolExecutor timer;
-    private boolean running;
-    private boolean jumped;
+    private final GameLoop loop;
+    private final EventChannel events;
+    private long tick;
+    private Optional<ReplayRecorder> recorder;
+    private Optional<ReplayDriver> replayDriver;
+    private Optional<Agent> agent;
 
     /**
      * Builds a new {@link GameControllerImpl}.
@@ -52,9 +76,21 @@ public class GameControllerImpl implements GameController {
         this.gameWorld = new WorldFactoryImpl().create();
         this.gameWorld.initLevel(this.loadLevel());
         this.gameView = Objects.requireNonNull(view);
-        this.timer = this.createTimer();
-        this.running = false;
-        this.jumped = false;
+        this.loop = new GameLoopImpl(this::updateWorldAndView, DELTA_UPDATE, TimeUnit.MILLISECONDS, true);
+        this.gameWorld.setWorkers(this.loop.getWorkers());
+        this.events = new EventChannelImpl(EVENTS_CAPACITY);
+        this.tick = 0;
+        this.recorder = Optional.absent();
+        this.replayDriver = Optional.absent();
+        this.agent = Optional.absent();
+        final String replayPath = System.getProperty(REPLAY_PROPERTY);
+        if (replayPath != null) {
+            try {
+                this.startReplay(replayPath);
+            } catch (final IOException | IllegalArgumentException e) {
+                LOGGER.log(Level.WARNING, REPLAY_NOT_LOADED_MSG, e);
+            }
+        }
     }
 
     /**
@@ -62,9 +98,11 @@ public class GameControllerImpl implements GameController {
      */
     @Override
     public void startGame() {
-        if (!this.running) {
-            this.timer.scheduleWithFixedDelay(() -> this.updateWorldAndView(), DELTA_UPDATE, DELTA_UPDATE, TimeUnit.MILLISECONDS);
-            this.running = true;
+        if (!this.loop.isRunning()) {
+            if (System.getProperty(RECORD_PROPERTY) != null && !this.recorder.isPresent() && !this.replayDriver.isPresent()) {
+                this.startRecording();
+            }
+            this.loop.start();
         }
     }
 
@@ -73,10 +111,8 @@ public class GameControllerImpl implements GameController {
      */
     @Override
     public void togglePauseGame() {
-        if (this.running) {
-            this.stopGame();
-            /* prepares a new timer for when the game will be restarted */
-            this.timer = this.createTimer();
+        if (this.loop.isRunning()) {
+            this.loop.pause();
         } else {
             this.startGame();
         }
@@ -103,6 +139,7 @@ public class GameControllerImpl implements GameController {
                  = new ObjectInputStream(new BufferedInputStream(new FileInputStream(SaveFile.values()[saveFileIndex]
                                                                                              .getSavePath())))) {
             this.gameWorld = (UpdatableWorld) in.readObject();
+            this.gameWorld.setWorkers(this.loop.getWorkers());
         } catch (final ClassNotFoundException e) {
             throw new IllegalArgumentException(INCOMPATIBLE_FILE_MSG);
         }
@@ -113,12 +150,66 @@ public class GameControllerImpl implements GameController {
      */
     @Override
     public void stopGame() {
-        if (this.running) {
-            this.timer.shutdown();
-            this.running = false;
+        this.loop.stop();
+        final String recordPath = System.getProperty(RECORD_PROPERTY);
+        if (recordPath != null && this.recorder.isPresent()) {
+            try {
+                this.stopRecording(recordPath);
+            } catch (final IOException e) {
+                LOGGER.log(Level.WARNING, RECORD_NOT_SAVED_MSG, e);
+            }
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void startRecording() throws IllegalStateException {
+        if (this.replayDriver.isPresent()) {
+            throw new IllegalStateException(REPLAYING_MSG);
+        }
+        final ReplayRecorder newRecorder = new ReplayRecorderImpl(this.getLevelId(), this.gameWorld);
+        /* the game goes on from the restored copy of the world, the same one from which the replay will start */
+        this.gameWorld = newRecorder.getWorld();
+        this.gameWorld.setWorkers(this.loop.getWorkers());
+        this.recorder = Optional.of(newRecorder);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void stopRecording(final String path) throws IOException, IllegalStateException {
+        if (!this.recorder.isPresent()) {
+            throw new IllegalStateException(NOT_RECORDING_MSG);
+        }
+        final Replay replay = this.recorder.get().getReplay();
+        this.recorder = Optional.absent();
+        try (OutputStream out = new BufferedOutputStream(new FileOutputStream(path))) {
+            ReplayFiles.write(replay, out);
         }
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void startReplay(final String path) throws IOException, IllegalArgumentException {
+        final Replay replay;
+        try (InputStream in = new BufferedInputStream(new FileInputStream(path))) {
+            replay = ReplayFiles.read(in);
+        }
+        if (!replay.getLevelId().equals(this.getLevelId())) {
+            throw new IllegalArgumentException(DIFFERENT_LEVEL_MSG);
+        }
+        final ReplayDriver driver = new ReplayDriverImpl(replay);
+        this.recorder = Optional.absent();
+        this.gameWorld = driver.getWorld();
+        this.gameWorld.setWorkers(this.loop.getWorkers());
+        this.replayDriver = Optional.of(driver);
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -161,29 +252,24 @@ public class GameControllerImpl implements GameController {
      * {@inheritDoc}
      */
     @Override
-    public Queue<GameEvent> getCurrentEvents() {
-        final Queue<GameEvent> events = new ConcurrentLinkedQueue<>();
-        if (this.jumped) {
-            events.offer(GameEvent.JUMP);
-        }
-        this.gameWorld.getCurrentEvents()
-                      .forEach(event -> Arrays.asList(GameEvent.values())
-                                              .stream()
-                                              .filter(v -> v.getAssociatedCollisionEvent().isPresent())
-                                              .forEach(v -> {
-                                                  if (v.getAssociatedCollisionEvent().get() == event) {
-                                                      events.offer(v);
-                                                  }
-                                              }));
-        return events;
-    }
-
-    private ScheduledThreadPoolExecutor createTimer() {
-        // Runtime.getRuntime().availableProcessors() + 1 is the size of the pool of threads
-        final int threadPoolSize = Runtime.getRuntime().availableProcessors() + 1;
-        final ScheduledThreadPoolExecutor t = new ScheduledThreadPoolExecutor(threadPoolSize);
-        t.setExecuteExistingDelayedTasksAfterShutdownPolicy(false);
-        return t;
+    public int drainEvents(final EventChannel.EventConsumer consumer) {
+        return this.events.drain(consumer);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void setAgent(final Optional<Agent> agent) {
+        this.agent = agent;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isDrivenByUser() {
+        return !this.agent.isPresent() && !this.replayDriver.isPresent();
     }
 
     private void updateWorldAndView() {
@@ -194,18 +280,67 @@ public class GameControllerImpl implements GameController {
             this.gameView.showPlayerWin();
             this.stopGame();
         } else {
-            this.jumped = false;
-            this.gameView.getInputs()
-                         .stream()
-                         .map(i -> i.getAssociatedMovementType())
-                         .map(m -> new ImmutablePair<>(m, this.gameWorld.movePlayer(m)))
-                         .filter(p -> p.getLeft() == MovementType.JUMP && p.getRight())
-                         .forEach(b -> this.jumped = true);
-            this.gameWorld.update();
+            final boolean jumped;
+            if (this.replayDriver.isPresent()) {
+                jumped = this.replayNextTick(this.replayDriver.get());
+            } else {
+                /* a snapshot of the inputs, so that the recorded ones are exactly the applied ones */
+                final Set<InputType> inputs = this.agent.isPresent()
+                                              ? InputUtils.fromMovements(this.agent.get().act(this.gameWorld.getObservation()))
+                                              : InputUtils.toOrderedSet(this.gameView.getInputs());
+                jumped = InputUtils.applyInputs(this.gameWorld, inputs);
+                this.gameWorld.update();
+                if (this.recorder.isPresent()) {
+                    this.recorder.get().recordTick(inputs);
+                }
+            }
+            this.publishEvents(jumped);
             this.gameView.update();
         }
     }
 
+    /*
+     * Re-runs a tick of the replay, if there are still ones, reporting if the game has diverged from the recorded session
+     * when the replay ends.
+     */
+    private boolean replayNextTick(final ReplayDriver driver) {
+        if (driver.hasNextTick()) {
+            final boolean jumped = driver.step();
+            if (!driver.hasNextTick() && driver.getFirstDivergentTick().isPresent()) {
+                LOGGER.warning(DIVERGENT_REPLAY_MSG + driver.getFirstDivergentTick().get());
+            }
+            return jumped;
+        }
+        return false;
+    }
+
+    /*
+     * Publishes the events happened during the last update of the world to the view, stamped with the tick of the update.
+     */
+    private void publishEvents(final boolean jumped) {
+        if (jumped) {
+            this.events.publish(GameEvent.JUMP, this.tick);
+        }
+        for (final CollisionEvent collisionEvent : this.gameWorld.getCurrentEvents()) {
+            final GameEvent event = GameEvent.fromCollisionEvent(collisionEvent);
+            if (event != null) {
+                this.events.publish(event, this.tick);
+            }
+        }
+        this.tick++;
+    }
+
+    /*
+     * Returns the identity of the level loaded by this controller, which is the SHA-256 hash of the level file.
+     */
+    private String getLevelId() {
+        try (InputStream in = LEVEL_FILE.openStream()) {
+            return Hashing.sha256().hashBytes(ByteStreams.toByteArray(in)).toString();
+        } catch (final IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
     private List<EntityProperties> loadLevel() {
         final List<EntityProperties> entities = new LinkedList<>();
         try (ObjectInputStream in = new ObjectInputStream(LEVEL_FILE.openStream())) {
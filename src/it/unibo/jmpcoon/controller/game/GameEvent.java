@@ -1,5 +1,8 @@
 package it.unibo.jmpcoon.controller.game;
 
+import java.util.EnumMap;
+import java.util.Map;
+
 import com.google.common.base.Optional;
 
 import it.unibo.jmpcoon.model.world.CollisionEvent;
@@ -32,11 +35,25 @@ public enum GameEvent {
      * possibility to be invincible.
      */
     INVINCIBILITY_HIT(Optional.of(CollisionEvent.INVINCIBILITY_HIT)),
+    /**
+     * The event in which the {@link model.entities.Player} lands on a {@link model.entities.Platform}.
+     */
+    PLAYER_LANDED(Optional.of(CollisionEvent.PLAYER_LANDED)),
     /**
      * A jump executed by the {@link model.entities.Player}.
      */
     JUMP(Optional.absent());
 
+    private static final Map<CollisionEvent, GameEvent> FROM_COLLISION_EVENT = new EnumMap<>(CollisionEvent.class);
+
+    static {
+        for (final GameEvent event : values()) {
+            if (event.associatedCollisionEvent.isPresent()) {
+                FROM_COLLISION_EVENT.put(event.associatedCollisionEvent.get(), event);
+            }
+        }
+    }
+
     private final Optional<CollisionEvent> associatedCollisionEvent;
 
     GameEvent(final Optional<CollisionEvent> associatedCollisionEvent) {
@@ -50,4 +67,13 @@ public enum GameEvent {
     public Optional<CollisionEvent> getAssociatedCollisionEvent() {
         return this.associatedCollisionEvent;
     }
+
+    /**
+     * Returns the {@link GameEvent} associated to the given {@link CollisionEvent}, looked up in a table built once.
+     * @param collisionEvent the {@link CollisionEvent} of which getting the associated {@link GameEvent}
+     * @return the {@link GameEvent} associated to the {@link CollisionEvent}, null if there isn't one
+     */
+    public static GameEvent fromCollisionEvent(final CollisionEvent collisionEvent) {
+        return FROM_COLLISION_EVENT.get(collisionEvent);
+    }
 }
@@ -0,0 +1,44 @@
+package it.unibo.jmpcoon.controller.game;
+
+import java.util.concurrent.ForkJoinPool;
+
+import com.google.common.base.Optional;
+
+/**
+ * The runtime which updates the game periodically. All the ticks are run one after the other by a single thread, which lives
+ * until the loop is stopped, so that pausing and resuming the game only change the state of the loop and don't create or
+ * destroy any thread.
+ */
+public interface GameLoop {
+    /**
+     * Starts running the ticks of the game, or resumes running them if the loop has been paused. If the loop has been stopped,
+     * a new thread for running the ticks is started.
+     */
+    void start();
+
+    /**
+     * Pauses the loop, so that no more ticks are run until it's started again. A tick already running is completed.
+     */
+    void pause();
+
+    /**
+     * Stops the loop, ending the thread which runs the ticks. It can be called also from inside a tick, in which case the loop
+     * stops after the tick.
+     */
+    void stop();
+
+    /**
+     * Returns whether this {@link GameLoop} is running the ticks of the game, so it's started and not paused.
+     * @return true if the ticks of the game are being run, false otherwise
+     */
+    boolean isRunning();
+
+    /**
+     * Returns the pool of workers to which the phases of a tick which are explicitly parallel should be submitted, so that they
+     * don't compete with the other tasks of the application for the threads of the common pool. The pool is bounded to the
+     * processors not used by the thread running the ticks, and it's absent when they're too few for a parallel phase to be
+     * worth it.
+     * @return the {@link ForkJoinPool} of workers of this {@link GameLoop}, if any
+     */
+    Optional<ForkJoinPool> getWorkers();
+}
@@ -0,0 +1,201 @@
+package it.unibo.jmpcoon.controller.game;
+
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import com.google.common.base.Optional;
+
+/**
+ * Class implementation of {@link GameLoop}. The thread running the ticks waits a fixed delay after every tick and, while the
+ * loop is paused, waits on a condition, so that both a pause and a resume take effect immediately. The threads are daemons, so
+ * a loop which hasn't been stopped doesn't keep the application alive, and the workers end by themselves when left idle. A tick
+ * throwing an exception stops the loop, as it would stop a periodic task.
+ */
+public class GameLoopImpl implements GameLoop {
+    private static final Logger LOGGER = Logger.getLogger(GameLoopImpl.class.getName());
+    private static final String ILLEGAL_DELAY_MSG = "The delay between two ticks must be positive";
+    private static final String THREAD_NAME = "jmpcoon-game-loop";
+    private static final String WORKER_NAME = "jmpcoon-worker-";
+    private static final String FAILED_TICK_MSG = "A tick of the game failed, the game loop has been stopped";
+
+    private final Runnable tick;
+    private final long delayNanos;
+    private final Lock lock;
+    private final Condition stateChanged;
+    private final Optional<ForkJoinPool> workers;
+    private LoopState state;
+    private Thread thread;
+
+    /**
+     * Builds a new {@link GameLoopImpl}, paused until it's started.
+     * @param tick the tick of the game to run periodically
+     * @param delay the time to wait after a tick before running the next one
+     * @param unit the {@link TimeUnit} of the delay
+     * @param useWorkers true if a pool of workers should be created for the parallel phases of the ticks, false otherwise
+     * @throws IllegalArgumentException if the delay is not positive
+     */
+    public GameLoopImpl(final Runnable tick, final long delay, final TimeUnit unit, final boolean useWorkers) {
+        if (delay <= 0) {
+            throw new IllegalArgumentException(ILLEGAL_DELAY_MSG);
+        }
+        this.tick = Objects.requireNonNull(tick);
+        this.delayNanos = unit.toNanos(delay);
+        this.lock = new ReentrantLock();
+        this.stateChanged = this.lock.newCondition();
+        /* one processor is left to the thread running the ticks and to the one drawing them */
+        final int parallelism = Runtime.getRuntime().availableProcessors() - 1;
+        this.workers = useWorkers && parallelism > 1 ? Optional.of(createWorkers(parallelism)) : Optional.absent();
+        this.state = LoopState.STOPPED;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void start() {
+        this.lock.lock();
+        try {
+            if (this.state == LoopState.STOPPED) {
+                /* a loop stopped from inside a tick can be started again before its thread has ended */
+                this.thread = new Thread(this::run, THREAD_NAME);
+                this.thread.setDaemon(true);
+                this.state = LoopState.RUNNING;
+                this.thread.start();
+            } else {
+                this.state = LoopState.RUNNING;
+                this.stateChanged.signalAll();
+            }
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void pause() {
+        this.changeState(LoopState.PAUSED);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void stop() {
+        this.changeState(LoopState.STOPPED);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isRunning() {
+        this.lock.lock();
+        try {
+            return this.state == LoopState.RUNNING;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Optional<ForkJoinPool> getWorkers() {
+        return this.workers;
+    }
+
+    /*
+     * Changes the state of this loop, waking up its thread if it's waiting.
+     */
+    private void changeState(final LoopState newState) {
+        this.lock.lock();
+        try {
+            if (this.state != LoopState.STOPPED) {
+                this.state = newState;
+                this.stateChanged.signalAll();
+            }
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    /*
+     * The body of the thread running the ticks, which ends when the loop is stopped or when another thread has replaced it.
+     */
+    private void run() {
+        final Thread current = Thread.currentThread();
+        while (this.awaitNextTick(current)) {
+            try {
+                this.tick.run();
+            } catch (final RuntimeException e) {
+                /* the game could have been left half updated, so running other ticks on it would only make it worse */
+                this.stopFrom(current);
+                LOGGER.log(Level.SEVERE, FAILED_TICK_MSG, e);
+            }
+        }
+    }
+
+    /*
+     * Stops this loop if it's still run by the given thread, and not by another one started after stopping it.
+     */
+    private void stopFrom(final Thread current) {
+        this.lock.lock();
+        try {
+            if (this.thread == current) {
+                this.state = LoopState.STOPPED;
+            }
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    /*
+     * Waits the delay between two ticks and then as long as the loop is paused, returning true if the next tick should be run
+     * by the given thread, false if it should end.
+     */
+    private boolean awaitNextTick(final Thread current) {
+        this.lock.lock();
+        try {
+            long remaining = this.delayNanos;
+            while (this.thread == current && this.state != LoopState.STOPPED
+                   && (this.state == LoopState.PAUSED || remaining > 0)) {
+                if (this.state == LoopState.PAUSED) {
+                    this.stateChanged.awaitUninterruptibly();
+                    /* the delay starts again when the loop is resumed */
+                    remaining = this.delayNanos;
+                } else {
+                    remaining = this.stateChanged.awaitNanos(remaining);
+                }
+            }
+            return this.thread == current && this.state == LoopState.RUNNING;
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    private static ForkJoinPool createWorkers(final int parallelism) {
+        return new ForkJoinPool(parallelism, pool -> {
+            final ForkJoinWorkerThread worker = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+            worker.setName(WORKER_NAME + worker.getPoolIndex());
+            worker.setDaemon(true);
+            return worker;
+        }, null, false);
+    }
+
+    private enum LoopState {
+        RUNNING, PAUSED, STOPPED;
+    }
+}
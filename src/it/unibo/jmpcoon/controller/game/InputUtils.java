@@ -0,0 +1,89 @@
+package it.unibo.jmpcoon.controller.game;
+
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.Set;
+
+import it.unibo.jmpcoon.model.entities.MovementType;
+import it.unibo.jmpcoon.model.world.UpdatableWorld;
+
+/**
+ * Utility class for applying the {@link InputType}s given by the user to an {@link UpdatableWorld} always in the same way, so
+ * that a sequence of inputs applied to the same world produces the same game whoever is applying it.
+ */
+public final class InputUtils {
+    private InputUtils() {
+    }
+
+    /**
+     * Applies the given {@link InputType}s to the given {@link UpdatableWorld} as movements of the player. The inputs are
+     * applied in the order in which they are declared in {@link InputType}, whatever the order of the passed
+     * {@link Collection} is, because the outcome of a movement can depend on the movements already applied in the same tick.
+     * @param world the {@link UpdatableWorld} to which apply the inputs
+     * @param inputs the {@link InputType}s to apply
+     * @return true if one of the inputs made the player jump, false otherwise
+     */
+    public static boolean applyInputs(final UpdatableWorld world, final Collection<InputType> inputs) {
+        boolean jumped = false;
+        for (final InputType input : toOrderedSet(inputs)) {
+            final MovementType movement = input.getAssociatedMovementType();
+            if (world.movePlayer(movement) && movement == MovementType.JUMP) {
+                jumped = true;
+            }
+        }
+        return jumped;
+    }
+
+    /**
+     * Returns a copy of the given {@link InputType}s ordered as they are declared in {@link InputType}.
+     * @param inputs the {@link InputType}s to copy
+     * @return a {@link Set} of the given {@link InputType}s iterating in their declaration order
+     */
+    public static Set<InputType> toOrderedSet(final Collection<InputType> inputs) {
+        return inputs.isEmpty() ? EnumSet.noneOf(InputType.class) : EnumSet.copyOf(inputs);
+    }
+
+    /**
+     * Converts the given {@link MovementType}s into the {@link InputType}s which are associated with them.
+     * @param movements the {@link MovementType}s to convert
+     * @return a {@link Set} of the {@link InputType}s associated with the given movements, iterating in their declaration order
+     */
+    public static Set<InputType> fromMovements(final Collection<MovementType> movements) {
+        final Set<InputType> inputs = EnumSet.noneOf(InputType.class);
+        for (final InputType input : InputType.values()) {
+            if (movements.contains(input.getAssociatedMovementType())) {
+                inputs.add(input);
+            }
+        }
+        return inputs;
+    }
+
+    /**
+     * Encodes the given {@link InputType}s into a mask where the i-th bit is set if the {@link InputType} with ordinal i is
+     * present.
+     * @param inputs the {@link InputType}s to encode
+     * @return the mask representing the given {@link InputType}s
+     */
+    public static byte toMask(final Collection<InputType> inputs) {
+        int mask = 0;
+        for (final InputType input : inputs) {
+            mask |= 1 << input.ordinal();
+        }
+        return (byte) mask;
+    }
+
+    /**
+     * Decodes the given mask, as produced by {@link #toMask(Collection)}, into the {@link InputType}s it represents.
+     * @param mask the mask to decode
+     * @return a {@link Set} of the {@link InputType}s represented by the mask, iterating in their declaration order
+     */
+    public static Set<InputType> fromMask(final byte mask) {
+        final Set<InputType> inputs = EnumSet.noneOf(InputType.class);
+        for (final InputType input : InputType.values()) {
+            if ((mask & (1 << input.ordinal())) != 0) {
+                inputs.add(input);
+            }
+        }
+        return inputs;
+    }
+}
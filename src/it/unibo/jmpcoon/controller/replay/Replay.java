@@ -0,0 +1,46 @@
+package it.unibo.jmpcoon.controller.replay;
+
+import java.util.Set;
+
+import it.unibo.jmpcoon.controller.game.InputType;
+
+/**
+ * A recorded play session, made of the state of the game from which the session started, the identity of the level being
+ * played and, for each tick of the game, the {@link InputType}s given by the player and the checksum of the state of the game
+ * after that tick, as computed by {@link it.unibo.jmpcoon.model.world.UpdatableWorld#getStateChecksum()}.
+ */
+public interface Replay {
+    /**
+     * Returns the identity of the level from which the recorded game was built.
+     * @return a string identifying the level of the recorded game
+     */
+    String getLevelId();
+
+    /**
+     * Returns the serialized form of the {@link it.unibo.jmpcoon.model.world.UpdatableWorld} from which the recording started.
+     * @return a copy of the bytes of the serialized starting {@link it.unibo.jmpcoon.model.world.UpdatableWorld}
+     */
+    byte[] getInitialState();
+
+    /**
+     * Returns the number of ticks recorded.
+     * @return the number of ticks recorded
+     */
+    int getTickCount();
+
+    /**
+     * Returns the {@link InputType}s given by the player in the given tick.
+     * @param tick the index of the tick, starting from zero
+     * @return a {@link Set} of the {@link InputType}s given in the tick
+     * @throws IndexOutOfBoundsException if the tick is not between zero and {@link #getTickCount()} excluded
+     */
+    Set<InputType> getInputs(int tick);
+
+    /**
+     * Returns the hash of the state of the game after the given tick was executed.
+     * @param tick the index of the tick, starting from zero
+     * @return the hash of the state of the game after the tick
+     * @throws IndexOutOfBoundsException if the tick is not between zero and {@link #getTickCount()} excluded
+     */
+    long getStateHash(int tick);
+}
@@ -0,0 +1,64 @@
+package it.unibo.jmpcoon.controller.replay;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import com.google.common.base.Optional;
+
+import it.unibo.jmpcoon.model.world.UpdatableWorld;
+
+/**
+ * A driver which re-runs a {@link Replay} tick by tick on the {@link UpdatableWorld} restored from its starting state,
+ * verifying after every tick that the state of the game has the same hash it had when it was recorded.
+ */
+public interface ReplayDriver {
+    /**
+     * Returns the {@link UpdatableWorld} on which the {@link Replay} is re-run.
+     * @return the {@link UpdatableWorld} on which the {@link Replay} is re-run
+     */
+    UpdatableWorld getWorld();
+
+    /**
+     * Returns whether there are still ticks of the {@link Replay} to be re-run.
+     * @return true if there are still ticks to be re-run, false otherwise
+     */
+    boolean hasNextTick();
+
+    /**
+     * Returns the index of the next tick to be re-run, which is also the number of ticks already re-run.
+     * @return the index of the next tick to be re-run
+     */
+    int getCurrentTick();
+
+    /**
+     * Re-runs the next tick of the {@link Replay}, applying its inputs and updating the {@link UpdatableWorld}, then verifies
+     * the hash of the reached state.
+     * @return true if one of the inputs of the tick made the player jump, false otherwise
+     * @throws IllegalStateException if there are no more ticks to be re-run
+     */
+    boolean step();
+
+    /**
+     * Returns the first tick after which the state of the game differed from the recorded one, if any.
+     * @return an {@link Optional} containing the index of the first divergent tick, if the game diverged from the
+     * {@link Replay}, {@link Optional#absent()} otherwise
+     */
+    Optional<Integer> getFirstDivergentTick();
+
+    /**
+     * Re-runs all the remaining ticks as fast as possible, without any rendering.
+     * @return the first divergent tick, as returned by {@link #getFirstDivergentTick()}
+     */
+    Optional<Integer> runHeadless();
+
+    /**
+     * Re-runs all the remaining ticks one every given period of time, calling the given listener after each of them so as to
+     * allow the game to be rendered.
+     * @param tickPeriod the period of time between the start of a tick and the start of the next
+     * @param unit the {@link TimeUnit} of the period
+     * @param onTick the listener called after each tick with the {@link UpdatableWorld} of this driver
+     * @return the first divergent tick, as returned by {@link #getFirstDivergentTick()}
+     * @throws InterruptedException if the current thread is interrupted while waiting for the next tick
+     */
+    Optional<Integer> runPaced(long tickPeriod, TimeUnit unit, Consumer<UpdatableWorld> onTick) throws InterruptedException;
+}
@@ -0,0 +1,115 @@
+package it.unibo.jmpcoon.controller.replay;
+
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import com.google.common.base.Optional;
+
+import it.unibo.jmpcoon.controller.game.InputUtils;
+import it.unibo.jmpcoon.model.world.UpdatableWorld;
+
+/**
+ * The class implementation of {@link ReplayDriver}.
+ */
+public final class ReplayDriverImpl implements ReplayDriver {
+    private static final String NO_MORE_TICKS_MSG = "All the ticks of the replay have already been re-run";
+
+    private final Replay replay;
+    private final UpdatableWorld world;
+    private int currentTick;
+    private Optional<Integer> firstDivergentTick;
+
+    /**
+     * Builds a new {@link ReplayDriverImpl} restoring the starting state of the given {@link Replay}.
+     * @param replay the {@link Replay} to re-run
+     * @throws IllegalArgumentException if the starting state of the {@link Replay} can't be restored
+     */
+    public ReplayDriverImpl(final Replay replay) throws IllegalArgumentException {
+        this.replay = Objects.requireNonNull(replay);
+        this.world = ReplayFiles.deserializeWorld(replay.getInitialState());
+        this.currentTick = 0;
+        this.firstDivergentTick = Optional.absent();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public UpdatableWorld getWorld() {
+        return this.world;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean hasNextTick() {
+        return this.currentTick < this.replay.getTickCount();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getCurrentTick() {
+        return this.currentTick;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean step() {
+        if (!this.hasNextTick()) {
+            throw new IllegalStateException(NO_MORE_TICKS_MSG);
+        }
+        final boolean jumped = InputUtils.applyInputs(this.world, this.replay.getInputs(this.currentTick));
+        this.world.update();
+        if (!this.firstDivergentTick.isPresent()
+            && this.world.getStateChecksum() != this.replay.getStateHash(this.currentTick)) {
+            this.firstDivergentTick = Optional.of(this.currentTick);
+        }
+        this.currentTick++;
+        return jumped;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Optional<Integer> getFirstDivergentTick() {
+        return this.firstDivergentTick;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Optional<Integer> runHeadless() {
+        while (this.hasNextTick()) {
+            this.step();
+        }
+        return this.firstDivergentTick;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Optional<Integer> runPaced(final long tickPeriod, final TimeUnit unit, final Consumer<UpdatableWorld> onTick)
+            throws InterruptedException {
+        final long periodNanos = unit.toNanos(tickPeriod);
+        long nextTickTime = System.nanoTime();
+        while (this.hasNextTick()) {
+            this.step();
+            onTick.accept(this.world);
+            nextTickTime += periodNanos;
+            final long waitTime = nextTickTime - System.nanoTime();
+            if (waitTime > 0) {
+                TimeUnit.NANOSECONDS.sleep(waitTime);
+            }
+        }
+        return this.firstDivergentTick;
+    }
+}
@@ -0,0 +1,114 @@
+package it.unibo.jmpcoon.controller.replay;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.OutputStream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import it.unibo.jmpcoon.controller.game.InputUtils;
+import it.unibo.jmpcoon.model.world.UpdatableWorld;
+
+/**
+ * Utility class for writing and reading {@link Replay}s to and from streams. A replay is written compressed as a header made of
+ * a magic number, a version and the level identity, followed by the starting state, one byte per tick for the inputs and
+ * the hashes of the states of all ticks.
+ */
+public final class ReplayFiles {
+    private static final String INCOMPATIBLE_FILE_MSG = "The replay read isn't compatible";
+    private static final int MAGIC = 0x4A4D5052;
+    private static final int VERSION = 1;
+
+    private ReplayFiles() {
+    }
+
+    /**
+     * Writes the given {@link Replay} to the given {@link OutputStream}, which is not closed.
+     * @param replay the {@link Replay} to write
+     * @param stream the {@link OutputStream} to which write the {@link Replay}
+     * @throws IOException if an I/O error occurs
+     */
+    public static void write(final Replay replay, final OutputStream stream) throws IOException {
+        final GZIPOutputStream compressed = new GZIPOutputStream(stream);
+        final DataOutputStream out = new DataOutputStream(compressed);
+        out.writeInt(MAGIC);
+        out.writeInt(VERSION);
+        out.writeUTF(replay.getLevelId());
+        final byte[] initialState = replay.getInitialState();
+        out.writeInt(initialState.length);
+        out.write(initialState);
+        final int ticks = replay.getTickCount();
+        out.writeInt(ticks);
+        for (int i = 0; i < ticks; i++) {
+            out.writeByte(InputUtils.toMask(replay.getInputs(i)));
+        }
+        for (int i = 0; i < ticks; i++) {
+            out.writeLong(replay.getStateHash(i));
+        }
+        out.flush();
+        compressed.finish();
+    }
+
+    /**
+     * Reads a {@link Replay} from the given {@link InputStream}, which is not closed.
+     * @param stream the {@link InputStream} from which read the {@link Replay}
+     * @return the {@link Replay} read
+     * @throws IOException if an I/O error occurs
+     * @throws IllegalArgumentException if the data read isn't a {@link Replay} compatible with this application
+     */
+    public static Replay read(final InputStream stream) throws IOException, IllegalArgumentException {
+        final DataInputStream in = new DataInputStream(new GZIPInputStream(stream));
+        if (in.readInt() != MAGIC || in.readInt() != VERSION) {
+            throw new IllegalArgumentException(INCOMPATIBLE_FILE_MSG);
+        }
+        final String levelId = in.readUTF();
+        final byte[] initialState = new byte[readLength(in)];
+        in.readFully(initialState);
+        final int ticks = readLength(in);
+        final byte[] inputMasks = new byte[ticks];
+        in.readFully(inputMasks);
+        final long[] stateHashes = new long[ticks];
+        for (int i = 0; i < ticks; i++) {
+            stateHashes[i] = in.readLong();
+        }
+        return new ReplayImpl(levelId, initialState, inputMasks, stateHashes);
+    }
+
+    /*
+     * Serializes the given world into an array of bytes, the same way a game is saved.
+     */
+    static byte[] serializeWorld(final UpdatableWorld world) {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(world);
+        } catch (final IOException e) {
+            throw new IllegalStateException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    /*
+     * Deserializes a world from an array of bytes produced by serializeWorld.
+     */
+    static UpdatableWorld deserializeWorld(final byte[] state) {
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(state))) {
+            return (UpdatableWorld) in.readObject();
+        } catch (final IOException | ClassNotFoundException | ClassCastException e) {
+            throw new IllegalArgumentException(INCOMPATIBLE_FILE_MSG, e);
+        }
+    }
+
+    private static int readLength(final DataInputStream in) throws IOException {
+        final int length = in.readInt();
+        if (length < 0) {
+            throw new IllegalArgumentException(INCOMPATIBLE_FILE_MSG);
+        }
+        return length;
+    }
+}
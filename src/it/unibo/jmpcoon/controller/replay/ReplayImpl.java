@@ -0,0 +1,82 @@
+package it.unibo.jmpcoon.controller.replay;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.Set;
+
+import it.unibo.jmpcoon.controller.game.InputType;
+import it.unibo.jmpcoon.controller.game.InputUtils;
+
+/**
+ * The class implementation of {@link Replay}, which stores the inputs of each tick as a mask of one byte so as to keep long
+ * sessions small.
+ */
+final class ReplayImpl implements Replay {
+    private static final String DIFFERENT_LENGTHS_MSG = "Inputs and hashes must have been recorded for the same ticks";
+
+    private final String levelId;
+    private final byte[] initialState;
+    private final byte[] inputMasks;
+    private final long[] stateHashes;
+
+    /*
+     * Builds a new replay from its raw components, which are not copied, so the caller mustn't modify them afterwards.
+     */
+    ReplayImpl(final String levelId, final byte[] initialState, final byte[] inputMasks, final long[] stateHashes) {
+        if (inputMasks.length != stateHashes.length) {
+            throw new IllegalArgumentException(DIFFERENT_LENGTHS_MSG);
+        }
+        this.levelId = Objects.requireNonNull(levelId);
+        this.initialState = Objects.requireNonNull(initialState);
+        this.inputMasks = inputMasks;
+        this.stateHashes = stateHashes;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String getLevelId() {
+        return this.levelId;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public byte[] getInitialState() {
+        return Arrays.copyOf(this.initialState, this.initialState.length);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getTickCount() {
+        return this.inputMasks.length;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Set<InputType> getInputs(final int tick) {
+        this.checkTick(tick);
+        return InputUtils.fromMask(this.inputMasks[tick]);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long getStateHash(final int tick) {
+        this.checkTick(tick);
+        return this.stateHashes[tick];
+    }
+
+    private void checkTick(final int tick) {
+        if (tick < 0 || tick >= this.inputMasks.length) {
+            throw new IndexOutOfBoundsException(String.valueOf(tick));
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package it.unibo.jmpcoon.controller.replay;
+
+import java.util.Collection;
+
+import it.unibo.jmpcoon.controller.game.InputType;
+import it.unibo.jmpcoon.model.world.UpdatableWorld;
+
+/**
+ * A recorder of a play session which produces a {@link Replay}. The session must be played on the {@link UpdatableWorld}
+ * given by the recorder, which has been restored from the same starting state saved in the {@link Replay}, so that the
+ * recorded game and its replays start from exactly the same state.
+ */
+public interface ReplayRecorder {
+    /**
+     * Returns the {@link UpdatableWorld} on which the recorded session must be played.
+     * @return the {@link UpdatableWorld} on which the recorded session must be played
+     */
+    UpdatableWorld getWorld();
+
+    /**
+     * Records a tick of the game, after it has been executed on the {@link UpdatableWorld} of this recorder.
+     * @param inputs the {@link InputType}s applied in the tick
+     */
+    void recordTick(Collection<InputType> inputs);
+
+    /**
+     * Returns the number of ticks recorded until now.
+     * @return the number of ticks recorded until now
+     */
+    int getTickCount();
+
+    /**
+     * Returns the {@link Replay} of the ticks recorded until now.
+     * @return the {@link Replay} of the ticks recorded until now
+     */
+    Replay getReplay();
+}
@@ -0,0 +1,79 @@
+package it.unibo.jmpcoon.controller.replay;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Objects;
+
+import it.unibo.jmpcoon.controller.game.InputType;
+import it.unibo.jmpcoon.controller.game.InputUtils;
+import it.unibo.jmpcoon.model.world.UpdatableWorld;
+
+/**
+ * The class implementation of {@link ReplayRecorder}, which keeps the recorded ticks in growing primitive arrays.
+ */
+public final class ReplayRecorderImpl implements ReplayRecorder {
+    private static final int INITIAL_CAPACITY = 1 << 12;
+
+    private final String levelId;
+    private final byte[] initialState;
+    private final UpdatableWorld world;
+    private byte[] inputMasks;
+    private long[] stateHashes;
+    private int ticks;
+
+    /**
+     * Builds a new {@link ReplayRecorderImpl} which makes the given {@link UpdatableWorld} deterministic and saves its current
+     * state as the starting state of the session.
+     * @param levelId the identity of the level from which the world was built
+     * @param startingWorld the {@link UpdatableWorld} from which the session starts, which won't be used by this recorder
+     * any further
+     */
+    public ReplayRecorderImpl(final String levelId, final UpdatableWorld startingWorld) {
+        this.levelId = Objects.requireNonNull(levelId);
+        startingWorld.setDeterministic(true);
+        this.initialState = ReplayFiles.serializeWorld(startingWorld);
+        this.world = ReplayFiles.deserializeWorld(this.initialState);
+        this.inputMasks = new byte[INITIAL_CAPACITY];
+        this.stateHashes = new long[INITIAL_CAPACITY];
+        this.ticks = 0;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public UpdatableWorld getWorld() {
+        return this.world;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void recordTick(final Collection<InputType> inputs) {
+        if (this.ticks == this.inputMasks.length) {
+            this.inputMasks = Arrays.copyOf(this.inputMasks, this.ticks * 2);
+            this.stateHashes = Arrays.copyOf(this.stateHashes, this.ticks * 2);
+        }
+        this.inputMasks[this.ticks] = InputUtils.toMask(inputs);
+        this.stateHashes[this.ticks] = this.world.getStateChecksum();
+        this.ticks++;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getTickCount() {
+        return this.ticks;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Replay getReplay() {
+        return new ReplayImpl(this.levelId, this.initialState, Arrays.copyOf(this.inputMasks, this.ticks),
+                              Arrays.copyOf(this.stateHashes, this.ticks));
+    }
+}
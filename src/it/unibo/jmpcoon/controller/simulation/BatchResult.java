@@ -0,0 +1,52 @@
+package it.unibo.jmpcoon.controller.simulation;
+
+import java.util.List;
+
+/**
+ * The results of a batch of simulated games, along with statistics about all of them.
+ */
+public interface BatchResult {
+    /**
+     * Returns the results of every simulated game, ordered by their index in the batch.
+     * @return an unmodifiable {@link List} of the {@link SimulationResult}s of the batch
+     */
+    List<SimulationResult> getResults();
+
+    /**
+     * Returns the number of games simulated which ended with the given {@link SimulationOutcome}.
+     * @param outcome the {@link SimulationOutcome} to count
+     * @return the number of games with the given {@link SimulationOutcome}
+     */
+    int getOutcomeCount(SimulationOutcome outcome);
+
+    /**
+     * Returns the average final score of the games which didn't fail.
+     * @return the average final score, zero if all the games failed
+     */
+    double getAverageScore();
+
+    /**
+     * Returns the number of ticks simulated in all the games.
+     * @return the total number of ticks simulated
+     */
+    long getTotalTicks();
+
+    /**
+     * Returns the time elapsed from the start to the end of the batch.
+     * @return the time elapsed in nanoseconds
+     */
+    long getElapsedNanos();
+
+    /**
+     * Returns how many ticks were simulated per second, considering all the games together.
+     * @return the throughput of the batch in ticks per second
+     */
+    double getTicksPerSecond();
+
+    /**
+     * Returns the ratio between the time spent simulating every single game and the time elapsed for the whole batch,
+     * which is how many games were simulated at the same time on average.
+     * @return the speedup of the batch with respect to simulating its games one after another
+     */
+    double getSpeedup();
+}
@@ -0,0 +1,85 @@
+package it.unibo.jmpcoon.controller.simulation;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * The class implementation of {@link BatchResult}. It's package protected because only the {@link BatchSimulator} should
+ * create its results.
+ */
+final class BatchResultImpl implements BatchResult {
+    private static final double NANOS_PER_SECOND = 1e9;
+
+    private final List<SimulationResult> results;
+    private final long elapsedNanos;
+
+    /*
+     * Builds a new result from the results of the single games, ordered by their index, and the time the batch took.
+     */
+    BatchResultImpl(final List<SimulationResult> results, final long elapsedNanos) {
+        this.results = Collections.unmodifiableList(results);
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<SimulationResult> getResults() {
+        return this.results;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getOutcomeCount(final SimulationOutcome outcome) {
+        return (int) this.results.stream().filter(r -> r.getOutcome() == outcome).count();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public double getAverageScore() {
+        return this.results.stream()
+                           .filter(r -> r.getOutcome() != SimulationOutcome.FAILED)
+                           .mapToInt(SimulationResult::getScore)
+                           .average()
+                           .orElse(0);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long getTotalTicks() {
+        return this.results.stream().mapToLong(SimulationResult::getTicks).sum();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long getElapsedNanos() {
+        return this.elapsedNanos;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public double getTicksPerSecond() {
+        return this.elapsedNanos == 0 ? 0 : this.getTotalTicks() * NANOS_PER_SECOND / this.elapsedNanos;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public double getSpeedup() {
+        return this.elapsedNanos == 0 
+               ? 0 
+               : (double) this.results.stream().mapToLong(SimulationResult::getElapsedNanos).sum() / this.elapsedNanos;
+    }
+}
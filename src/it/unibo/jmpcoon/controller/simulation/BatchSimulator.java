@@ -0,0 +1,25 @@
+package it.unibo.jmpcoon.controller.simulation;
+
+import java.util.List;
+
+/**
+ * A simulator which plays many independent games at the same time, without any view, each one with its own
+ * {@link InputScript}.
+ */
+public interface BatchSimulator {
+    /**
+     * Simulates a game for each of the given {@link InputScript}s, until the game ends or the given number of ticks is
+     * reached. Every game is played in its own {@link it.unibo.jmpcoon.model.world.UpdatableWorld}, so an error in one of
+     * them doesn't affect the others.
+     * @param scripts the {@link InputScript}s of the games, one per game
+     * @param maxTicks the maximum number of ticks to simulate for each game
+     * @return the {@link BatchResult} of the simulated games, which are in the same order as their {@link InputScript}s
+     * @throws IllegalArgumentException if the maximum number of ticks is negative
+     */
+    BatchResult run(List<? extends InputScript> scripts, int maxTicks) throws IllegalArgumentException;
+
+    /**
+     * Releases the threads used by this simulator, which can't be used anymore.
+     */
+    void shutdown();
+}
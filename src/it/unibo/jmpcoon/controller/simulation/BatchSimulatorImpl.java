@@ -0,0 +1,133 @@
+package it.unibo.jmpcoon.controller.simulation;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+import com.google.common.base.Optional;
+import com.google.common.collect.ImmutableList;
+
+import it.unibo.jmpcoon.controller.game.InputUtils;
+import it.unibo.jmpcoon.model.entities.EntityProperties;
+import it.unibo.jmpcoon.model.world.UpdatableWorld;
+import it.unibo.jmpcoon.model.world.WorldFactoryImpl;
+
+/**
+ * The class implementation of {@link BatchSimulator}, which simulates its games on a {@link ForkJoinPool}. The batch is split
+ * in halves until every task is a single game, so idle threads steal the games still to be simulated from the busy ones.
+ * Every game is built in its own deterministic {@link UpdatableWorld} from the same level.
+ */
+public final class BatchSimulatorImpl implements BatchSimulator {
+    private static final String NEGATIVE_TICKS_MSG = "The maximum number of ticks can't be negative";
+
+    private final List<EntityProperties> level;
+    private final ForkJoinPool pool;
+
+    /**
+     * Builds a new {@link BatchSimulatorImpl} using as many threads as the available processors.
+     * @param level the properties of the entities of the level from which every game starts
+     */
+    public BatchSimulatorImpl(final Collection<EntityProperties> level) {
+        this(level, Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Builds a new {@link BatchSimulatorImpl} using the given number of threads.
+     * @param level the properties of the entities of the level from which every game starts
+     * @param parallelism the number of threads simulating games at the same time
+     * @throws IllegalArgumentException if the number of threads isn't positive
+     */
+    public BatchSimulatorImpl(final Collection<EntityProperties> level, final int parallelism) throws IllegalArgumentException {
+        this.level = ImmutableList.copyOf(Objects.requireNonNull(level));
+        this.pool = new ForkJoinPool(parallelism);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public BatchResult run(final List<? extends InputScript> scripts, final int maxTicks) throws IllegalArgumentException {
+        if (maxTicks < 0) {
+            throw new IllegalArgumentException(NEGATIVE_TICKS_MSG);
+        }
+        final long start = System.nanoTime();
+        final List<SimulationResult> results = scripts.isEmpty()
+                                               ? Collections.emptyList()
+                                               : this.pool.invoke(new BatchTask(ImmutableList.copyOf(scripts), 0,
+                                                                                scripts.size(), maxTicks));
+        return new BatchResultImpl(results, System.nanoTime() - start);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void shutdown() {
+        this.pool.shutdown();
+    }
+
+    /*
+     * Plays a single game until it ends or the maximum number of ticks is reached.
+     */
+    private SimulationResult simulate(final int index, final InputScript script, final int maxTicks) {
+        final long start = System.nanoTime();
+        int tick = 0;
+        try {
+            final UpdatableWorld world = new WorldFactoryImpl().create();
+            world.setDeterministic(true);
+            world.initLevel(this.level);
+            while (tick < maxTicks && !world.isGameOver() && !world.hasPlayerWon()) {
+                InputUtils.applyInputs(world, script.getInputs(tick, world));
+                world.update();
+                tick++;
+            }
+            final SimulationOutcome outcome = world.hasPlayerWon()
+                                              ? SimulationOutcome.PLAYER_WON
+                                              : world.isGameOver() ? SimulationOutcome.GAME_OVER : SimulationOutcome.TIME_LIMIT;
+            return new SimulationResultImpl(index, outcome, tick, world.getCurrentScore(), world.getPlayerLives(),
+                                            world.getStateChecksum(), System.nanoTime() - start, Optional.absent());
+        } catch (final RuntimeException e) {
+            return new SimulationResultImpl(index, SimulationOutcome.FAILED, tick, 0, 0, 0, System.nanoTime() - start,
+                                            Optional.of(e));
+        }
+    }
+
+    /*
+     * A task simulating the games in a range of the batch, splitting it in two halves if it has more than one game.
+     */
+    private final class BatchTask extends RecursiveTask<List<SimulationResult>> {
+        private static final long serialVersionUID = -2427004383525961338L;
+
+        private final List<? extends InputScript> scripts;
+        private final int from;
+        private final int to;
+        private final int maxTicks;
+
+        BatchTask(final List<? extends InputScript> scripts, final int from, final int to, final int maxTicks) {
+            super();
+            this.scripts = scripts;
+            this.from = from;
+            this.to = to;
+            this.maxTicks = maxTicks;
+        }
+
+        @Override
+        protected List<SimulationResult> compute() {
+            if (this.to - this.from == 1) {
+                final List<SimulationResult> result = new ArrayList<>(1);
+                result.add(BatchSimulatorImpl.this.simulate(this.from, this.scripts.get(this.from), this.maxTicks));
+                return result;
+            }
+            final int middle = (this.from + this.to) >>> 1;
+            final BatchTask second = new BatchTask(this.scripts, middle, this.to, this.maxTicks);
+            second.fork();
+            final List<SimulationResult> results = new BatchTask(this.scripts, this.from, middle, this.maxTicks).compute();
+            results.addAll(second.join());
+            return results;
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package it.unibo.jmpcoon.controller.simulation;
+
+import java.util.Set;
+
+import it.unibo.jmpcoon.controller.game.InputType;
+import it.unibo.jmpcoon.model.world.UpdatableWorld;
+
+/**
+ * The source of the inputs of a simulated game, which can be either a fixed script or a bot deciding its inputs by looking at
+ * the current state of the game. An {@link InputScript} is used by only one simulated game, so it can keep its own state.
+ */
+@FunctionalInterface
+public interface InputScript {
+    /**
+     * Returns the {@link InputType}s to apply in the given tick of the game.
+     * @param tick the index of the tick, starting from zero
+     * @param world the {@link UpdatableWorld} of the simulated game, in the state before the tick
+     * @return the {@link InputType}s to apply in the tick
+     */
+    Set<InputType> getInputs(int tick, UpdatableWorld world);
+}
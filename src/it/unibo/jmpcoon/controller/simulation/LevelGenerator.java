@@ -0,0 +1,26 @@
+package it.unibo.jmpcoon.controller.simulation;
+
+import java.util.List;
+
+import org.apache.commons.lang3.tuple.Pair;
+
+import it.unibo.jmpcoon.model.entities.EntityProperties;
+
+/**
+ * A generator of levels made of floors of platforms, connected by ladders and populated by enemies, enemy generators and
+ * power-ups, in a world as big as needed to contain them. The same generator always produces the same level, so that it can
+ * be used for measuring how the game behaves when the number of entities grows.
+ */
+public interface LevelGenerator {
+    /**
+     * Returns the dimensions of the world which can contain the level generated, to be used for creating it.
+     * @return a {@link Pair} containing the width and the height of the world
+     */
+    Pair<Double, Double> getWorldDimensions();
+
+    /**
+     * Generates the level, which always contains a player on the lowest floor and the goal on the highest one.
+     * @return the {@link EntityProperties} of the entities of the level
+     */
+    List<EntityProperties> generate();
+}
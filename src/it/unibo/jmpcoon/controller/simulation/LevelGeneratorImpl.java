@@ -0,0 +1,282 @@
+package it.unibo.jmpcoon.controller.simulation;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.apache.commons.lang3.tuple.ImmutablePair;
+import org.apache.commons.lang3.tuple.Pair;
+
+import com.google.common.base.Optional;
+
+import it.unibo.jmpcoon.model.entities.EntityProperties;
+import it.unibo.jmpcoon.model.entities.EntityPropertiesImpl;
+import it.unibo.jmpcoon.model.entities.EntityType;
+import it.unibo.jmpcoon.model.entities.PowerUpType;
+import it.unibo.jmpcoon.model.physics.BodyShape;
+
+/**
+ * The class implementation of {@link LevelGenerator}. The level is a grid of platforms, one row for each floor, and every
+ * other entity is put in a random position of a random platform chosen by a {@link Random} with a fixed seed, so the same
+ * seed and the same densities always produce the same level. The platform on which the player starts never has enemies.
+ * It can only be built through its {@link Builder}.
+ */
+public final class LevelGeneratorImpl implements LevelGenerator {
+    private static final double PLATFORM_WIDTH = 2;
+    private static final double PLATFORM_HEIGHT = 0.29;
+    private static final double PLATFORM_GAP = 0.6;
+    private static final double FLOOR_HEIGHT = 1.2;
+    private static final double FIRST_FLOOR_HEIGHT = 0.5;
+    private static final double CEILING_MARGIN = 1;
+    private static final double LADDER_WIDTH = 0.3;
+    private static final double PLAYER_DIMENSION = 0.3;
+    private static final double WALKING_ENEMY_DIMENSION = 0.25;
+    private static final double WALKING_RANGE = 0.9;
+    private static final double ENEMY_GENERATOR_DIMENSION = 0.5;
+    private static final double ENEMY_GENERATOR_HEIGHT = 0.6;
+    private static final double POWER_UP_DIMENSION = 0.4;
+    private static final double BORDER_MARGIN = 0.2;
+    private static final double ANGLE = 0;
+    private static final String NOT_POSITIVE_MSG = "The number of floors and of platforms per floor must be positive";
+    private static final String NEGATIVE_MSG = "The number of entities per floor or per platform can't be negative";
+
+    private final long seed;
+    private final int floors;
+    private final int platformsPerFloor;
+    private final int enemiesPerPlatform;
+    private final int laddersPerFloor;
+    private final int generatorsPerFloor;
+    private final int powerUpsPerFloor;
+
+    private LevelGeneratorImpl(final Builder builder) {
+        this.seed = builder.seed;
+        this.floors = builder.floors;
+        this.platformsPerFloor = builder.platformsPerFloor;
+        this.enemiesPerPlatform = builder.enemiesPerPlatform;
+        this.laddersPerFloor = builder.laddersPerFloor;
+        this.generatorsPerFloor = builder.generatorsPerFloor;
+        this.powerUpsPerFloor = builder.powerUpsPerFloor;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Pair<Double, Double> getWorldDimensions() {
+        return new ImmutablePair<>(this.platformsPerFloor * (PLATFORM_WIDTH + PLATFORM_GAP) + PLATFORM_GAP,
+                                   FIRST_FLOOR_HEIGHT + (this.floors - 1) * FLOOR_HEIGHT + CEILING_MARGIN);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<EntityProperties> generate() {
+        final Random random = new Random(this.seed);
+        final List<EntityProperties> level = new ArrayList<>();
+        for (int floor = 0; floor < this.floors; floor++) {
+            for (int platform = 0; platform < this.platformsPerFloor; platform++) {
+                level.add(this.createRectangle(EntityType.PLATFORM, this.getPlatformX(platform), this.getPlatformY(floor),
+                                               PLATFORM_WIDTH, PLATFORM_HEIGHT, Optional.absent(), Optional.absent()));
+                if (floor != 0 || platform != 0) {
+                    for (int enemy = 0; enemy < this.enemiesPerPlatform; enemy++) {
+                        final double left = this.getPlatformX(platform) - PLATFORM_WIDTH / 2 + BORDER_MARGIN;
+                        level.add(this.createRectangle(EntityType.WALKING_ENEMY,
+                                                       left + random.nextDouble() * (PLATFORM_WIDTH - WALKING_RANGE
+                                                                                     - 2 * BORDER_MARGIN),
+                                                       this.getAbovePlatformY(floor, WALKING_ENEMY_DIMENSION),
+                                                       WALKING_ENEMY_DIMENSION, WALKING_ENEMY_DIMENSION, Optional.absent(),
+                                                       Optional.of(WALKING_RANGE)));
+                    }
+                }
+            }
+            /* the ladders of a floor lead to the next one, so the highest floor has none */
+            if (floor < this.floors - 1) {
+                for (int ladder = 0; ladder < this.laddersPerFloor; ladder++) {
+                    level.add(this.createRectangle(EntityType.LADDER, this.getRandomX(random, LADDER_WIDTH),
+                                                   this.getPlatformY(floor) + PLATFORM_HEIGHT / 2 + FLOOR_HEIGHT / 2,
+                                                   LADDER_WIDTH, FLOOR_HEIGHT, Optional.absent(), Optional.absent()));
+                }
+            }
+            for (int generator = 0; generator < this.generatorsPerFloor; generator++) {
+                level.add(new EntityPropertiesImpl(EntityType.ENEMY_GENERATOR, BodyShape.CIRCLE,
+                                                   this.getRandomX(random, ENEMY_GENERATOR_DIMENSION),
+                                                   this.getPlatformY(floor) + ENEMY_GENERATOR_HEIGHT,
+                                                   ENEMY_GENERATOR_DIMENSION, ENEMY_GENERATOR_DIMENSION, ANGLE,
+                                                   Optional.absent(), Optional.absent()));
+            }
+            for (int powerUp = 0; powerUp < this.powerUpsPerFloor; powerUp++) {
+                level.add(this.createRectangle(EntityType.POWERUP, this.getRandomX(random, POWER_UP_DIMENSION),
+                                               this.getAbovePlatformY(floor, POWER_UP_DIMENSION), POWER_UP_DIMENSION,
+                                               POWER_UP_DIMENSION, Optional.of(random.nextBoolean()
+                                                                               ? PowerUpType.EXTRA_LIFE
+                                                                               : PowerUpType.INVINCIBILITY),
+                                               Optional.absent()));
+            }
+        }
+        level.add(this.createRectangle(EntityType.PLAYER, this.getPlatformX(0), this.getAbovePlatformY(0, PLAYER_DIMENSION),
+                                       PLAYER_DIMENSION, PLAYER_DIMENSION, Optional.absent(), Optional.absent()));
+        level.add(this.createRectangle(EntityType.POWERUP, this.getPlatformX(this.platformsPerFloor - 1),
+                                       this.getAbovePlatformY(this.floors - 1, POWER_UP_DIMENSION), POWER_UP_DIMENSION,
+                                       POWER_UP_DIMENSION, Optional.of(PowerUpType.GOAL), Optional.absent()));
+        return level;
+    }
+
+    /*
+     * Returns the properties of an entity with a rectangular shape.
+     */
+    private EntityProperties createRectangle(final EntityType type, final double x, final double y, final double width,
+                                             final double height, final Optional<PowerUpType> powerUpType,
+                                             final Optional<Double> walkingRange) {
+        return new EntityPropertiesImpl(type, BodyShape.RECTANGLE, x, y, width, height, ANGLE, powerUpType, walkingRange);
+    }
+
+    /*
+     * Returns the horizontal coordinate of the center of the platform with the given index in its floor.
+     */
+    private double getPlatformX(final int platform) {
+        return PLATFORM_GAP + PLATFORM_WIDTH / 2 + platform * (PLATFORM_WIDTH + PLATFORM_GAP);
+    }
+
+    /*
+     * Returns the vertical coordinate of the center of the platforms of the given floor.
+     */
+    private double getPlatformY(final int floor) {
+        return FIRST_FLOOR_HEIGHT + floor * FLOOR_HEIGHT;
+    }
+
+    /*
+     * Returns the vertical coordinate of the center of an entity with the given height standing on the given floor.
+     */
+    private double getAbovePlatformY(final int floor, final double height) {
+        return this.getPlatformY(floor) + PLATFORM_HEIGHT / 2 + height / 2;
+    }
+
+    /*
+     * Returns the horizontal coordinate of an entity with the given width in a random position over a random platform.
+     */
+    private double getRandomX(final Random random, final double width) {
+        final double left = this.getPlatformX(random.nextInt(this.platformsPerFloor)) - PLATFORM_WIDTH / 2 + BORDER_MARGIN;
+        return left + width / 2 + random.nextDouble() * (PLATFORM_WIDTH - width - 2 * BORDER_MARGIN);
+    }
+
+    /**
+     * A builder for {@link LevelGeneratorImpl}. If not set, the level has a single floor with a single platform and no other
+     * entity than the player and the goal.
+     */
+    public static final class Builder {
+        private long seed;
+        private int floors;
+        private int platformsPerFloor;
+        private int enemiesPerPlatform;
+        private int laddersPerFloor;
+        private int generatorsPerFloor;
+        private int powerUpsPerFloor;
+
+        /**
+         * Builds a new {@link Builder} for the smallest level possible.
+         */
+        public Builder() {
+            this.floors = 1;
+            this.platformsPerFloor = 1;
+        }
+
+        /**
+         * Sets the seed of the random positions of the entities.
+         * @param seed the seed to use
+         * @return this {@link Builder}
+         */
+        public Builder setSeed(final long seed) {
+            this.seed = seed;
+            return this;
+        }
+
+        /**
+         * Sets the number of floors of the level.
+         * @param floors the number of floors
+         * @return this {@link Builder}
+         * @throws IllegalArgumentException if the number isn't positive
+         */
+        public Builder setFloors(final int floors) throws IllegalArgumentException {
+            this.floors = checkPositive(floors);
+            return this;
+        }
+
+        /**
+         * Sets the number of platforms in each floor, which determines the width of the level.
+         * @param platforms the number of platforms per floor
+         * @return this {@link Builder}
+         * @throws IllegalArgumentException if the number isn't positive
+         */
+        public Builder setPlatformsPerFloor(final int platforms) throws IllegalArgumentException {
+            this.platformsPerFloor = checkPositive(platforms);
+            return this;
+        }
+
+        /**
+         * Sets the number of walking enemies over each platform.
+         * @param enemies the number of walking enemies per platform
+         * @return this {@link Builder}
+         * @throws IllegalArgumentException if the number is negative
+         */
+        public Builder setEnemiesPerPlatform(final int enemies) throws IllegalArgumentException {
+            this.enemiesPerPlatform = checkNotNegative(enemies);
+            return this;
+        }
+
+        /**
+         * Sets the number of ladders leading from each floor to the next one.
+         * @param ladders the number of ladders per floor
+         * @return this {@link Builder}
+         * @throws IllegalArgumentException if the number is negative
+         */
+        public Builder setLaddersPerFloor(final int ladders) throws IllegalArgumentException {
+            this.laddersPerFloor = checkNotNegative(ladders);
+            return this;
+        }
+
+        /**
+         * Sets the number of enemy generators in each floor, which determines how many rolling enemies are spawned.
+         * @param generators the number of enemy generators per floor
+         * @return this {@link Builder}
+         * @throws IllegalArgumentException if the number is negative
+         */
+        public Builder setGeneratorsPerFloor(final int generators) throws IllegalArgumentException {
+            this.generatorsPerFloor = checkNotNegative(generators);
+            return this;
+        }
+
+        /**
+         * Sets the number of power-ups, other than the goal, in each floor.
+         * @param powerUps the number of power-ups per floor
+         * @return this {@link Builder}
+         * @throws IllegalArgumentException if the number is negative
+         */
+        public Builder setPowerUpsPerFloor(final int powerUps) throws IllegalArgumentException {
+            this.powerUpsPerFloor = checkNotNegative(powerUps);
+            return this;
+        }
+
+        /**
+         * Builds the {@link LevelGenerator} with the values set.
+         * @return the {@link LevelGenerator} built
+         */
+        public LevelGenerator build() {
+            return new LevelGeneratorImpl(this);
+        }
+
+        private static int checkPositive(final int value) {
+            if (value <= 0) {
+                throw new IllegalArgumentException(NOT_POSITIVE_MSG);
+            }
+            return value;
+        }
+
+        private static int checkNotNegative(final int value) {
+            if (value < 0) {
+                throw new IllegalArgumentException(NEGATIVE_MSG);
+            }
+            return value;
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package it.unibo.jmpcoon.controller.simulation;
+
+/**
+ * An enumeration representing the possible ways in which a simulated game can end.
+ */
+public enum SimulationOutcome {
+    /**
+     * The player reached the goal.
+     */
+    PLAYER_WON,
+    /**
+     * The player died.
+     */
+    GAME_OVER,
+    /**
+     * The game was still going when the maximum number of ticks was reached.
+     */
+    TIME_LIMIT,
+    /**
+     * The simulation was interrupted by an error.
+     */
+    FAILED;
+}
@@ -0,0 +1,58 @@
+package it.unibo.jmpcoon.controller.simulation;
+
+import com.google.common.base.Optional;
+
+/**
+ * The result of a single simulated game.
+ */
+public interface SimulationResult {
+    /**
+     * Returns the index of the simulated game in its batch.
+     * @return the index of the simulated game
+     */
+    int getIndex();
+
+    /**
+     * Returns how the simulated game ended.
+     * @return the {@link SimulationOutcome} of the simulated game
+     */
+    SimulationOutcome getOutcome();
+
+    /**
+     * Returns the number of ticks simulated.
+     * @return the number of ticks simulated
+     */
+    int getTicks();
+
+    /**
+     * Returns the score at the end of the simulated game.
+     * @return the final score
+     */
+    int getScore();
+
+    /**
+     * Returns the lives of the player at the end of the simulated game.
+     * @return the final number of lives of the player
+     */
+    int getPlayerLives();
+
+    /**
+     * Returns the checksum of the state of the simulated game when it ended, as computed by
+     * {@link it.unibo.jmpcoon.model.world.UpdatableWorld#getStateChecksum()}.
+     * @return the checksum of the final state
+     */
+    long getFinalChecksum();
+
+    /**
+     * Returns the time spent simulating the game.
+     * @return the time spent simulating the game in nanoseconds
+     */
+    long getElapsedNanos();
+
+    /**
+     * Returns the error which interrupted the simulated game, if any.
+     * @return an {@link Optional} containing the error if the outcome is {@link SimulationOutcome#FAILED},
+     * {@link Optional#absent()} otherwise
+     */
+    Optional<Throwable> getError();
+}
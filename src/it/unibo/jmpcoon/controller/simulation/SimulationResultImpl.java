@@ -0,0 +1,98 @@
+package it.unibo.jmpcoon.controller.simulation;
+
+import com.google.common.base.Optional;
+
+/**
+ * The class implementation of {@link SimulationResult}. It's package protected because only the {@link BatchSimulator}
+ * should create its results.
+ */
+final class SimulationResultImpl implements SimulationResult {
+    private final int index;
+    private final SimulationOutcome outcome;
+    private final int ticks;
+    private final int score;
+    private final int playerLives;
+    private final long finalChecksum;
+    private final long elapsedNanos;
+    private final Optional<Throwable> error;
+
+    /*
+     * Builds a new result from all its values.
+     */
+    SimulationResultImpl(final int index, final SimulationOutcome outcome, final int ticks, final int score,
+                         final int playerLives, final long finalChecksum, final long elapsedNanos,
+                         final Optional<Throwable> error) {
+        this.index = index;
+        this.outcome = outcome;
+        this.ticks = ticks;
+        this.score = score;
+        this.playerLives = playerLives;
+        this.finalChecksum = finalChecksum;
+        this.elapsedNanos = elapsedNanos;
+        this.error = error;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getIndex() {
+        return this.index;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public SimulationOutcome getOutcome() {
+        return this.outcome;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getTicks() {
+        return this.ticks;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getScore() {
+        return this.score;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getPlayerLives() {
+        return this.playerLives;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long getFinalChecksum() {
+        return this.finalChecksum;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long getElapsedNanos() {
+        return this.elapsedNanos;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Optional<Throwable> getError() {
+        return this.error;
+    }
+}
@@ -0,0 +1,251 @@
+package it.unibo.jmpcoon.main;
+
+import java.util.ArrayList;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Queue;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import javafx.animation.AnimationTimer;
+import javafx.application.Application;
+import javafx.application.Platform;
+import javafx.scene.Scene;
+import javafx.scene.layout.Pane;
+import javafx.stage.Stage;
+
+import org.apache.commons.lang3.tuple.ImmutablePair;
+import org.apache.commons.lang3.tuple.Pair;
+
+import com.google.common.base.Optional;
+
+import it.unibo.jmpcoon.model.entities.EntityState;
+import it.unibo.jmpcoon.model.entities.EntityType;
+import it.unibo.jmpcoon.model.entities.PowerUpType;
+import it.unibo.jmpcoon.model.entities.UnmodifiableEntity;
+import it.unibo.jmpcoon.model.physics.BodyShape;
+import it.unibo.jmpcoon.view.game.CanvasEntityRenderer;
+import it.unibo.jmpcoon.view.game.DrawableEntity;
+import it.unibo.jmpcoon.view.game.EntityRenderer;
+import it.unibo.jmpcoon.view.game.MemoizedEntityConverter;
+import it.unibo.jmpcoon.view.game.MemoizedEntityConverterImpl;
+import it.unibo.jmpcoon.view.game.NodeEntityRenderer;
+import it.unibo.jmpcoon.view.game.SpriteCache;
+import it.unibo.jmpcoon.view.game.SpriteCacheImpl;
+import it.unibo.jmpcoon.view.game.WorldProjection;
+
+/**
+ * A benchmark which compares the {@link EntityRenderer}s of the game drawing an increasing number of moving enemies. For each
+ * renderer and number of enemies it prints the average time spent updating and rendering the enemies in a frame and the
+ * average time elapsed between two frames, which includes the time JavaFX takes for drawing the scene.
+ */
+public final class RendererBenchmark extends Application {
+    private static final int[] ENTITY_COUNTS = {50, 100, 200, 400, 800, 1600};
+    private static final int WARMUP_FRAMES = 60;
+    private static final int MEASURED_FRAMES = 300;
+    private static final double SCENE_WIDTH = 1280;
+    private static final double SCENE_HEIGHT = 720;
+    private static final double WORLD_WIDTH = 8;
+    private static final double WORLD_HEIGHT = 4.5;
+    private static final double WALKING_ENEMY_DIMENSION = 0.25;
+    private static final double ROLLING_ENEMY_DIMENSION = 0.2;
+    private static final double PATH_RADIUS = 0.5;
+    private static final double TIME_STEP = 1.0 / 60;
+    private static final long SEED = 42;
+    private static final String RESULT_FORMAT = "%-6s %5d entities: render %8.3f ms, frame %8.3f ms%n";
+
+    /**
+     * Main method which starts the benchmark.
+     * @param args unused
+     */
+    public static void main(final String... args) {
+        launch();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void start(final Stage stage) {
+        final Pane root = new Pane();
+        stage.setScene(new Scene(root, SCENE_WIDTH, SCENE_HEIGHT));
+        stage.show();
+        final Queue<Run> runs = new LinkedList<>();
+        for (final int count : ENTITY_COUNTS) {
+            runs.add(new Run("nodes", count, NodeEntityRenderer::new));
+            runs.add(new Run("canvas", count, CanvasEntityRenderer::new));
+        }
+        new AnimationTimer() {
+            private Optional<Run> current = Optional.absent();
+
+            @Override
+            public void handle(final long now) {
+                if (!this.current.isPresent() || this.current.get().isEnded()) {
+                    if (this.current.isPresent()) {
+                        this.current.get().printResult();
+                    }
+                    if (runs.isEmpty()) {
+                        this.stop();
+                        Platform.exit();
+                        return;
+                    }
+                    this.current = Optional.of(runs.poll());
+                    root.getChildren().setAll(this.current.get().getRenderer().getNode());
+                }
+                this.current.get().frame(now);
+            }
+        }.start();
+    }
+
+    /*
+     * A run of the benchmark with a renderer and a number of enemies.
+     */
+    private static final class Run {
+        private final String name;
+        private final EntityRenderer renderer;
+        private final MemoizedEntityConverter converter;
+        private final List<BenchmarkEntity> entities;
+        private int frames;
+        private long lastFrame;
+        private long renderNanos;
+        private long frameNanos;
+        private double time;
+
+        Run(final String name, final int count, final Function<WorldProjection, EntityRenderer> renderer) {
+            this.name = name;
+            final WorldProjection projection = new WorldProjection(new ImmutablePair<>(WORLD_WIDTH, WORLD_HEIGHT), SCENE_WIDTH,
+                                                                   SCENE_HEIGHT);
+            this.renderer = renderer.apply(projection);
+            final SpriteCache sprites = new SpriteCacheImpl();
+            sprites.setScreenScale(projection.getScaleX(), projection.getScaleY());
+            this.converter = new MemoizedEntityConverterImpl(sprites);
+            this.entities = new ArrayList<>(count);
+            final Random random = new Random(SEED);
+            for (int i = 0; i < count; i++) {
+                this.entities.add(new BenchmarkEntity(i, i % 2 == 0 ? EntityType.WALKING_ENEMY : EntityType.ROLLING_ENEMY,
+                                                      PATH_RADIUS + random.nextDouble() * (WORLD_WIDTH - 2 * PATH_RADIUS),
+                                                      PATH_RADIUS + random.nextDouble() * (WORLD_HEIGHT - 2 * PATH_RADIUS),
+                                                      random.nextDouble() * 2 * Math.PI));
+            }
+        }
+
+        EntityRenderer getRenderer() {
+            return this.renderer;
+        }
+
+        boolean isEnded() {
+            return this.frames >= WARMUP_FRAMES + MEASURED_FRAMES;
+        }
+
+        void frame(final long now) {
+            final boolean measured = this.frames >= WARMUP_FRAMES;
+            if (measured) {
+                this.frameNanos += now - this.lastFrame;
+            }
+            this.lastFrame = now;
+            this.time += TIME_STEP;
+            final long start = System.nanoTime();
+            final List<DrawableEntity> drawables = new ArrayList<>(this.entities.size());
+            for (final BenchmarkEntity entity : this.entities) {
+                entity.move(this.time);
+                drawables.add(this.converter.getDrawableEntity(entity));
+            }
+            this.renderer.render(drawables);
+            if (measured) {
+                this.renderNanos += System.nanoTime() - start;
+            }
+            this.frames++;
+        }
+
+        void printResult() {
+            final double millis = TimeUnit.MILLISECONDS.toNanos(1);
+            System.out.printf(RESULT_FORMAT, this.name, this.entities.size(),
+                              this.renderNanos / millis / MEASURED_FRAMES, this.frameNanos / millis / MEASURED_FRAMES);
+        }
+    }
+
+    /*
+     * An enemy moving along a circle, which changes its state and its angle as an enemy of the game would do.
+     */
+    private static final class BenchmarkEntity implements UnmodifiableEntity {
+        private final int id;
+        private final EntityType type;
+        private final double centerX;
+        private final double centerY;
+        private final double phase;
+        private final Pair<Double, Double> dimensions;
+        private Pair<Double, Double> position;
+        private Pair<Double, Double> velocity;
+        private double angle;
+
+        BenchmarkEntity(final int id, final EntityType type, final double centerX, final double centerY, final double phase) {
+            this.id = id;
+            this.type = type;
+            this.centerX = centerX;
+            this.centerY = centerY;
+            this.phase = phase;
+            final double dimension = type == EntityType.WALKING_ENEMY ? WALKING_ENEMY_DIMENSION : ROLLING_ENEMY_DIMENSION;
+            this.dimensions = new ImmutablePair<>(dimension, dimension);
+            this.move(0);
+        }
+
+        void move(final double time) {
+            final double t = time + this.phase;
+            this.position = new ImmutablePair<>(this.centerX + PATH_RADIUS * Math.cos(t),
+                                                this.centerY + PATH_RADIUS * Math.sin(t));
+            this.velocity = new ImmutablePair<>(-PATH_RADIUS * Math.sin(t), PATH_RADIUS * Math.cos(t));
+            this.angle = this.type == EntityType.ROLLING_ENEMY ? -t : 0;
+        }
+
+        @Override
+        public Pair<Double, Double> getPosition() {
+            return this.position;
+        }
+
+        @Override
+        public BodyShape getShape() {
+            return this.type == EntityType.ROLLING_ENEMY ? BodyShape.CIRCLE : BodyShape.RECTANGLE;
+        }
+
+        @Override
+        public double getAngle() {
+            return this.angle;
+        }
+
+        @Override
+        public EntityType getType() {
+            return this.type;
+        }
+
+        @Override
+        public EntityState getState() {
+            return this.velocity.getLeft() >= 0 ? EntityState.MOVING_RIGHT : EntityState.MOVING_LEFT;
+        }
+
+        @Override
+        public Pair<Double, Double> getDimensions() {
+            return this.dimensions;
+        }
+
+        @Override
+        public boolean isDynamic() {
+            return true;
+        }
+
+        @Override
+        public Pair<Double, Double> getVelocity() {
+            return this.velocity;
+        }
+
+        @Override
+        public Optional<PowerUpType> getPowerUpType() {
+            return Optional.absent();
+        }
+
+        @Override
+        public int getId() {
+            return this.id;
+        }
+    }
+}
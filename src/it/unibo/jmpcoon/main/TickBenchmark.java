@@ -0,0 +1,116 @@
+package it.unibo.jmpcoon.main;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.lang3.tuple.Pair;
+
+import com.google.common.base.Optional;
+
+import it.unibo.jmpcoon.controller.simulation.LevelGenerator;
+import it.unibo.jmpcoon.controller.simulation.LevelGeneratorImpl;
+import it.unibo.jmpcoon.model.world.UpdatableWorld;
+import it.unibo.jmpcoon.model.world.WorldFactoryImpl;
+
+/**
+ * A benchmark which measures how the time spent by the model in a tick grows with the number of entities, without any view.
+ * For each size of the generated level and number of enemy generators per floor, which determines how many rolling enemies
+ * are spawned, it prints the median, the 99th percentile and the maximum duration of a tick, the bytes allocated in a tick,
+ * the heap used at the end and how many enemies were awake and sleeping. The levels grow in both floors and platforms up to
+ * thousands of bodies, and the worlds get a pool of workers as in the game, so the largest levels also measure the enemies
+ * computing their movement in parallel. The player is left standing still, so a run ends early if it's killed.
+ */
+public final class TickBenchmark {
+    /* the floors and the platforms per floor of each level, each one with about four times the bodies of the previous one */
+    private static final int[][] LEVEL_SIZES = {{1, 2}, {2, 4}, {4, 8}, {8, 16}, {16, 32}, {32, 64}};
+    private static final int[] GENERATORS_PER_FLOOR = {0, 1, 4};
+    private static final int ENEMIES_PER_PLATFORM = 2;
+    private static final int LADDERS_PER_FLOOR = 2;
+    private static final int POWER_UPS_PER_FLOOR = 1;
+    private static final int WARMUP_TICKS = 300;
+    private static final int MEASURED_TICKS = 1800;
+    private static final double PERCENTILE = 0.99;
+    private static final long SEED = 42;
+    private static final String HEADER_FORMAT = "%6s %9s %10s %8s %9s %9s %9s %12s %9s %7s %8s%n";
+    private static final String RESULT_FORMAT = "%6d %9d %10d %8d %9.3f %9.3f %9.3f %12.0f %9.1f %7d %8d%n";
+
+    private TickBenchmark() { }
+
+    /**
+     * Main method which starts the benchmark.
+     * @param args unused
+     */
+    public static void main(final String... args) {
+        /* one processor is left to the thread running the ticks, as the game loop does */
+        final int parallelism = Runtime.getRuntime().availableProcessors() - 1;
+        final Optional<ForkJoinPool> workers = parallelism > 1 ? Optional.of(new ForkJoinPool(parallelism)) : Optional.absent();
+        System.out.printf(HEADER_FORMAT, "floors", "platforms", "generators", "ticks", "p50 ms", "p99 ms", "max ms",
+                          "bytes/tick", "heap MB", "active", "sleeping");
+        for (final int[] size : LEVEL_SIZES) {
+            for (final int generators : GENERATORS_PER_FLOOR) {
+                run(new LevelGeneratorImpl.Builder().setSeed(SEED)
+                                                    .setFloors(size[0])
+                                                    .setPlatformsPerFloor(size[1])
+                                                    .setEnemiesPerPlatform(ENEMIES_PER_PLATFORM)
+                                                    .setLaddersPerFloor(LADDERS_PER_FLOOR)
+                                                    .setGeneratorsPerFloor(generators)
+                                                    .setPowerUpsPerFloor(POWER_UPS_PER_FLOOR)
+                                                    .build(),
+                    workers, size[0], size[1], generators);
+            }
+        }
+        if (workers.isPresent()) {
+            workers.get().shutdown();
+        }
+    }
+
+    /*
+     * Simulates a level generated, first for warming up and then measuring every tick, and prints the results.
+     */
+    private static void run(final LevelGenerator generator, final Optional<ForkJoinPool> workers, final int floors,
+                            final int platforms, final int generators) {
+        final Pair<Double, Double> dimensions = generator.getWorldDimensions();
+        final UpdatableWorld world = new WorldFactoryImpl().create(dimensions.getLeft(), dimensions.getRight());
+        world.setWorkers(workers);
+        world.initLevel(generator.generate());
+        for (int i = 0; i < WARMUP_TICKS && !world.isGameOver(); i++) {
+            world.update();
+        }
+        final long[] tickNanos = new long[MEASURED_TICKS];
+        final long startAllocated = getAllocatedBytes();
+        int ticks = 0;
+        while (ticks < MEASURED_TICKS && !world.isGameOver()) {
+            final long start = System.nanoTime();
+            world.update();
+            tickNanos[ticks] = System.nanoTime() - start;
+            ticks++;
+        }
+        final long allocated = getAllocatedBytes() - startAllocated;
+        final long[] measured = Arrays.copyOf(tickNanos, ticks);
+        Arrays.sort(measured);
+        final double millis = TimeUnit.MILLISECONDS.toNanos(1);
+        final double megabytes = 1 << 20;
+        System.out.printf(RESULT_FORMAT, floors, platforms, generators, ticks,
+                          ticks == 0 ? 0 : measured[ticks / 2] / millis,
+                          ticks == 0 ? 0 : measured[(int) Math.min(ticks - 1, Math.round(ticks * PERCENTILE))] / millis,
+                          ticks == 0 ? 0 : measured[ticks - 1] / millis,
+                          ticks == 0 || startAllocated < 0 ? Double.NaN : (double) allocated / ticks,
+                          ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed() / megabytes,
+                          world.getActiveEnemiesCount(), world.getSleepingEnemiesCount());
+    }
+
+    /*
+     * Returns the bytes allocated until now by the current thread, or a negative number if the virtual machine can't tell.
+     */
+    private static long getAllocatedBytes() {
+        final ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        if (threads instanceof com.sun.management.ThreadMXBean
+            && ((com.sun.management.ThreadMXBean) threads).isThreadAllocatedMemorySupported()) {
+            return ((com.sun.management.ThreadMXBean) threads).getThreadAllocatedBytes(Thread.currentThread().getId());
+        }
+        return -1;
+    }
+}
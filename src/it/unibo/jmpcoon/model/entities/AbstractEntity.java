@@ -4,8 +4,6 @@ import java.util.Objects;
 
 import org.apache.commons.lang3.tuple.Pair;
 
-import com.google.common.hash.Hashing;
-
 import it.unibo.jmpcoon.model.physics.BodyShape;
 import it.unibo.jmpcoon.model.physics.PhysicalBody;
 
@@ -95,6 +93,14 @@ public abstract class AbstractEntity implements Entity {
         return this.body;
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getId() {
+        return this.body.getId();
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -125,7 +131,7 @@ public abstract class AbstractEntity implements Entity {
      */
     @Override
     public int hashCode() {
-        return Hashing.murmur3_128().hashInt(this.body.hashCode()).asInt();
+        return this.body.getId();
     }
 
 }
@@ -9,16 +9,16 @@ import it.unibo.jmpcoon.model.world.ModifiableWorld;
 
 /**
  * An enemy generator inside the {@link it.unibo.jmpcoon.model.world.World} of the game.
- * It creates a new instance of the {@link RollingEnemy} on a regular interval of time.
+ * It creates a new instance of the {@link RollingEnemy} on a regular interval of time, given by
+ * {@link #getGenerationPeriod()}, when the world tells it to.
  */
 public class EnemyGenerator extends StaticEntity {
-    private static final long serialVersionUID = -3160192139428572083L;
+    private static final long serialVersionUID = 4156380463279564527L;
     private static final ImmutablePair<Double, Double> ROLLING_ENEMY_DIMENSIONS = new ImmutablePair<Double, Double>(0.23, 0.23);
     private static final int DELTA = 280;
 
     private final PhysicalFactory factory;
     private final ModifiableWorld world;
-    private int count;
 
     /**
      * Creates a new {@link EnemyGenerator} with the given {@link StaticPhysicalBody}. This constructor is package protected
@@ -31,7 +31,6 @@ public class EnemyGenerator extends StaticEntity {
     EnemyGenerator(final StaticPhysicalBody body, final PhysicalFactory factory, final ModifiableWorld world) {
         super(body);
         this.factory = factory;
-        this.count = -1;
         this.world = world;
     }
 
@@ -44,13 +43,18 @@ public class EnemyGenerator extends StaticEntity {
     }
 
     /**
-     * It notifies this {@link EnemyGenerator} that a lapse of time have passed. If this {@link EnemyGenerator} has created
-     * a new {@link RollingEnemy}, it adds it to the world.
+     * Returns the number of ticks of the world between two {@link RollingEnemy}s created by this {@link EnemyGenerator}.
+     * @return the period of the generation of the enemies, in ticks
      */
-    public void onTimeAdvanced() {
-        if (this.checkTime()) {
-            this.world.addGeneratedRollingEnemy(this.createCompleteRollingEnemy());
-        }
+    public int getGenerationPeriod() {
+        return DELTA;
+    }
+
+    /**
+     * Creates a new {@link RollingEnemy} and adds it to the world.
+     */
+    public void generateEnemy() {
+        this.world.addGeneratedRollingEnemy(this.createCompleteRollingEnemy());
     }
 
     private RollingEnemy createCompleteRollingEnemy() {
@@ -59,11 +63,6 @@ public class EnemyGenerator extends StaticEntity {
         return enemy;
     }
 
-    private boolean checkTime() {
-        this.count++;
-        return this.count % DELTA == 0;
-    }
-
     private RollingEnemy createRollingEnemy() {
         return EntityBuilderUtils.getRollingEnemyBuilder()
                                  .setFactory(this.factory)
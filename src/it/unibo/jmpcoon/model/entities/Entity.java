@@ -67,4 +67,11 @@ public interface Entity extends Serializable {
      * @return the internal {@link PhysicalBody} inside this {@link it.unibo.jmpcoon.model.entities.Entity}
      */
     PhysicalBody getPhysicalBody();
+
+    /**
+     * Returns the identifier of this {@link it.unibo.jmpcoon.model.entities.Entity}, which is the one of its {@link PhysicalBody}.
+     * @return the identifier of this {@link it.unibo.jmpcoon.model.entities.Entity}, unique among the alive entities inside its
+     * {@link it.unibo.jmpcoon.model.world.World}
+     */
+    int getId();
 }
@@ -42,6 +42,15 @@ public class Player extends DynamicEntity {
         this.body.applyMovement(moveValues.getMovementType(), moveValues.getImpulseX(), moveValues.getImpulseY());
     }
 
+    /**
+     * Returns whether this player can jump, which happens if it's on a platform or has just left it and it isn't already
+     * jumping or climbing.
+     * @return true if this {@link Player} can jump, false otherwise
+     */
+    public boolean canJump() {
+        return this.body.canJump();
+    }
+
     /**
      * Returns the number of lives of this player.
      * @return the number of lives of this {@link Player}
@@ -68,4 +68,12 @@ public interface UnmodifiableEntity {
      * otherwise
      */
     Optional<PowerUpType> getPowerUpType();
+
+    /**
+     * Returns the identifier of the wrapped {@link Entity}, which is unique among the alive entities inside its
+     * {@link it.unibo.jmpcoon.model.world.World} and small enough to be used as an index into arrays. The identifier of a dead
+     * {@link Entity} can be given to an {@link Entity} created later.
+     * @return the identifier of the wrapped {@link Entity}
+     */
+    int getId();
 }
@@ -5,7 +5,6 @@ import java.util.Objects;
 import org.apache.commons.lang3.tuple.Pair;
 
 import com.google.common.base.Optional;
-import com.google.common.hash.Hashing;
 
 import it.unibo.jmpcoon.model.physics.BodyShape;
 
@@ -126,12 +125,20 @@ public class UnmodifiableEntityImpl implements UnmodifiableEntity {
         return this.powerUpType;
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getId() {
+        return this.innerEntity.getId();
+    }
+
     /**
      * {@inheritDoc}
      */
     @Override
     public int hashCode() {
-        return Hashing.murmur3_128().newHasher().putInt(this.innerEntity.hashCode()).hash().asInt();
+        return this.innerEntity.getId();
     }
 
     /**
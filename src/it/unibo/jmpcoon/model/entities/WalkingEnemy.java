@@ -1,21 +1,20 @@
 package it.unibo.jmpcoon.model.entities;
 
-import org.apache.commons.lang3.tuple.MutablePair;
-import org.apache.commons.lang3.tuple.Pair;
-
 import it.unibo.jmpcoon.model.physics.DynamicPhysicalBody;
+import it.unibo.jmpcoon.model.physics.EnemyBehavior;
+import it.unibo.jmpcoon.model.physics.TurnRule;
 
 /**
- * A walking enemy inside the {@link it.unibo.jmpcoon.model.world.World} of the game.
+ * A walking enemy inside the {@link it.unibo.jmpcoon.model.world.World} of the game. It walks backward and forward across its
+ * range as described by its {@link EnemyBehavior}, which is followed by the
+ * {@link it.unibo.jmpcoon.model.physics.PhysicalWorld} along with the ones of all the other walking enemies.
  */
 public class WalkingEnemy extends DynamicEntity {
-    private static final long serialVersionUID = 5020187009003425168L;
+    private static final long serialVersionUID = -3143520755834102834L;
     private static final double WALKING_SPEED = 0.4;
+    private static final EnemyBehavior PATROL = new EnemyBehavior(WALKING_SPEED, TurnRule.AT_RANGE_END);
 
-    private MovementType currentMovement;
-    private final MutablePair<Double, Double> extremePosition;
     private final double walkingRange;
-    private final DynamicPhysicalBody body;
 
     /**
      * Builds a new {@link WalkingEnemy}.
@@ -24,10 +23,7 @@ public class WalkingEnemy extends DynamicEntity {
      */
     public WalkingEnemy(final DynamicPhysicalBody body, final double walkingRange) {
         super(body);
-        this.body = body;
         this.walkingRange = walkingRange;
-        this.currentMovement = MovementType.MOVE_RIGHT;
-        this.extremePosition = new MutablePair<>(this.body.getPosition().getLeft(), this.body.getPosition().getRight());
     }
 
     /**
@@ -39,28 +35,18 @@ public class WalkingEnemy extends DynamicEntity {
     }
 
     /**
-     * Computes the backward-and-forward movement.
+     * Returns the {@link EnemyBehavior} this {@link WalkingEnemy} follows.
+     * @return the {@link EnemyBehavior} of this {@link WalkingEnemy}
      */
-    public void computeMovement() {
-        if (!this.checkDistanceFromExtreme()) {
-            this.extremePosition.setLeft(this.body.getPosition().getLeft());
-            this.extremePosition.setRight(this.body.getPosition().getRight());
-            this.currentMovement = getOppositeMovement();
-        }
-        this.body.setFixedVelocity(this.currentMovement, this.getDelta() * WALKING_SPEED, 0);
-    }
-
-    private MovementType getOppositeMovement() {
-        return this.currentMovement == MovementType.MOVE_RIGHT ? MovementType.MOVE_LEFT : MovementType.MOVE_RIGHT;
+    public EnemyBehavior getBehavior() {
+        return PATROL;
     }
 
-    private int getDelta() {
-        return this.currentMovement == MovementType.MOVE_RIGHT ? 1 : -1;
-    }
-
-    private boolean checkDistanceFromExtreme() {
-        final Pair<Double, Double> actualPosition = this.body.getPosition();
-        return Math.sqrt(Math.pow((actualPosition.getLeft() - this.extremePosition.getLeft()), 2)
-                         + Math.pow((actualPosition.getRight() - this.extremePosition.getRight()), 2)) < this.walkingRange;
+    /**
+     * Returns the range this {@link WalkingEnemy} walks across.
+     * @return the walking range of this {@link WalkingEnemy}
+     */
+    public double getWalkingRange() {
+        return this.walkingRange;
     }
 }
@@ -7,8 +7,6 @@ import org.dyn4j.geometry.Convex;
 import org.dyn4j.geometry.Rectangle;
 import org.dyn4j.geometry.Vector2;
 
-import com.google.common.hash.Hashing;
-
 import it.unibo.jmpcoon.model.entities.EntityState;
 import it.unibo.jmpcoon.model.serializable.SerializableBody;
 
@@ -20,9 +18,12 @@ import org.apache.commons.lang3.tuple.Pair;
  * rectangle, and it must have only one {@link org.dyn4j.collision.Fixture}.
  */
 public abstract class AbstractPhysicalBody implements PhysicalBody {
-    private static final long serialVersionUID = 8007445555444017586L;
+    private static final long serialVersionUID = -2559192074113039651L;
+    /* the identifier of a body not yet registered in a world */
+    static final int NO_ID = -1;
 
     private final SerializableBody body;
+    private int id;
 
     /**
      * Builds a new {@link AbstractPhysicalBody}. This constructor is package protected because it should be only invoked 
@@ -31,6 +32,7 @@ public abstract class AbstractPhysicalBody implements PhysicalBody {
      */
     public AbstractPhysicalBody(final SerializableBody body) {
         this.body = Objects.requireNonNull(body);
+        this.id = NO_ID;
     }
 
     /**
@@ -101,6 +103,21 @@ public abstract class AbstractPhysicalBody implements PhysicalBody {
         return new ImmutablePair<>(width, height);
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getId() {
+        return this.id;
+    }
+
+    /*
+     * Sets the identifier of this body, it should be called only by the PhysicalWorld when it registers this body.
+     */
+    void setId(final int id) {
+        this.id = id;
+    }
+
     private Convex getBodyShape() {
         return this.body.getFixture(0).getShape();
     }
@@ -133,6 +150,6 @@ public abstract class AbstractPhysicalBody implements PhysicalBody {
      */
     @Override
     public int hashCode() {
-        return Hashing.murmur3_128().hashInt(this.body.hashCode()).asInt();
+        return this.id;
     }
 }
@@ -0,0 +1,125 @@
+package it.unibo.jmpcoon.model.physics;
+
+import java.io.Serializable;
+import java.util.BitSet;
+import java.util.List;
+
+import org.dyn4j.geometry.Vector2;
+
+import it.unibo.jmpcoon.model.entities.EntityType;
+
+/**
+ * A manager of the activity of the enemies in a {@link PhysicalWorld}, which puts to sleep the bodies of the ones too far from
+ * the player so that they aren't simulated, and wakes them up when the player gets near again. The bodies are put to sleep a
+ * little farther than the distance at which they're waken up, so a body on the border doesn't switch every step. Which bodies
+ * are sleeping depends only on the positions of the bodies, so two worlds in the same state make the same choices. It's package
+ * protected because only the {@link PhysicalWorldImpl} should use it.
+ */
+final class ActivityManager implements Serializable {
+    private static final long serialVersionUID = 2254911386813493127L;
+    /* larger than the diagonal of the default world, so that in the levels made of a single screen nothing sleeps */
+    private static final double DEFAULT_ACTIVATION_DISTANCE = 12;
+    private static final double SLEEP_MARGIN = 1.1;
+    private static final String ILLEGAL_DISTANCE_MSG = "The activation distance must be positive";
+
+    private final BitSet sleeping;
+    private double activationDistance;
+    private int managedCount;
+
+    /*
+     * Builds a new ActivityManager with the default activation distance and no sleeping body.
+     */
+    ActivityManager() {
+        this.sleeping = new BitSet();
+        this.activationDistance = DEFAULT_ACTIVATION_DISTANCE;
+    }
+
+    /*
+     * Sets the distance from the player within which the bodies are always awake.
+     */
+    void setActivationDistance(final double activationDistance) {
+        if (!(activationDistance > 0)) {
+            throw new IllegalArgumentException(ILLEGAL_DISTANCE_MSG);
+        }
+        this.activationDistance = activationDistance;
+    }
+
+    /*
+     * Returns the distance from the player within which the bodies are always awake.
+     */
+    double getActivationDistance() {
+        return this.activationDistance;
+    }
+
+    /*
+     * Puts to sleep the enemies too far from the player and wakes up the ones near to it, given the metadata of all the bodies
+     * indexed by their identifiers and the position of the player. The bodies put to sleep are put to sleep again if
+     * something else woke them up.
+     */
+    void update(final List<BodyMetadata> bodiesMetadata, final Vector2 playerPosition) {
+        final double wakeDistanceSquared = this.activationDistance * this.activationDistance;
+        final double sleepDistanceSquared = wakeDistanceSquared * SLEEP_MARGIN * SLEEP_MARGIN;
+        int managed = 0;
+        for (int id = 0; id < bodiesMetadata.size(); id++) {
+            final BodyMetadata metadata = bodiesMetadata.get(id);
+            if (metadata != null && isManaged(metadata.getType())) {
+                managed++;
+                final double distanceSquared = metadata.getBody().getWorldCenter().distanceSquared(playerPosition);
+                if (distanceSquared > sleepDistanceSquared) {
+                    this.sleeping.set(id);
+                } else if (distanceSquared <= wakeDistanceSquared && this.sleeping.get(id)) {
+                    this.sleeping.clear(id);
+                    metadata.getBody().setAsleep(false);
+                }
+                if (this.sleeping.get(id) && !metadata.getBody().isAsleep()) {
+                    metadata.getBody().setAsleep(true);
+                }
+            }
+        }
+        this.managedCount = managed;
+    }
+
+    /*
+     * Returns whether a body at the given position is near enough to the player at the given position to be always awake.
+     */
+    boolean isInRange(final Vector2 position, final Vector2 playerPosition) {
+        return position.distanceSquared(playerPosition) <= this.activationDistance * this.activationDistance;
+    }
+
+    /*
+     * Returns whether the body with the given identifier has been put to sleep by this manager.
+     */
+    boolean isSleeping(final int id) {
+        return id >= 0 && this.sleeping.get(id);
+    }
+
+    /*
+     * Forgets the body with the given identifier, because it has been removed from the world.
+     */
+    void forget(final int id) {
+        if (id >= 0) {
+            this.sleeping.clear(id);
+        }
+    }
+
+    /*
+     * Returns the number of bodies managed which are currently awake.
+     */
+    int getActiveCount() {
+        return this.managedCount - this.sleeping.cardinality();
+    }
+
+    /*
+     * Returns the number of bodies managed which are currently sleeping.
+     */
+    int getSleepingCount() {
+        return this.sleeping.cardinality();
+    }
+
+    /*
+     * Only the enemies are managed, the player is always awake and the other bodies are static.
+     */
+    private static boolean isManaged(final EntityType type) {
+        return type == EntityType.WALKING_ENEMY || type == EntityType.ROLLING_ENEMY;
+    }
+}
@@ -0,0 +1,256 @@
+package it.unibo.jmpcoon.model.physics;
+
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+import org.dyn4j.geometry.Transform;
+
+import com.google.common.base.Optional;
+
+import it.unibo.jmpcoon.model.entities.MovementType;
+import it.unibo.jmpcoon.model.serializable.SerializableBody;
+
+/**
+ * The engine which moves the enemies following an {@link EnemyBehavior} in a {@link PhysicalWorld}. The enemies with equal
+ * behaviors are kept in the same group, which stores their state in arrays of primitives, so that every step a group is
+ * evaluated in a single loop which only reads the positions of the bodies, without any object created. A step has two phases:
+ * first every enemy computes the velocity it intends to have, which reads the bodies and writes only the state of the enemy
+ * itself, so the groups with many enemies are split among the workers if there are any; then the intents are applied to the
+ * bodies by the thread updating the world, group after group in the order in which their behaviors were first added and
+ * enemy after enemy, so two worlds in the same state move their enemies in the same way whether they have workers or not.
+ * It's package protected because only the {@link PhysicalWorldImpl} should use it.
+ */
+final class BehaviorEngine implements Serializable {
+    private static final long serialVersionUID = 6352118496201768403L;
+    private static final int INITIAL_CAPACITY = 16;
+    private static final int NO_INDEX = -1;
+    /* below these many enemies in a group, sharing their intents among the workers costs more than computing them */
+    private static final int PARALLEL_THRESHOLD = 1024;
+    private static final int ENEMIES_PER_TASK = 256;
+
+    private final Map<EnemyBehavior, BehaviorGroup> groups;
+    /* the group and the index in the group of every body with a behavior, indexed by the identifier of the body */
+    private BehaviorGroup[] groupById;
+    private int[] indexById;
+
+    /*
+     * Builds a new BehaviorEngine without any enemy.
+     */
+    BehaviorEngine() {
+        this.groups = new LinkedHashMap<>();
+        this.groupById = new BehaviorGroup[INITIAL_CAPACITY];
+        this.indexById = new int[INITIAL_CAPACITY];
+    }
+
+    /*
+     * Adds the given behavior to the body with the given identifier, which starts walking right from where it is. If the body
+     * already had a behavior, the new one replaces it.
+     */
+    void add(final int id, final SerializableBody body, final DynamicPhysicalBody physicalBody, final EnemyBehavior behavior,
+             final double range) {
+        this.forget(id);
+        if (id >= this.groupById.length) {
+            final int capacity = Math.max(id + 1, this.groupById.length * 2);
+            this.groupById = Arrays.copyOf(this.groupById, capacity);
+            this.indexById = Arrays.copyOf(this.indexById, capacity);
+        }
+        final BehaviorGroup group = this.groups.computeIfAbsent(behavior, BehaviorGroup::new);
+        this.groupById[id] = group;
+        this.indexById[id] = group.add(id, body, physicalBody, range);
+    }
+
+    /*
+     * Forgets the behavior of the body with the given identifier, because it has been removed from the world.
+     */
+    void forget(final int id) {
+        if (id >= 0 && id < this.groupById.length && this.groupById[id] != null) {
+            final int moved = this.groupById[id].remove(this.indexById[id]);
+            if (moved != NO_INDEX) {
+                this.indexById[moved] = this.indexById[id];
+            }
+            this.groupById[id] = null;
+        }
+    }
+
+    /*
+     * Moves all the enemies which aren't sleeping according to the given manager, computing the intents of the groups with many
+     * enemies on the given workers, if present, and then applying all of them group after group.
+     */
+    void evaluate(final ActivityManager activityManager, final Optional<ForkJoinPool> workers) {
+        for (final BehaviorGroup group : this.groups.values()) {
+            group.prepareIntents();
+            if (workers.isPresent() && group.size >= PARALLEL_THRESHOLD) {
+                workers.get().invoke(new IntentsTask(group, activityManager, 0, group.size));
+            } else {
+                group.computeIntents(activityManager, 0, group.size);
+            }
+        }
+        for (final BehaviorGroup group : this.groups.values()) {
+            group.applyIntents();
+        }
+    }
+
+    /*
+     * The enemies with the same behavior. The state of the enemy at index i is at index i of every array: the point from which
+     * it last turned, the square of its range and its direction, one for right and minus one for left. The intents are only
+     * the result of the last step, so they aren't saved. The walking enemies can't rotate, so the translation of their bodies
+     * moves as their center does.
+     */
+    private static final class BehaviorGroup implements Serializable {
+        private static final long serialVersionUID = -4207791384722480745L;
+
+        private final EnemyBehavior behavior;
+        private int size;
+        private int[] ids;
+        private SerializableBody[] bodies;
+        private DynamicPhysicalBody[] physicalBodies;
+        private double[] originsX;
+        private double[] originsY;
+        private double[] rangesSquared;
+        private int[] directions;
+        /* whether the enemy is awake and the horizontal velocity it intends to have in the current step */
+        private transient boolean[] intents;
+        private transient double[] intentsX;
+
+        BehaviorGroup(final EnemyBehavior behavior) {
+            this.behavior = behavior;
+            this.ids = new int[INITIAL_CAPACITY];
+            this.bodies = new SerializableBody[INITIAL_CAPACITY];
+            this.physicalBodies = new DynamicPhysicalBody[INITIAL_CAPACITY];
+            this.originsX = new double[INITIAL_CAPACITY];
+            this.originsY = new double[INITIAL_CAPACITY];
+            this.rangesSquared = new double[INITIAL_CAPACITY];
+            this.directions = new int[INITIAL_CAPACITY];
+        }
+
+        /*
+         * Adds an enemy at the end of this group, returning its index.
+         */
+        int add(final int id, final SerializableBody body, final DynamicPhysicalBody physicalBody, final double range) {
+            if (this.size == this.ids.length) {
+                final int capacity = this.size * 2;
+                this.ids = Arrays.copyOf(this.ids, capacity);
+                this.bodies = Arrays.copyOf(this.bodies, capacity);
+                this.physicalBodies = Arrays.copyOf(this.physicalBodies, capacity);
+                this.originsX = Arrays.copyOf(this.originsX, capacity);
+                this.originsY = Arrays.copyOf(this.originsY, capacity);
+                this.rangesSquared = Arrays.copyOf(this.rangesSquared, capacity);
+                this.directions = Arrays.copyOf(this.directions, capacity);
+            }
+            final Transform transform = body.getTransform();
+            this.ids[this.size] = id;
+            this.bodies[this.size] = body;
+            this.physicalBodies[this.size] = physicalBody;
+            this.originsX[this.size] = transform.getTranslationX();
+            this.originsY[this.size] = transform.getTranslationY();
+            this.rangesSquared[this.size] = range * range;
+            this.directions[this.size] = 1;
+            return this.size++;
+        }
+
+        /*
+         * Removes the enemy at the given index moving the last one in its place, returns the identifier of the enemy moved or
+         * NO_INDEX if the one removed was the last.
+         */
+        int remove(final int index) {
+            this.size--;
+            final int last = this.size;
+            final int moved = index == last ? NO_INDEX : this.ids[last];
+            this.ids[index] = this.ids[last];
+            this.bodies[index] = this.bodies[last];
+            this.physicalBodies[index] = this.physicalBodies[last];
+            this.originsX[index] = this.originsX[last];
+            this.originsY[index] = this.originsY[last];
+            this.rangesSquared[index] = this.rangesSquared[last];
+            this.directions[index] = this.directions[last];
+            this.bodies[last] = null;
+            this.physicalBodies[last] = null;
+            return moved;
+        }
+
+        /*
+         * Makes room for the intents of all the enemies, before they're computed.
+         */
+        void prepareIntents() {
+            if (this.intents == null || this.intents.length < this.ids.length) {
+                this.intents = new boolean[this.ids.length];
+                this.intentsX = new double[this.ids.length];
+            }
+        }
+
+        /*
+         * Turns back the enemies between the given indexes which have walked their whole range, if they can turn, and computes
+         * the velocity they intend to have. It doesn't modify any body, so different ranges can be computed at the same time.
+         */
+        void computeIntents(final ActivityManager activityManager, final int from, final int to) {
+            final double speed = this.behavior.getSpeed();
+            final boolean turns = this.behavior.getTurnRule() == TurnRule.AT_RANGE_END;
+            for (int i = from; i < to; i++) {
+                this.intents[i] = !activityManager.isSleeping(this.ids[i]);
+                if (this.intents[i]) {
+                    if (turns) {
+                        final Transform transform = this.bodies[i].getTransform();
+                        final double x = transform.getTranslationX();
+                        final double y = transform.getTranslationY();
+                        final double deltaX = x - this.originsX[i];
+                        final double deltaY = y - this.originsY[i];
+                        if (deltaX * deltaX + deltaY * deltaY >= this.rangesSquared[i]) {
+                            this.originsX[i] = x;
+                            this.originsY[i] = y;
+                            this.directions[i] = -this.directions[i];
+                        }
+                    }
+                    this.intentsX[i] = this.directions[i] * speed;
+                }
+            }
+        }
+
+        /*
+         * Sets on the bodies of the awake enemies the velocities they intend to have, in the order of the enemies.
+         */
+        void applyIntents() {
+            for (int i = 0; i < this.size; i++) {
+                if (this.intents[i]) {
+                    this.physicalBodies[i].setFixedVelocity(this.directions[i] > 0 ? MovementType.MOVE_RIGHT
+                                                                                   : MovementType.MOVE_LEFT,
+                                                            this.intentsX[i], 0);
+                }
+            }
+        }
+    }
+
+    /*
+     * The computation of the intents of the enemies of a group between two indexes, split in halves until the enemies of a
+     * task are few enough, so idle workers steal the halves still to be computed from the busy ones.
+     */
+    private static final class IntentsTask extends RecursiveAction {
+        private static final long serialVersionUID = 3104525872530962411L;
+
+        private final transient BehaviorGroup group;
+        private final transient ActivityManager activityManager;
+        private final int from;
+        private final int to;
+
+        IntentsTask(final BehaviorGroup group, final ActivityManager activityManager, final int from, final int to) {
+            this.group = group;
+            this.activityManager = activityManager;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (this.to - this.from <= ENEMIES_PER_TASK) {
+                this.group.computeIntents(this.activityManager, this.from, this.to);
+            } else {
+                final int middle = (this.from + this.to) >>> 1;
+                invokeAll(new IntentsTask(this.group, this.activityManager, this.from, middle),
+                          new IntentsTask(this.group, this.activityManager, middle, this.to));
+            }
+        }
+    }
+}
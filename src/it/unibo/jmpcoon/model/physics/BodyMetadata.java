@@ -0,0 +1,78 @@
+package it.unibo.jmpcoon.model.physics;
+
+import java.io.Serializable;
+
+import com.google.common.base.Optional;
+
+import it.unibo.jmpcoon.model.entities.EntityType;
+import it.unibo.jmpcoon.model.entities.PowerUpType;
+import it.unibo.jmpcoon.model.serializable.SerializableBody;
+
+/**
+ * The informations about the game associated to a {@link SerializableBody}, attached to it as its user data so that the
+ * {@link PhysicalBody} and the {@link EntityType} of a body can be known from the body itself without any lookup. It's
+ * package protected because only the {@link PhysicalWorldImpl} should create and attach it.
+ */
+final class BodyMetadata implements Serializable {
+    private static final long serialVersionUID = -2617004553735384290L;
+
+    private final PhysicalBody physicalBody;
+    private final SerializableBody body;
+    private final EntityType type;
+    private final Optional<PowerUpType> powerUpType;
+    private final int slot;
+
+    /*
+     * Builds a new BodyMetadata for the given body, which is at the given slot in the PhysicalWorld which contains it.
+     */
+    BodyMetadata(final PhysicalBody physicalBody, final SerializableBody body, final EntityType type,
+                 final Optional<PowerUpType> powerUpType, final int slot) {
+        this.physicalBody = physicalBody;
+        this.body = body;
+        this.type = type;
+        this.powerUpType = powerUpType;
+        this.slot = slot;
+    }
+
+    /*
+     * Returns the PhysicalBody wrapping the body this metadata is associated to.
+     */
+    PhysicalBody getPhysicalBody() {
+        return this.physicalBody;
+    }
+
+    /*
+     * Returns the body this metadata is associated to.
+     */
+    SerializableBody getBody() {
+        return this.body;
+    }
+
+    /*
+     * Returns the EntityType of the entity containing the body.
+     */
+    EntityType getType() {
+        return this.type;
+    }
+
+    /*
+     * Returns the PowerUpType of the body, if the body is the one of a power-up.
+     */
+    Optional<PowerUpType> getPowerUpType() {
+        return this.powerUpType;
+    }
+
+    /*
+     * Returns the identifier given to the body by the PhysicalWorld which contains it.
+     */
+    int getSlot() {
+        return this.slot;
+    }
+
+    /*
+     * Returns a copy of this metadata with the given PowerUpType.
+     */
+    BodyMetadata withPowerUpType(final PowerUpType powerUpType) {
+        return new BodyMetadata(this.physicalBody, this.body, this.type, Optional.of(powerUpType), this.slot);
+    }
+}
@@ -0,0 +1,90 @@
+package it.unibo.jmpcoon.model.physics;
+
+import org.dyn4j.collision.CategoryFilter;
+import org.dyn4j.collision.Fixture;
+
+import it.unibo.jmpcoon.model.entities.EntityType;
+
+/**
+ * An enumeration representing the categories used for filtering the collisions between the bodies of the entities, one for
+ * each {@link EntityType}. Every category is a single bit, so the {@link EntityType} of a body can be known from the filter of
+ * its {@link Fixture} without looking it up anywhere.
+ */
+public enum CollisionCategory {
+    /**
+     * The category of {@link it.unibo.jmpcoon.model.entities.WalkingEnemy}s.
+     */
+    WALKING_ENEMY(EntityType.WALKING_ENEMY),
+    /**
+     * The category of {@link it.unibo.jmpcoon.model.entities.RollingEnemy}s.
+     */
+    ROLLING_ENEMY(EntityType.ROLLING_ENEMY),
+    /**
+     * The category of {@link it.unibo.jmpcoon.model.entities.Platform}s.
+     */
+    PLATFORM(EntityType.PLATFORM),
+    /**
+     * The category of the {@link it.unibo.jmpcoon.model.entities.Player}.
+     */
+    PLAYER(EntityType.PLAYER),
+    /**
+     * The category of {@link it.unibo.jmpcoon.model.entities.Ladder}s.
+     */
+    LADDER(EntityType.LADDER),
+    /**
+     * The category of {@link it.unibo.jmpcoon.model.entities.EnemyGenerator}s.
+     */
+    ENEMY_GENERATOR(EntityType.ENEMY_GENERATOR),
+    /**
+     * The category of {@link it.unibo.jmpcoon.model.entities.PowerUp}s.
+     */
+    POWERUP(EntityType.POWERUP);
+
+    private static final String NO_CATEGORY_MSG = "The bit passed isn't the one of a category";
+    private static final CollisionCategory[] VALUES = values();
+
+    private final EntityType associatedType;
+
+    CollisionCategory(final EntityType associatedType) {
+        this.associatedType = associatedType;
+    }
+
+    /**
+     * Returns the bit representing this category in a {@link CategoryFilter}.
+     * @return the bit of this category
+     */
+    public long getBit() {
+        return 1L << this.ordinal();
+    }
+
+    /**
+     * Returns the {@link EntityType} associated to this category.
+     * @return the {@link EntityType} associated to this category
+     */
+    public EntityType getAssociatedType() {
+        return this.associatedType;
+    }
+
+    /**
+     * Returns the category bits of the given {@link Fixture}, which are zero if it hasn't a {@link CategoryFilter}.
+     * @param fixture the {@link Fixture} of which getting the category
+     * @return the category bits of the {@link Fixture}
+     */
+    public static long getCategoryBits(final Fixture fixture) {
+        return fixture.getFilter() instanceof CategoryFilter ? ((CategoryFilter) fixture.getFilter()).getCategory() : 0;
+    }
+
+    /**
+     * Returns the {@link EntityType} associated with the given category bit, as returned by {@link #getBit()}.
+     * @param bit the bit of a category
+     * @return the {@link EntityType} associated with the category
+     * @throws IllegalArgumentException if the bit is not the one of a category
+     */
+    public static EntityType getEntityType(final long bit) throws IllegalArgumentException {
+        final int index = Long.numberOfTrailingZeros(bit);
+        if (Long.bitCount(bit) != 1 || index >= VALUES.length) {
+            throw new IllegalArgumentException(NO_CATEGORY_MSG);
+        }
+        return VALUES[index].associatedType;
+    }
+}
@@ -92,7 +92,7 @@ public class DynamicPhysicalBody extends AbstractPhysicalBody {
      */
     public void setFixedVelocity(final MovementType movement, final double x, final double y) {
         this.currentState = movement.convert();
-        this.body.setLinearVelocity(new Vector2(x, y));
+        this.body.setLinearVelocity(x, y);
     }
 
      /**
@@ -0,0 +1,76 @@
+package it.unibo.jmpcoon.model.physics;
+
+import java.io.Serializable;
+import java.util.Objects;
+
+/**
+ * The description of how an enemy moves by itself, as the speed at which it walks and the {@link TurnRule} which tells when it
+ * turns back. It's only data: all the enemies with equal behaviors are moved together by the {@link PhysicalWorld}, while the
+ * range each one of them walks across is given for every enemy when its behavior is added.
+ */
+public final class EnemyBehavior implements Serializable {
+    private static final long serialVersionUID = -1460826744418006281L;
+    private static final String ILLEGAL_SPEED_MSG = "The speed of a behavior must be positive";
+
+    private final double speed;
+    private final TurnRule turnRule;
+
+    /**
+     * Builds a new {@link EnemyBehavior}.
+     * @param speed the horizontal speed at which the enemy walks
+     * @param turnRule the {@link TurnRule} which tells when the enemy turns back
+     * @throws IllegalArgumentException if the speed isn't positive
+     */
+    public EnemyBehavior(final double speed, final TurnRule turnRule) throws IllegalArgumentException {
+        if (!(speed > 0) || Double.isInfinite(speed)) {
+            throw new IllegalArgumentException(ILLEGAL_SPEED_MSG);
+        }
+        this.speed = speed;
+        this.turnRule = Objects.requireNonNull(turnRule);
+    }
+
+    /**
+     * Returns the horizontal speed at which the enemy walks.
+     * @return the speed of the enemy
+     */
+    public double getSpeed() {
+        return this.speed;
+    }
+
+    /**
+     * Returns when the enemy turns back.
+     * @return the {@link TurnRule} of the enemy
+     */
+    public TurnRule getTurnRule() {
+        return this.turnRule;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean equals(final Object obj) {
+        if (obj == this) {
+            return true;
+        }
+        return obj instanceof EnemyBehavior
+               && Double.compare(this.speed, ((EnemyBehavior) obj).speed) == 0
+               && this.turnRule == ((EnemyBehavior) obj).turnRule;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int hashCode() {
+        return 31 * Double.hashCode(this.speed) + this.turnRule.hashCode();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String toString() {
+        return "Speed: " + this.speed + "; Turn rule: " + this.turnRule;
+    }
+}
@@ -46,4 +46,12 @@ public interface PhysicalBody extends Serializable {
      * @return the velocity of this {@link PhysicalBody}, divided in its x and y components
      */
     Pair<Double, Double> getVelocity();
+
+    /**
+     * Returns the identifier of this {@link PhysicalBody}, a small non negative integer given to it when it's registered in its
+     * {@link PhysicalWorld}, so that it can be used as an index into arrays. It's unique among the bodies in the same
+     * {@link PhysicalWorld}, but the identifier of a body removed can be given to a body registered later.
+     * @return the identifier of this {@link PhysicalBody}, or a negative value if it hasn't been registered yet
+     */
+    int getId();
 }
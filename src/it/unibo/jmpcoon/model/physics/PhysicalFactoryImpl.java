@@ -39,13 +39,13 @@ public class PhysicalFactoryImpl implements PhysicalFactory {
     private static final String TOO_MANY_FIXTURES_MSG = "The body created has an illegal number of fixtures";
     private static final String ILLEGAL_DIMENSIONS_MSG = "A circular entity can't have different width and height";
     private static final String OUTSIDE_WORLD_MSG = "The entity would be created outside the world";
-    private static final long CATEGORY_WALKING_ENEMY = 1; // 000001
-    private static final long CATEGORY_ROLLING_ENEMY = 2; // 000010
-    private static final long CATEGORY_PLATFORM = 4; // 000100
-    private static final long CATEGORY_PLAYER = 8; // 001000
-    private static final long CATEGORY_LADDER = 16; // 010000
-    private static final long CATEGORY_GENERATOR_ENEMY = 32; // 100000
-    private static final long CATEGORY_POWERUP = 64; // 1000000
+    private static final long CATEGORY_WALKING_ENEMY = CollisionCategory.WALKING_ENEMY.getBit(); // 000001
+    private static final long CATEGORY_ROLLING_ENEMY = CollisionCategory.ROLLING_ENEMY.getBit(); // 000010
+    private static final long CATEGORY_PLATFORM = CollisionCategory.PLATFORM.getBit(); // 000100
+    private static final long CATEGORY_PLAYER = CollisionCategory.PLAYER.getBit(); // 001000
+    private static final long CATEGORY_LADDER = CollisionCategory.LADDER.getBit(); // 010000
+    private static final long CATEGORY_GENERATOR_ENEMY = CollisionCategory.ENEMY_GENERATOR.getBit(); // 100000
+    private static final long CATEGORY_POWERUP = CollisionCategory.POWERUP.getBit(); // 1000000
     private static final CategoryFilter LADDER_FILTER = new CategoryFilter(CATEGORY_LADDER, CATEGORY_PLAYER);
     private static final CategoryFilter PLATFORM_FILTER = new CategoryFilter(CATEGORY_PLATFORM, CATEGORY_WALKING_ENEMY
                                                                                                 | CATEGORY_ROLLING_ENEMY
@@ -190,7 +190,7 @@ public class PhysicalFactoryImpl implements PhysicalFactory {
         body.getFixture(0).setDensity(PLAYER_DENSITY);
         body.setMass(MassType.FIXED_ANGULAR_VELOCITY);
         this.physicalWorld.get().getWorld().addBody(body);
-        final PlayerPhysicalBody playerBody = new PlayerPhysicalBody(body);
+        final PlayerPhysicalBody playerBody = new PlayerPhysicalBody(body, this.physicalWorld.get().getTimingWheel());
         this.physicalWorld.get().addPlayerAssociation(playerBody, body);
         return playerBody;
     }
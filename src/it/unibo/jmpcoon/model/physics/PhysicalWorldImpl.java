@@ -1,8 +1,15 @@
 package it.unibo.jmpcoon.model.physics;
 
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
 import java.util.Collection;
-import java.util.LinkedHashMap;
-import java.util.Map;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
 import java.util.stream.Collectors;
 
 import org.apache.commons.lang3.tuple.ImmutablePair;
@@ -11,8 +18,6 @@ import org.dyn4j.dynamics.Body;
 import org.dyn4j.dynamics.World;
 
 import com.google.common.base.Optional;
-import com.google.common.collect.BiMap;
-import com.google.common.collect.HashBiMap;
 
 import it.unibo.jmpcoon.model.entities.EntityType;
 import it.unibo.jmpcoon.model.entities.PowerUpType;
@@ -20,6 +25,9 @@ import it.unibo.jmpcoon.model.physics.collisions.PhysicsRulesFactory;
 import it.unibo.jmpcoon.model.physics.collisions.PhysicsRulesFactoryImpl;
 import it.unibo.jmpcoon.model.serializable.SerializableBody;
 import it.unibo.jmpcoon.model.serializable.SerializableWorld;
+import it.unibo.jmpcoon.model.timing.TimingWheel;
+import it.unibo.jmpcoon.model.timing.TimingWheelImpl;
+import it.unibo.jmpcoon.model.world.CollisionEvent;
 import it.unibo.jmpcoon.model.world.NotifiableWorld;
 
 /**
@@ -27,18 +35,25 @@ import it.unibo.jmpcoon.model.world.NotifiableWorld;
  * {@link PhysicalFactory}, the factory class for each one of the physical entities of this game.
  */
 class PhysicalWorldImpl implements PhysicalWorld {
-    private static final long serialVersionUID = -8486558535164534658L;
-    private static final int INVINCIBILITY_DURATION = 400;
-    private static final int HIT_COOLDOWN = 60;
+    private static final long serialVersionUID = -7835684437651122576L;
+    private static final String UNKNOWN_BODY_MSG = "The body passed wasn't created by a PhysicalFactory";
+    private static final String NO_DYNAMIC_BODY_MSG = "Only the dynamic bodies in this world can have a behavior";
+    private static final String ILLEGAL_RANGE_MSG = "The range of a behavior can't be negative";
 
     private final SerializableWorld world;
-    private final BiMap<PhysicalBody, SerializableBody> physicalToBodyAssociations;
-    private final Map<PhysicalBody, EntityType> bodyToEntityTypeAssociations;
-    private final Map<SerializableBody, PowerUpType> bodyToPowerUpTypeAssociations;
+    private final NotifiableWorld outerWorld;
+    /* the metadata of every registered body indexed by its identifier, null if the body has been removed */
+    private final List<BodyMetadata> bodiesMetadata;
+    /* the slots left by the removed bodies, given again to the next bodies registered so that the slots don't keep growing */
+    private final Deque<Integer> freeSlots;
+    private final ActivityManager activityManager;
+    /* the time of a step depends on the machine, so the quality isn't saved with the world */
+    private transient PhysicsQualityGovernor governor;
     private Optional<PlayerPhysicalBody> playerPhysicalBody;
-    private Optional<PhysicalBody> collidingLadder;
-    private int stepCounterHit;
-    private int stepCounterInvincibility;
+    private final TimingWheel timingWheel;
+    private final BehaviorEngine behaviorEngine;
+    /* the workers belong to who updates this world, so they aren't saved with it */
+    private transient Optional<ForkJoinPool> workers;
 
     /**
      * Binds the current instance of {@link PhysicalWorldImpl} with the instance of {@link SerializableWorld} which will be
@@ -51,16 +66,18 @@ class PhysicalWorldImpl implements PhysicalWorld {
      */
     PhysicalWorldImpl(final NotifiableWorld outerWorld, final SerializableWorld world) {
         this.world = world;
+        this.outerWorld = outerWorld;
         final PhysicsRulesFactory physics = new PhysicsRulesFactoryImpl();
         this.world.addListener(physics.createContactRules(this));
         this.world.addListener(physics.createCollisionRules(this, outerWorld));
-        this.physicalToBodyAssociations = HashBiMap.create();
-        this.bodyToEntityTypeAssociations = new LinkedHashMap<>();
-        this.bodyToPowerUpTypeAssociations = new LinkedHashMap<>();
-        this.collidingLadder = Optional.absent();
+        this.bodiesMetadata = new ArrayList<>();
+        this.freeSlots = new ArrayDeque<>();
+        this.activityManager = new ActivityManager();
+        this.governor = new PhysicsQualityGovernor(this.world);
         this.playerPhysicalBody = Optional.absent();
-        this.stepCounterHit = 0;
-        this.stepCounterInvincibility = 0;
+        this.timingWheel = new TimingWheelImpl();
+        this.behaviorEngine = new BehaviorEngine();
+        this.workers = Optional.absent();
     }
 
     /**
@@ -68,7 +85,8 @@ class PhysicalWorldImpl implements PhysicalWorld {
      */
     @Override
     public PhysicalBody getPhysicalBodyFromBody(final Body body) {
-        return this.physicalToBodyAssociations.inverse().get(body);
+        final BodyMetadata metadata = this.getMetadata(body);
+        return metadata == null ? null : metadata.getPhysicalBody();
     }
 
     /**
@@ -76,7 +94,8 @@ class PhysicalWorldImpl implements PhysicalWorld {
      */
     @Override
     public EntityType getEntityTypeFromBody(final Body body) {
-        return this.bodyToEntityTypeAssociations.get(this.getPhysicalBodyFromBody(body));
+        final BodyMetadata metadata = this.getMetadata(body);
+        return metadata == null ? null : metadata.getType();
     }
 
     /**
@@ -84,7 +103,17 @@ class PhysicalWorldImpl implements PhysicalWorld {
      */
     @Override
     public Optional<PhysicalBody> getCollidingLadder() {
-        return this.collidingLadder;
+        final Collection<PhysicalBody> ladders = this.getCollidingLadders();
+        return ladders.isEmpty() ? Optional.absent() : Optional.of(ladders.iterator().next());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Collection<PhysicalBody> getCollidingLadders() {
+        return this.playerPhysicalBody.isPresent() ? this.playerPhysicalBody.get().getCollidingLadders()
+                                                   : Collections.emptySet();
     }
 
     /**
@@ -100,7 +129,8 @@ class PhysicalWorldImpl implements PhysicalWorld {
      */
     @Override
     public Optional<PowerUpType> getPowerUpTypeFromBody(final Body body) {
-        return Optional.fromNullable(this.bodyToPowerUpTypeAssociations.get(body));
+        final BodyMetadata metadata = this.getMetadata(body);
+        return metadata == null ? Optional.absent() : metadata.getPowerUpType();
     }
 
     /**
@@ -125,7 +155,10 @@ class PhysicalWorldImpl implements PhysicalWorld {
      */
     @Override
     public void addPowerUpTypeAssociation(final SerializableBody contained, final PowerUpType type) {
-        this.bodyToPowerUpTypeAssociations.putIfAbsent(contained, type);
+        final BodyMetadata metadata = this.getMetadata(contained);
+        if (metadata != null && !metadata.getPowerUpType().isPresent()) {
+            this.attachMetadata(metadata.withPowerUpType(type));
+        }
     }
 
     /**
@@ -141,7 +174,7 @@ class PhysicalWorldImpl implements PhysicalWorld {
      */
     @Override
     public boolean areBodiesInContact(final PhysicalBody first, final PhysicalBody second) {
-        return this.physicalToBodyAssociations.get(first).isInContact(this.physicalToBodyAssociations.get(second));
+        return this.getBody(first).isInContact(this.getBody(second));
     }
 
     /**
@@ -149,8 +182,17 @@ class PhysicalWorldImpl implements PhysicalWorld {
      */
     @Override
     public void removeBody(final PhysicalBody body) {
-        this.world.removeBody(this.physicalToBodyAssociations.get(body));
-        this.physicalToBodyAssociations.remove(body);
+        final int id = body.getId();
+        final BodyMetadata metadata = id >= 0 && id < this.bodiesMetadata.size() ? this.bodiesMetadata.get(id) : null;
+        /* the slot of a body already removed could have been given to another body */
+        if (metadata != null && metadata.getPhysicalBody() == body) {
+            this.world.removeBody(metadata.getBody());
+            this.bodiesMetadata.set(id, null);
+            this.activityManager.forget(id);
+            this.behaviorEngine.forget(id);
+            metadata.getBody().setUserData(null);
+            this.freeSlots.push(id);
+        }
     }
 
     /**
@@ -158,16 +200,32 @@ class PhysicalWorldImpl implements PhysicalWorld {
      */
     @Override
     public Collection<Pair<PhysicalBody, Pair<Double, Double>>> getCollidingBodies(final PhysicalBody body) {
-        final Body innerBody = this.physicalToBodyAssociations.get(body);
+        final Body innerBody = this.getBody(body);
         return innerBody.getContacts(false)
-                        .parallelStream()
+                        .stream()
                         .<Pair<PhysicalBody, Pair<Double, Double>>>map(contact ->
-                            new ImmutablePair<>(this.physicalToBodyAssociations.inverse()
-                                                                               .get(contact.getBody1().equals(innerBody) 
-                                                                                    ? contact.getBody2() 
-                                                                                    : contact.getBody1()),
+                            new ImmutablePair<>(this.getPhysicalBodyFromBody(contact.getBody1() == innerBody
+                                                                             ? contact.getBody2()
+                                                                             : contact.getBody1()),
                                                 new ImmutablePair<>(contact.getPoint().x, contact.getPoint().y)))
-                        .collect(Collectors.toSet());
+                        .collect(Collectors.toList());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void addBehavior(final PhysicalBody body, final EnemyBehavior behavior, final double range)
+                            throws IllegalArgumentException {
+        final int id = body.getId();
+        final BodyMetadata metadata = id >= 0 && id < this.bodiesMetadata.size() ? this.bodiesMetadata.get(id) : null;
+        if (metadata == null || metadata.getPhysicalBody() != body || !(body instanceof DynamicPhysicalBody)) {
+            throw new IllegalArgumentException(NO_DYNAMIC_BODY_MSG);
+        }
+        if (!(range >= 0)) {
+            throw new IllegalArgumentException(ILLEGAL_RANGE_MSG);
+        }
+        this.behaviorEngine.add(id, metadata.getBody(), (DynamicPhysicalBody) body, Objects.requireNonNull(behavior), range);
     }
 
     /**
@@ -177,63 +235,183 @@ class PhysicalWorldImpl implements PhysicalWorld {
     public void update() {
         if (this.playerPhysicalBody.isPresent()) {
             final PlayerPhysicalBody player = this.playerPhysicalBody.get();
-            this.collidingLadder
-                = Optional.fromJavaUtil(this.bodyToEntityTypeAssociations
-                                            .entrySet()
-                                            .parallelStream()
-                                            .filter(e -> e.getValue() == EntityType.LADDER)
-                                            .filter(l -> this.areBodiesInContact(player, l.getKey()))
-                                            .findFirst()
-                                            .map(cl -> cl.getKey()));
-            if (player.isInvincible() && this.invincibilityEnded()) {
-                player.endInvincibility();
-            }
-            if (player.isInvulnerable() && this.hitEnded()) {
-                player.endInvulnerability();
-            }
             if ((player.getPosition().getLeft() + player.getDimensions().getLeft() / 2) < 0
                 || (player.getPosition().getRight() + player.getDimensions().getRight() / 2) < 0) {
                     player.kill();
             }
+            final BodyMetadata playerMetadata = this.bodiesMetadata.get(player.getId());
+            if (playerMetadata != null) {
+                this.activityManager.update(this.bodiesMetadata, playerMetadata.getBody().getWorldCenter());
+            }
         }
+        this.timingWheel.advance();
+        final long start = System.nanoTime();
         this.world.step(1);
+        this.governor.stepped(System.nanoTime() - start);
+        this.behaviorEngine.evaluate(this.activityManager, this.workers);
+        if (this.playerPhysicalBody.isPresent() && this.playerPhysicalBody.get().groundStepEnded()) {
+            this.outerWorld.notifyCollision(CollisionEvent.PLAYER_LANDED);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public TimingWheel getTimingWheel() {
+        return this.timingWheel;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void setDeterministic(final boolean deterministic) {
+        this.world.setDeterministic(deterministic);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isDeterministic() {
+        return this.world.isDeterministic();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void setWorkers(final Optional<ForkJoinPool> workers) {
+        this.workers = Objects.requireNonNull(workers);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void setActivationDistance(final double activationDistance) throws IllegalArgumentException {
+        this.activityManager.setActivationDistance(activationDistance);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public double getActivationDistance() {
+        return this.activityManager.getActivationDistance();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isBodySleeping(final PhysicalBody body) {
+        return this.activityManager.isSleeping(body.getId());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isBodyInActivationRange(final PhysicalBody body) {
+        if (!this.playerPhysicalBody.isPresent()) {
+            return true;
+        }
+        final BodyMetadata playerMetadata = this.bodiesMetadata.get(this.playerPhysicalBody.get().getId());
+        return playerMetadata == null
+               || this.activityManager.isInRange(this.getBody(body).getWorldCenter(), playerMetadata.getBody().getWorldCenter());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getActiveBodiesCount() {
+        return this.activityManager.getActiveCount();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getSleepingBodiesCount() {
+        return this.activityManager.getSleepingCount();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void setPhysicsBudget(final long budget) throws IllegalArgumentException {
+        this.governor.setBudget(budget);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public PhysicsQuality getPhysicsQuality() {
+        return this.governor.getQuality();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getBodySlotsCount() {
+        return this.bodiesMetadata.size();
     }
 
     /*
      * Puts a generic association inside this PhysicalWorld between a PhysicalBody, its Body and its EntityType.
      */
     private void putAssociation(final PhysicalBody container, final SerializableBody contained, final EntityType type) {
-        this.physicalToBodyAssociations.putIfAbsent(container, contained);
-        this.bodyToEntityTypeAssociations.putIfAbsent(container, type);
+        if (!(container instanceof AbstractPhysicalBody)) {
+            throw new IllegalArgumentException(UNKNOWN_BODY_MSG);
+        }
+        if (container.getId() == AbstractPhysicalBody.NO_ID) {
+            final int id;
+            if (this.freeSlots.isEmpty()) {
+                id = this.bodiesMetadata.size();
+                this.bodiesMetadata.add(null);
+            } else {
+                id = this.freeSlots.pop();
+            }
+            ((AbstractPhysicalBody) container).setId(id);
+            this.attachMetadata(new BodyMetadata(container, contained, type, Optional.absent(), id));
+        }
     }
 
     /*
-     * Calculates if the hit cool-down has terminated or not.
+     * Gets the body wrapped by the given PhysicalBody through its identifier.
      */
-    private boolean hitEnded() {
-        this.stepCounterHit = this.updateCounter(this.stepCounterHit, HIT_COOLDOWN);
-        return this.counterEnded(this.stepCounterHit);
+    private SerializableBody getBody(final PhysicalBody body) {
+        return this.bodiesMetadata.get(body.getId()).getBody();
     }
 
     /*
-     * Calculates if the power up that allows to be invincible has terminated its effects or not.
+     * Attaches the given metadata to its body and stores it at its slot.
      */
-    private boolean invincibilityEnded() {
-        this.stepCounterInvincibility = this.updateCounter(this.stepCounterInvincibility, INVINCIBILITY_DURATION);
-        return this.counterEnded(this.stepCounterInvincibility);
+    private void attachMetadata(final BodyMetadata metadata) {
+        this.bodiesMetadata.set(metadata.getSlot(), metadata);
+        metadata.getBody().setUserData(metadata);
     }
 
     /*
-     * Calculates the value of a counter given the value after which has to overflow.
+     * Gets the metadata attached to the given body, null if the body isn't registered in this PhysicalWorld.
      */
-    private int updateCounter(final int currentValue, final int maxValue) {
-        return (currentValue + 1) % maxValue;
+    private BodyMetadata getMetadata(final Body body) {
+        return body != null && body.getUserData() instanceof BodyMetadata ? (BodyMetadata) body.getUserData() : null;
     }
 
     /*
-     * Calculates if a counter has overflowed.
+     * The user data of the bodies isn't serialized along with them, so the metadata is attached again to the bodies read.
      */
-    private boolean counterEnded(final int currentValue) {
-        return currentValue == 0;
+    private void readObject(final ObjectInputStream in) throws IOException, ClassNotFoundException {
+        in.defaultReadObject();
+        this.governor = new PhysicsQualityGovernor(this.world);
+        this.workers = Optional.absent();
+        this.bodiesMetadata.stream().filter(m -> m != null).forEach(m -> m.getBody().setUserData(m));
     }
 }
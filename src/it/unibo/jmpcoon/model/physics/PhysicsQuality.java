@@ -0,0 +1,56 @@
+package it.unibo.jmpcoon.model.physics;
+
+import org.dyn4j.dynamics.Settings;
+
+/**
+ * The levels of quality at which the physics of the game can be simulated, from the best to the worst. A lower quality makes
+ * the simulation faster, but the bodies can overlap more and the stacked ones can jitter a little. The continuous collision
+ * detection is never lowered: no body of the game is a bullet, so detecting only the fast bodies would turn it off, letting
+ * the player and the enemies pass through the platforms.
+ */
+public enum PhysicsQuality {
+    /**
+     * The quality given by the default settings of the physics engine.
+     */
+    FULL(Settings.DEFAULT_SOLVER_ITERATIONS, Settings.DEFAULT_SOLVER_ITERATIONS),
+    /**
+     * A quality with less iterations of the solver.
+     */
+    REDUCED(6, 4),
+    /**
+     * The lowest quality allowed, with the fewest iterations of the solver.
+     */
+    LOW(4, 2);
+
+    private final int velocityIterations;
+    private final int positionIterations;
+
+    PhysicsQuality(final int velocityIterations, final int positionIterations) {
+        this.velocityIterations = velocityIterations;
+        this.positionIterations = positionIterations;
+    }
+
+    /**
+     * Returns the next lower quality, or this quality if it's the lowest.
+     * @return the next lower {@link PhysicsQuality}
+     */
+    public PhysicsQuality lower() {
+        return this.ordinal() == values().length - 1 ? this : values()[this.ordinal() + 1];
+    }
+
+    /**
+     * Returns the next higher quality, or this quality if it's the highest.
+     * @return the next higher {@link PhysicsQuality}
+     */
+    public PhysicsQuality higher() {
+        return this.ordinal() == 0 ? this : values()[this.ordinal() - 1];
+    }
+
+    /*
+     * Applies this quality to the given settings of a world.
+     */
+    void apply(final Settings settings) {
+        settings.setVelocityConstraintSolverIterations(this.velocityIterations);
+        settings.setPositionConstraintSolverIterations(this.positionIterations);
+    }
+}
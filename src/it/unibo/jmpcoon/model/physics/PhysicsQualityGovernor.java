@@ -0,0 +1,115 @@
+package it.unibo.jmpcoon.model.physics;
+
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+
+import it.unibo.jmpcoon.model.serializable.SerializableWorld;
+
+/**
+ * A governor of the quality of the physics of a {@link SerializableWorld}, which measures how long each step takes and lowers
+ * the quality when the steps keep taking longer than a given budget, raising it again when they keep taking much less. The
+ * average time of a step is smoothed and the quality changes only after many steps above or below the budget, so a single slow
+ * step doesn't change anything. A deterministic world is always simulated at the {@link PhysicsQuality#FULL} quality, because
+ * the time measured is different on every machine. It's package protected because only the {@link PhysicalWorldImpl} should
+ * use it.
+ */
+final class PhysicsQualityGovernor {
+    private static final Logger LOGGER = Logger.getLogger(PhysicsQualityGovernor.class.getName());
+    private static final long DEFAULT_BUDGET = TimeUnit.MILLISECONDS.toNanos(4);
+    private static final double SMOOTHING = 0.1;
+    private static final int LOWER_AFTER = 30;
+    private static final int RAISE_AFTER = 300;
+    /* the quality is raised only when there's room for the more expensive steps of the higher quality */
+    private static final double RAISE_RATIO = 0.5;
+    private static final String ILLEGAL_BUDGET_MSG = "The budget of a step must be positive";
+
+    private final SerializableWorld world;
+    private PhysicsQuality quality;
+    private long budget;
+    private double averageNanos;
+    private int overBudgetSteps;
+    private int underBudgetSteps;
+
+    /*
+     * Builds a new PhysicsQualityGovernor for the given world, which is set to the full quality.
+     */
+    PhysicsQualityGovernor(final SerializableWorld world) {
+        this.world = world;
+        this.budget = DEFAULT_BUDGET;
+        this.setQuality(PhysicsQuality.FULL);
+    }
+
+    /*
+     * Sets the time a step of the world should take.
+     */
+    void setBudget(final long budget) {
+        if (budget <= 0) {
+            throw new IllegalArgumentException(ILLEGAL_BUDGET_MSG);
+        }
+        this.budget = budget;
+        this.overBudgetSteps = 0;
+        this.underBudgetSteps = 0;
+    }
+
+    /*
+     * Returns the time a step of the world should take.
+     */
+    long getBudget() {
+        return this.budget;
+    }
+
+    /*
+     * Returns the quality at which the world is currently simulated.
+     */
+    PhysicsQuality getQuality() {
+        return this.quality;
+    }
+
+    /*
+     * Records the time taken by the last step of the world and changes its quality if needed.
+     */
+    void stepped(final long nanos) {
+        if (this.world.isDeterministic()) {
+            if (this.quality != PhysicsQuality.FULL) {
+                this.changeQuality(PhysicsQuality.FULL);
+            }
+            return;
+        }
+        this.averageNanos = this.averageNanos == 0 ? nanos : this.averageNanos + SMOOTHING * (nanos - this.averageNanos);
+        if (this.averageNanos > this.budget) {
+            this.overBudgetSteps++;
+            this.underBudgetSteps = 0;
+        } else if (this.averageNanos < this.budget * RAISE_RATIO) {
+            this.underBudgetSteps++;
+            this.overBudgetSteps = 0;
+        } else {
+            this.overBudgetSteps = 0;
+            this.underBudgetSteps = 0;
+        }
+        if (this.overBudgetSteps >= LOWER_AFTER && this.quality.lower() != this.quality) {
+            this.changeQuality(this.quality.lower());
+        } else if (this.underBudgetSteps >= RAISE_AFTER && this.quality.higher() != this.quality) {
+            this.changeQuality(this.quality.higher());
+        }
+    }
+
+    /*
+     * Changes the quality of the world logging the change.
+     */
+    private void changeQuality(final PhysicsQuality newQuality) {
+        LOGGER.info("Physics quality changed from " + this.quality + " to " + newQuality + ", average step time "
+                    + this.averageNanos / TimeUnit.MILLISECONDS.toNanos(1) + " ms, budget "
+                    + (double) this.budget / TimeUnit.MILLISECONDS.toNanos(1) + " ms");
+        this.setQuality(newQuality);
+        this.overBudgetSteps = 0;
+        this.underBudgetSteps = 0;
+    }
+
+    /*
+     * Sets the quality of the world without logging.
+     */
+    private void setQuality(final PhysicsQuality newQuality) {
+        this.quality = newQuality;
+        newQuality.apply(this.world.getSettings());
+    }
+}
@@ -22,7 +22,22 @@ public final class PhysicsUtils {
      */
     public static boolean isBodyOnTop(final PhysicalBody aboveBody, final PhysicalBody belowBody,
                                       final Pair<Double, Double> contactPoint) {
-        return isContactAtEdgeBody(aboveBody, contactPoint, true) && isContactAtEdgeBody(belowBody, contactPoint, false);
+        return isBodyOnTop(aboveBody, belowBody, contactPoint.getLeft(), contactPoint.getRight());
+    }
+
+    /**
+     * Calculates if the first {@link PhysicalBody} is over the top of the other, as the one which is below is a rectangle and
+     * they can make contact on the top side, without needing to box the coordinates of the contact point.
+     * @param aboveBody the {@link PhysicalBody} which should be above
+     * @param belowBody the {@link PhysicalBody} which should be below
+     * @param contactX the horizontal coordinate of the contact point in world coordinates
+     * @param contactY the vertical coordinate of the contact point in world coordinates
+     * @return true if the first {@link PhysicalBody} is above the second {@link PhysicalBody} below 
+     */
+    public static boolean isBodyOnTop(final PhysicalBody aboveBody, final PhysicalBody belowBody, final double contactX,
+                                      final double contactY) {
+        return isContactAtEdgeBody(aboveBody, contactX, contactY, true)
+               && isContactAtEdgeBody(belowBody, contactX, contactY, false);
     }
 
     /**
@@ -60,27 +75,43 @@ public final class PhysicsUtils {
      */
     public static boolean isBodyAbove(final PhysicalBody aboveBody, final PhysicalBody belowBody,
                                       final Pair<Double, Double> contactPoint) {
-        return isContactAtEdgeBody(aboveBody, contactPoint, true)
-               && contactPoint.getRight() >= (belowBody.getPosition().getRight() + belowBody.getDimensions().getRight() / 4);
+        return isBodyAbove(aboveBody, belowBody, contactPoint.getLeft(), contactPoint.getRight());
+    }
+
+    /**
+     * Calculates if the first {@link PhysicalBody} is over the top of the other, as the one which is below is a circle and
+     * they can make contact on any point on the upper half of the body which should be below, without needing to box the
+     * coordinates of the contact point.
+     * @param aboveBody the {@link PhysicalBody} which should be above
+     * @param belowBody the {@link PhysicalBody} which should be below
+     * @param contactX the horizontal coordinate of the contact point in world coordinates
+     * @param contactY the vertical coordinate of the contact point in world coordinates
+     * @return true if the first {@link PhysicalBody} is above the second {@link PhysicalBody} below 
+     */
+    public static boolean isBodyAbove(final PhysicalBody aboveBody, final PhysicalBody belowBody, final double contactX,
+                                      final double contactY) {
+        return isContactAtEdgeBody(aboveBody, contactX, contactY, true)
+               && contactY >= (belowBody.getPosition().getRight() + belowBody.getDimensions().getRight() / 4);
     }
 
     /*
      * Calculates if a given contact point is at the edge of a physical body, considering also its rotation with respect to
      * the world axis, on its top or on its bottom depending on the passed parameter.
      */
-    private static boolean isContactAtEdgeBody(final PhysicalBody body, final Pair<Double, Double> contact, final boolean onTop) {
+    private static boolean isContactAtEdgeBody(final PhysicalBody body, final double contactX, final double contactY,
+                                               final boolean onTop) {
         final double slope = Math.tan(body.getAngle());
         if (Double.compare(slope, 0) == 0) {
             return Math.abs((body.getPosition().getRight() + (onTop ? -1 : 1) * body.getDimensions().getRight() / 2)
-                            - contact.getRight()) < PRECISION;
+                            - contactY) < PRECISION;
         }
-        final double interPerp = contact.getRight() + (1 / slope) * contact.getLeft();
+        final double interPerp = contactY + (1 / slope) * contactX;
         final double interParalAbove = body.getPosition().getRight() - slope * body.getPosition().getLeft();
         final double newXAbove = (interPerp - interParalAbove) * slope / (1 + Math.pow(slope, 2));
         final double newYAbove = slope * newXAbove + interParalAbove;
         final Vector2 rotatedHalfHeight = new Vector2(0, (onTop ? -1 : 1) * body.getDimensions().getRight() / 2)
                                           .rotate(body.getAngle())
                                           .add(newXAbove, newYAbove);
-        return Math.abs(rotatedHalfHeight.y - contact.getRight()) < PRECISION;
+        return Math.abs(rotatedHalfHeight.y - contactY) < PRECISION;
     }
 }
@@ -1,33 +1,71 @@
 package it.unibo.jmpcoon.model.physics;
 
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.util.Collections;
+import java.util.Set;
+
+import org.dyn4j.collision.CategoryFilter;
+import org.dyn4j.geometry.Geometry;
+import org.dyn4j.geometry.Rectangle;
+
+import com.google.common.collect.LinkedHashMultiset;
+import com.google.common.collect.Multiset;
+
+import it.unibo.jmpcoon.model.entities.EntityState;
+import it.unibo.jmpcoon.model.entities.MovementType;
 import it.unibo.jmpcoon.model.entities.PowerUpType;
 import it.unibo.jmpcoon.model.serializable.SerializableBody;
+import it.unibo.jmpcoon.model.timing.Timer;
+import it.unibo.jmpcoon.model.timing.TimingWheel;
 
 /**
  * A class representing a {@link PlayerPhysicalBody} that manages {@link it.unibo.jmpcoon.model.entities.Player} lives and
- * {@link it.unibo.jmpcoon.model.entities.PowerUp} effects on the player.
+ * {@link it.unibo.jmpcoon.model.entities.PowerUp} effects on the player. Its body has a thin sensor on its bottom side, its
+ * feet, whose contacts with the platforms are counted as they begin and end, so that knowing whether the player is on the
+ * ground doesn't require to look through its contacts. In the same way, it keeps the ladders it's overlapping. The effects
+ * which last for a while, as the invincibility, are ended by {@link Timer}s scheduled on the {@link TimingWheel} of the world.
  */
 public class PlayerPhysicalBody extends DynamicPhysicalBody {
-    private static final long serialVersionUID = -6099710781272943170L;
+    private static final long serialVersionUID = -7909447041396448302L;
     private static final double INVINCIBILITY_VELOCITY_X = 2;
     private static final double INVINCIBILITY_VELOCITY_Y = 2;
+    private static final int INVINCIBILITY_DURATION = 400;
+    private static final int HIT_COOLDOWN = 60;
+    private static final double FEET_WIDTH_RATIO = 0.9;
+    private static final double FEET_HEIGHT = 0.04;
+    /* the steps after leaving the ground in which the player can still jump, so that a jump pressed late isn't lost */
+    private static final int COYOTE_STEPS = 6;
+    private static final CategoryFilter FEET_FILTER = new CategoryFilter(CollisionCategory.PLAYER.getBit(),
+                                                                         CollisionCategory.PLATFORM.getBit());
 
     private final SerializableBody body;
     private boolean invincible;
     private boolean invulnerable;
     private int lives;
+    private final TimingWheel timers;
+    private Timer invincibilityTimer;
+    /* not saved, because the contacts are made again by the world after it's read, calling the methods counting them */
+    private transient int groundContacts;
+    private int stepsSinceGrounded;
+    /* the ladders overlapped with the number of their contact points, in the order in which they were first touched */
+    private transient Multiset<PhysicalBody> ladderContacts;
 
     /**
      * Builds a new {@link PlayerPhysicalBody}. This constructor is package protected because it should be only invoked 
      * by the {@link PhysicalFactoryImpl} when creating a new instance of it and no one else.
      * @param body the {@link SerializableBody} encapsulated by this {@link PlayerPhysicalBody}
+     * @param timers the {@link TimingWheel} of the world, on which scheduling the end of the effects
      */
-    PlayerPhysicalBody(final SerializableBody body) {
+    PlayerPhysicalBody(final SerializableBody body, final TimingWheel timers) {
         super(body);
         this.body = body;
+        this.timers = timers;
         this.invincible = false;
         this.invulnerable = false;
         this.lives = 1;
+        this.ladderContacts = LinkedHashMultiset.create();
+        addFeet(body);
     }
 
     /**
@@ -57,6 +95,11 @@ public class PlayerPhysicalBody extends DynamicPhysicalBody {
         } else if (powerUpType == PowerUpType.INVINCIBILITY) {
             this.invincible = true;
             this.modifyMaxVelocity(INVINCIBILITY_VELOCITY_X, INVINCIBILITY_VELOCITY_Y);
+            /* another power-up taken while invincible makes the invincibility last from the start */
+            if (this.invincibilityTimer != null) {
+                this.invincibilityTimer.cancel();
+            }
+            this.invincibilityTimer = this.timers.schedule(INVINCIBILITY_DURATION, this::endInvincibility);
         }
     }
 
@@ -76,6 +119,7 @@ public class PlayerPhysicalBody extends DynamicPhysicalBody {
         if (!this.invulnerable) {
             this.lives--;
             this.invulnerable = true;
+            this.timers.schedule(HIT_COOLDOWN, this::endInvulnerability);
         }
         if (this.lives == 0) {
             this.kill();
@@ -107,6 +151,120 @@ public class PlayerPhysicalBody extends DynamicPhysicalBody {
         this.invulnerable = false;
     }
 
+    /**
+     * {@inheritDoc}
+     * After a jump the player can't jump again until it lands, even if it's still in the time in which it could jump after
+     * leaving the ground.
+     */
+    @Override
+    public void applyMovement(final MovementType movement, final double x, final double y) {
+        super.applyMovement(movement, x, y);
+        if (movement == MovementType.JUMP) {
+            this.stepsSinceGrounded = COYOTE_STEPS + 1;
+        }
+    }
+
+    /**
+     * Signals that the feet of this {@link PlayerPhysicalBody} began touching a platform in one more point. It should be
+     * called only by the listener of the contacts of the world.
+     */
+    public void groundContactBegun() {
+        this.groundContacts++;
+    }
+
+    /**
+     * Signals that the feet of this {@link PlayerPhysicalBody} stopped touching a platform in one point. It should be called
+     * only by the listener of the contacts of the world.
+     */
+    public void groundContactEnded() {
+        if (this.groundContacts > 0) {
+            this.groundContacts--;
+        }
+    }
+
+    /**
+     * Returns whether the feet of this {@link PlayerPhysicalBody} are touching a platform.
+     * @return true if the player is on the ground, false otherwise
+     */
+    public boolean isGrounded() {
+        return this.groundContacts > 0;
+    }
+
+    /**
+     * Signals that this {@link PlayerPhysicalBody} began overlapping the given ladder in one more point. It should be called
+     * only by the listener of the contacts of the world.
+     * @param ladder the {@link PhysicalBody} of the {@link it.unibo.jmpcoon.model.entities.Ladder}
+     */
+    public void ladderContactBegun(final PhysicalBody ladder) {
+        this.ladderContacts.add(ladder);
+    }
+
+    /**
+     * Signals that this {@link PlayerPhysicalBody} stopped overlapping the given ladder in one point. It should be called
+     * only by the listener of the contacts of the world.
+     * @param ladder the {@link PhysicalBody} of the {@link it.unibo.jmpcoon.model.entities.Ladder}
+     */
+    public void ladderContactEnded(final PhysicalBody ladder) {
+        this.ladderContacts.remove(ladder);
+    }
+
+    /**
+     * Returns the ladders this {@link PlayerPhysicalBody} is currently overlapping, in the order in which it touched them.
+     * @return an unmodifiable {@link Set} of the {@link PhysicalBody}s of the {@link it.unibo.jmpcoon.model.entities.Ladder}s
+     */
+    public Set<PhysicalBody> getCollidingLadders() {
+        return Collections.unmodifiableSet(this.ladderContacts.elementSet());
+    }
+
+    /**
+     * Returns whether this {@link PlayerPhysicalBody} can jump, which happens if it's on the ground or has just left it
+     * without jumping, and it isn't already jumping or climbing a ladder.
+     * @return true if the player can jump, false otherwise
+     */
+    public boolean canJump() {
+        final EntityState state = this.getState();
+        return (this.isGrounded() || this.stepsSinceGrounded <= COYOTE_STEPS)
+               && state != EntityState.JUMPING && state != EntityState.CLIMBING_UP && state != EntityState.CLIMBING_DOWN;
+    }
+
+    /*
+     * Counts the steps since this body left the ground, it should be called after every step of the world. It returns
+     * whether this body has just landed after having been in the air.
+     */
+    boolean groundStepEnded() {
+        if (this.isGrounded()) {
+            final boolean landed = this.stepsSinceGrounded > 0;
+            this.stepsSinceGrounded = 0;
+            return landed;
+        }
+        if (this.stepsSinceGrounded <= COYOTE_STEPS) {
+            this.stepsSinceGrounded++;
+        }
+        return false;
+    }
+
+    /*
+     * Adds to the given body of a player the sensor of its feet, which isn't saved with the body so it's added again after
+     * the body is read. The feet are inside the body, so they sense only the platforms the body is pressing on: the engine
+     * doesn't look for the time of impact of two bodies in contact, sensors included, so feet sticking out of the body would
+     * make the player collide with the platforms and with what is near them in a different way.
+     */
+    private static void addFeet(final SerializableBody body) {
+        final Rectangle shape = (Rectangle) body.getFixture(0).getShape();
+        final Rectangle feet = Geometry.createRectangle(shape.getWidth() * FEET_WIDTH_RATIO, FEET_HEIGHT);
+        feet.translate(shape.getCenter().x, shape.getCenter().y - shape.getHeight() / 2 + FEET_HEIGHT / 2);
+        body.addTransientSensor(feet, FEET_FILTER);
+    }
+
+    /*
+     * The sensor of the feet isn't saved with the body, so it's added again. The ladders are found again by the contacts.
+     */
+    private void readObject(final ObjectInputStream in) throws IOException, ClassNotFoundException {
+        in.defaultReadObject();
+        this.ladderContacts = LinkedHashMultiset.create();
+        addFeet(this.body);
+    }
+
     /*
      * Modifies the maximum velocity of this {@link PlayerPhysicalBody}.
      * multiplierX is the multiplier for the default horizontal maximum velocity
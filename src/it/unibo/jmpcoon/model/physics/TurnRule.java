@@ -0,0 +1,15 @@
+package it.unibo.jmpcoon.model.physics;
+
+/**
+ * An enumeration representing when an enemy following an {@link EnemyBehavior} turns back.
+ */
+public enum TurnRule {
+    /**
+     * The enemy turns back when it has walked its whole range from the point where it last turned, or from where it started.
+     */
+    AT_RANGE_END,
+    /**
+     * The enemy never turns back, it keeps walking in the direction it started with.
+     */
+    NEVER;
+}
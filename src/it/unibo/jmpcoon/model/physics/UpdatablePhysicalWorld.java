@@ -2,9 +2,14 @@ package it.unibo.jmpcoon.model.physics;
 
 import java.io.Serializable;
 import java.util.Collection;
+import java.util.concurrent.ForkJoinPool;
 
 import org.apache.commons.lang3.tuple.Pair;
 
+import com.google.common.base.Optional;
+
+import it.unibo.jmpcoon.model.timing.TimingWheel;
+
 /**
  * An interface for providing physics management of {@link PhysicalBody}s to the {@link it.unibo.jmpcoon.model.world.World} and
  * management of the physical simulation in general.
@@ -18,6 +23,14 @@ public interface UpdatablePhysicalWorld extends Serializable {
      */
     boolean areBodiesInContact(PhysicalBody first, PhysicalBody second);
 
+    /**
+     * Gets the bodies of the {@link it.unibo.jmpcoon.model.entities.Ladder}s the player is currently overlapping, which are
+     * kept up to date as the contacts begin and end, so they don't need to be looked for.
+     * @return a {@link Collection} with the {@link PhysicalBody}s of the {@link it.unibo.jmpcoon.model.entities.Ladder}s
+     * overlapped by the player, empty if there's no player
+     */
+    Collection<PhysicalBody> getCollidingLadders();
+
     /**
      * Removes the {@link PhysicalBody} from this {@link PhysicalWorld}.
      * @param body the {@link PhysicalBody} to remove
@@ -33,8 +46,120 @@ public interface UpdatablePhysicalWorld extends Serializable {
      */
     Collection<Pair<PhysicalBody, Pair<Double, Double>>> getCollidingBodies(PhysicalBody body);
 
+    /**
+     * Gets the {@link TimingWheel} advanced at every step of this {@link PhysicalWorld}, on which scheduling what should
+     * happen after a number of steps. It's saved along with this {@link PhysicalWorld}.
+     * @return the {@link TimingWheel} of this {@link PhysicalWorld}
+     */
+    TimingWheel getTimingWheel();
+
+    /**
+     * Makes the given {@link PhysicalBody} of an enemy move by itself as described by the given {@link EnemyBehavior}, starting
+     * from where it is now, at the end of every step of this {@link PhysicalWorld}, so that the velocity it gets is used by the
+     * next step. The body stops following its behavior when it's removed, or follows the new one if another behavior is added
+     * to it.
+     * @param body the {@link PhysicalBody} of the enemy, which must be a {@link DynamicPhysicalBody} in this
+     * {@link PhysicalWorld}
+     * @param behavior the {@link EnemyBehavior} the enemy should follow
+     * @param range the range the enemy should walk across
+     * @throws IllegalArgumentException if the body isn't a {@link DynamicPhysicalBody} in this {@link PhysicalWorld} or if the
+     * range is negative
+     */
+    void addBehavior(PhysicalBody body, EnemyBehavior behavior, double range) throws IllegalArgumentException;
+
     /**
      * Updates the current state of the {@link PhysicalWorld} by advancing to the next simulation step.
      */
     void update();
+
+    /**
+     * Sets whether the simulation of this {@link PhysicalWorld} should be deterministic or not, meaning that two
+     * {@link PhysicalWorld}s in the same state and updated the same way always reach the same state.
+     * @param deterministic true if the simulation should be deterministic, false otherwise
+     */
+    void setDeterministic(boolean deterministic);
+
+    /**
+     * Returns whether the simulation of this {@link PhysicalWorld} is deterministic or not.
+     * @return true if the simulation is deterministic, false otherwise
+     */
+    boolean isDeterministic();
+
+    /**
+     * Sets the pool of workers on which the velocities the enemies with an {@link EnemyBehavior} intend to have are computed,
+     * when they're enough for it to be worth it. The velocities are always set on the bodies by the thread updating this
+     * {@link PhysicalWorld}, in the same order. The workers aren't saved along with this {@link PhysicalWorld}.
+     * @param workers the {@link ForkJoinPool} of workers to use, an empty {@link Optional} for computing everything on the
+     * thread updating this world
+     */
+    void setWorkers(Optional<ForkJoinPool> workers);
+
+    /**
+     * Sets the distance from the {@link it.unibo.jmpcoon.model.entities.Player} beyond which the bodies of the enemies are put to
+     * sleep, so that they are no longer simulated until the {@link it.unibo.jmpcoon.model.entities.Player} gets near again.
+     * @param activationDistance the distance within which the bodies of the enemies are always simulated
+     * @throws IllegalArgumentException if the distance is not positive
+     */
+    void setActivationDistance(double activationDistance) throws IllegalArgumentException;
+
+    /**
+     * Returns the distance from the {@link it.unibo.jmpcoon.model.entities.Player} beyond which the bodies of the enemies are put
+     * to sleep.
+     * @return the distance within which the bodies of the enemies are always simulated
+     */
+    double getActivationDistance();
+
+    /**
+     * Returns whether the given {@link PhysicalBody} has been put to sleep because it's too far from the
+     * {@link it.unibo.jmpcoon.model.entities.Player}, so that also the behavior of its entity should be suspended.
+     * @param body the {@link PhysicalBody} to check
+     * @return true if the {@link PhysicalBody} is sleeping, false otherwise
+     */
+    boolean isBodySleeping(PhysicalBody body);
+
+    /**
+     * Returns whether the given {@link PhysicalBody} is within the activation distance from the
+     * {@link it.unibo.jmpcoon.model.entities.Player}, so that a body created where it is would be simulated. Every body is
+     * within it when there's no {@link it.unibo.jmpcoon.model.entities.Player}.
+     * @param body the {@link PhysicalBody} to check, which must be in this {@link PhysicalWorld}
+     * @return true if the {@link PhysicalBody} is near enough to the {@link it.unibo.jmpcoon.model.entities.Player}, false
+     * otherwise
+     */
+    boolean isBodyInActivationRange(PhysicalBody body);
+
+    /**
+     * Returns the number of bodies of enemies currently simulated.
+     * @return the number of bodies of enemies awake
+     */
+    int getActiveBodiesCount();
+
+    /**
+     * Returns the number of bodies of enemies currently put to sleep because too far from the
+     * {@link it.unibo.jmpcoon.model.entities.Player}.
+     * @return the number of bodies of enemies sleeping
+     */
+    int getSleepingBodiesCount();
+
+    /**
+     * Sets the time a step of the simulation should take. When the steps keep taking longer, the quality of the simulation is
+     * lowered, and it's raised again when they keep taking much less. A deterministic simulation is always at the
+     * {@link PhysicsQuality#FULL} quality.
+     * @param budget the time a step should take in nanoseconds
+     * @throws IllegalArgumentException if the budget is not positive
+     */
+    void setPhysicsBudget(long budget) throws IllegalArgumentException;
+
+    /**
+     * Returns the quality at which the simulation is currently done.
+     * @return the current {@link PhysicsQuality}
+     */
+    PhysicsQuality getPhysicsQuality();
+
+    /**
+     * Returns the number of slots used for keeping the bodies of this {@link UpdatablePhysicalWorld}. The slots of the bodies
+     * removed are given to the bodies added later, so this is the highest number of bodies which have been in this
+     * {@link UpdatablePhysicalWorld} at the same time, not the number of bodies ever added.
+     * @return the number of slots for the bodies
+     */
+    int getBodySlotsCount();
 }
@@ -3,10 +3,6 @@ package it.unibo.jmpcoon.model.physics.collisions;
 
 import java.io.Serializable;
 
-import org.apache.commons.lang3.tuple.ImmutablePair;
-import org.apache.commons.lang3.tuple.ImmutableTriple;
-import org.apache.commons.lang3.tuple.Pair;
-import org.apache.commons.lang3.tuple.Triple;
 import org.dyn4j.dynamics.Body;
 import org.dyn4j.dynamics.CollisionAdapter;
 import org.dyn4j.dynamics.contact.ContactConstraint;
@@ -17,6 +13,7 @@ import com.google.common.base.Optional;
 import it.unibo.jmpcoon.model.entities.EntityState;
 import it.unibo.jmpcoon.model.entities.EntityType;
 import it.unibo.jmpcoon.model.entities.PowerUpType;
+import it.unibo.jmpcoon.model.physics.CollisionCategory;
 import it.unibo.jmpcoon.model.physics.PhysicalBody;
 import it.unibo.jmpcoon.model.physics.PhysicsUtils;
 import it.unibo.jmpcoon.model.physics.PlayerPhysicalBody;
@@ -29,6 +26,8 @@ import it.unibo.jmpcoon.model.world.NotifiableWorld;
  */
 public class CollisionRules extends CollisionAdapter implements Serializable {
     private static final long serialVersionUID = 7929553481812283534L;
+    private static final long PLAYER_BIT = CollisionCategory.PLAYER.getBit();
+    private static final CollisionHandler[][] HANDLERS = createHandlers();
     private final NotifiableWorld outerWorld;
     private final ReadablePhysicalWorld physicalWorld;
 
@@ -66,37 +65,64 @@ public class CollisionRules extends CollisionAdapter implements Serializable {
      * {@link it.unibo.jmpcoon.model.entities.Ladder} or is climbing down and is at the bottom of it, this means the
      * {@link it.unibo.jmpcoon.model.entities.Player} reached an end of the {@link it.unibo.jmpcoon.model.entities.Ladder}
      * and for this its climb should stop by going back to an {@link EntityState#IDLE} state.
+     * The collisions of sensors, as the feet of the {@link it.unibo.jmpcoon.model.entities.Player}, aren't managed here.
      */
     @Override
     public boolean collision(final ContactConstraint contactConstraint) {
-        final Body firstBody = contactConstraint.getBody1();
-        final Triple<Body, PhysicalBody, EntityType> firstTriple 
-            = new ImmutableTriple<>(firstBody, this.physicalWorld.getPhysicalBodyFromBody(firstBody),
-                                    this.physicalWorld.getEntityTypeFromBody(firstBody));
-        final Body secondBody = contactConstraint.getBody2();
-        final Triple<Body, PhysicalBody, EntityType> secondTriple 
-            = new ImmutableTriple<>(secondBody, this.physicalWorld.getPhysicalBodyFromBody(secondBody),
-                                    this.physicalWorld.getEntityTypeFromBody(secondBody));
-        if (firstTriple.getRight() == EntityType.PLAYER || secondTriple.getRight() == EntityType.PLAYER) {
-            final Optional<PlayerPhysicalBody> playerPhysicalBodyOpt = this.physicalWorld.getPlayerPhysicalBody();
-            if (playerPhysicalBodyOpt.isPresent()) {
-                final Triple<Body, PhysicalBody, EntityType> otherTriple
-                    = firstTriple.getRight() != EntityType.PLAYER ? firstTriple : secondTriple;
-                final PlayerPhysicalBody playerPhysicalBody = playerPhysicalBodyOpt.get();
-                final Vector2 point = contactConstraint.getContacts().get(0).getPoint();
-                final Pair<Double, Double> collisionPoint = new ImmutablePair<>(point.x, point.y);
-                final EntityState playerState = playerPhysicalBody.getState();
-                if (otherTriple.getRight() == EntityType.POWERUP) {
-                    this.processPowerUp(playerPhysicalBody, otherTriple.getLeft());
-                } else if (otherTriple.getRight() == EntityType.WALKING_ENEMY
-                           || otherTriple.getRight() == EntityType.ROLLING_ENEMY) {
-                    return this.processEnemyCollision(playerPhysicalBody, playerState, otherTriple, collisionPoint);
-                } else if (otherTriple.getRight() == EntityType.PLATFORM) {
-                    this.processPlatform(playerPhysicalBody, playerState, otherTriple.getMiddle(), collisionPoint);
-                }
-            }
+        final long firstCategory = CollisionCategory.getCategoryBits(contactConstraint.getFixture1());
+        final long secondCategory = CollisionCategory.getCategoryBits(contactConstraint.getFixture2());
+        if (contactConstraint.isSensor() || ((firstCategory | secondCategory) & PLAYER_BIT) == 0
+            || Long.bitCount(firstCategory) != 1 || Long.bitCount(secondCategory) != 1) {
+            return true;
         }
-        return true;
+        final CollisionHandler handler
+            = HANDLERS[CollisionCategory.getEntityType(firstCategory).ordinal()]
+                      [CollisionCategory.getEntityType(secondCategory).ordinal()];
+        if (handler == null) {
+            return true;
+        }
+        final Optional<PlayerPhysicalBody> playerPhysicalBody = this.physicalWorld.getPlayerPhysicalBody();
+        if (!playerPhysicalBody.isPresent()) {
+            return true;
+        }
+        final Body otherBody = firstCategory == PLAYER_BIT ? contactConstraint.getBody2() : contactConstraint.getBody1();
+        final Vector2 point = contactConstraint.getContacts().get(0).getPoint();
+        return handler.handle(this, playerPhysicalBody.get(), otherBody, point.x, point.y);
+    }
+
+    /*
+     * Builds the table of handlers indexed by the ordinals of the types of the two colliding bodies, in which every handler is
+     * registered both ways so that the order in which the bodies are given by the engine doesn't matter.
+     */
+    private static CollisionHandler[][] createHandlers() {
+        final int types = EntityType.values().length;
+        final CollisionHandler[][] handlers = new CollisionHandler[types][types];
+        final CollisionHandler powerUpHandler = (rules, player, other, x, y) -> {
+            rules.processPowerUp(player, other);
+            return true;
+        };
+        final CollisionHandler walkingEnemyHandler = (rules, player, other, x, y)
+            -> rules.processEnemyCollision(player, other, EntityType.WALKING_ENEMY, x, y);
+        final CollisionHandler rollingEnemyHandler = (rules, player, other, x, y)
+            -> rules.processEnemyCollision(player, other, EntityType.ROLLING_ENEMY, x, y);
+        final CollisionHandler platformHandler = (rules, player, other, x, y) -> {
+            rules.processPlatform(player, other, x, y);
+            return true;
+        };
+        registerHandler(handlers, EntityType.POWERUP, powerUpHandler);
+        registerHandler(handlers, EntityType.WALKING_ENEMY, walkingEnemyHandler);
+        registerHandler(handlers, EntityType.ROLLING_ENEMY, rollingEnemyHandler);
+        registerHandler(handlers, EntityType.PLATFORM, platformHandler);
+        return handlers;
+    }
+
+    /*
+     * Registers the given handler for the collisions between the player and the given type, in both orders.
+     */
+    private static void registerHandler(final CollisionHandler[][] handlers, final EntityType otherType,
+                                        final CollisionHandler handler) {
+        handlers[EntityType.PLAYER.ordinal()][otherType.ordinal()] = handler;
+        handlers[otherType.ordinal()][EntityType.PLAYER.ordinal()] = handler;
     }
 
     /*
@@ -117,19 +143,21 @@ public class CollisionRules extends CollisionAdapter implements Serializable {
     /*
      * Method for elaborating collision rules in a collision between the player and an enemy.
      */
-    private boolean processEnemyCollision(final PlayerPhysicalBody playerPhysicalBody, final EntityState playerState, 
-                                          final Triple<Body, PhysicalBody, EntityType> enemyTriple,
-                                          final Pair<Double, Double> collisionPoint) {
+    private boolean processEnemyCollision(final PlayerPhysicalBody playerPhysicalBody, final Body enemyBody,
+                                          final EntityType enemyType, final double collisionX, final double collisionY) {
+        final EntityState playerState = playerPhysicalBody.getState();
         if (playerState == EntityState.CLIMBING_UP || playerState == EntityState.CLIMBING_DOWN) {
             return false;
         }
         if (playerPhysicalBody.isInvincible()
-            || (enemyTriple.getRight() == EntityType.WALKING_ENEMY 
-                && PhysicsUtils.isBodyOnTop(playerPhysicalBody, enemyTriple.getMiddle(), collisionPoint))
-            || (enemyTriple.getRight() == EntityType.ROLLING_ENEMY
-                && PhysicsUtils.isBodyAbove(playerPhysicalBody, enemyTriple.getMiddle(), collisionPoint))) {
-            enemyTriple.getLeft().setActive(false);
-            this.outerWorld.notifyCollision(enemyTriple.getRight() == EntityType.WALKING_ENEMY
+            || (enemyType == EntityType.WALKING_ENEMY
+                && PhysicsUtils.isBodyOnTop(playerPhysicalBody, this.physicalWorld.getPhysicalBodyFromBody(enemyBody),
+                                            collisionX, collisionY))
+            || (enemyType == EntityType.ROLLING_ENEMY
+                && PhysicsUtils.isBodyAbove(playerPhysicalBody, this.physicalWorld.getPhysicalBodyFromBody(enemyBody),
+                                            collisionX, collisionY))) {
+            enemyBody.setActive(false);
+            this.outerWorld.notifyCollision(enemyType == EntityType.WALKING_ENEMY
                                             ? CollisionEvent.WALKING_ENEMY_KILLED
                                             : CollisionEvent.ROLLING_ENEMY_KILLED);
             return true;
@@ -146,18 +174,29 @@ public class CollisionRules extends CollisionAdapter implements Serializable {
     /*
      * Method for elaborating collision rules in a collision between the player and a platform.
      */
-    private void processPlatform(final PlayerPhysicalBody playerPhysicalBody, final EntityState playerState,
-                                 final PhysicalBody platformPhysicalBody, final Pair<Double, Double> collisionPoint) {
+    private void processPlatform(final PlayerPhysicalBody playerPhysicalBody, final Body platformBody,
+                                 final double collisionX, final double collisionY) {
+        final EntityState playerState = playerPhysicalBody.getState();
         final Optional<PhysicalBody> collidingLadder = this.physicalWorld.getCollidingLadder();
         if ((playerState == EntityState.CLIMBING_DOWN || playerState == EntityState.CLIMBING_UP)
             && collidingLadder.isPresent()) {
             final PhysicalBody actualLadder = collidingLadder.get();
             final boolean isPlayerAtBottomLadder = PhysicsUtils.isBodyAtBottomHalf(playerPhysicalBody, actualLadder);
-            if (PhysicsUtils.isBodyOnTop(playerPhysicalBody, platformPhysicalBody, collisionPoint)
+            if (PhysicsUtils.isBodyOnTop(playerPhysicalBody, this.physicalWorld.getPhysicalBodyFromBody(platformBody),
+                                         collisionX, collisionY)
                 && ((playerState == EntityState.CLIMBING_DOWN && isPlayerAtBottomLadder)
                     || (playerState == EntityState.CLIMBING_UP && !isPlayerAtBottomLadder))) {
                 playerPhysicalBody.setIdle();
             }
         }
     }
+
+    /*
+     * A rule to be applied when the player collides with a body of a given type, which receives the coordinates of the contact
+     * point as they are so as not to box them at every collision. It returns false if the collision should be ignored.
+     */
+    @FunctionalInterface
+    private interface CollisionHandler {
+        boolean handle(CollisionRules rules, PlayerPhysicalBody player, Body other, double contactX, double contactY);
+    }
 }
@@ -2,8 +2,6 @@ package it.unibo.jmpcoon.model.physics.collisions;
 
 import java.io.Serializable;
 
-import org.apache.commons.lang3.tuple.ImmutablePair;
-import org.dyn4j.dynamics.Body;
 import org.dyn4j.dynamics.contact.ContactAdapter;
 import org.dyn4j.dynamics.contact.ContactPoint;
 import org.dyn4j.geometry.Vector2;
@@ -11,9 +9,10 @@ import org.dyn4j.geometry.Vector2;
 import com.google.common.base.Optional;
 
 import it.unibo.jmpcoon.model.entities.EntityState;
-import it.unibo.jmpcoon.model.entities.EntityType;
+import it.unibo.jmpcoon.model.physics.CollisionCategory;
 import it.unibo.jmpcoon.model.physics.PhysicalBody;
 import it.unibo.jmpcoon.model.physics.PhysicsUtils;
+import it.unibo.jmpcoon.model.physics.PlayerPhysicalBody;
 import it.unibo.jmpcoon.model.physics.ReadablePhysicalWorld;
 
 /**
@@ -21,6 +20,10 @@ import it.unibo.jmpcoon.model.physics.ReadablePhysicalWorld;
  */
 public class ContactRules extends ContactAdapter implements Serializable {
     private static final long serialVersionUID = -5814150230389633139L;
+    private static final long PLAYER_BIT = CollisionCategory.PLAYER.getBit();
+    private static final long LADDER_BIT = CollisionCategory.LADDER.getBit();
+    private static final long PLAYER_PLATFORM_BITS = PLAYER_BIT | CollisionCategory.PLATFORM.getBit();
+    private static final long PLAYER_LADDER_BITS = PLAYER_BIT | LADDER_BIT;
     private final ReadablePhysicalWorld world;
 
     /**
@@ -36,6 +39,55 @@ public class ContactRules extends ContactAdapter implements Serializable {
         this.world = world;
     }
 
+    /**
+     * {@inheritDoc}
+     * If the contact is between the feet of the {@link it.unibo.jmpcoon.model.entities.Player} and a
+     * {@link it.unibo.jmpcoon.model.entities.Platform}, the {@link PlayerPhysicalBody} is told it's touching the ground in one
+     * more point. If the contact is between the {@link it.unibo.jmpcoon.model.entities.Player} and a
+     * {@link it.unibo.jmpcoon.model.entities.Ladder}, the {@link PlayerPhysicalBody} is told it's overlapping the ladder in
+     * one more point.
+     */
+    @Override
+    public boolean begin(final ContactPoint point) {
+        if (point.isSensor()) {
+            final Optional<PlayerPhysicalBody> player = this.world.getPlayerPhysicalBody();
+            if (player.isPresent()) {
+                final long categories = CollisionCategory.getCategoryBits(point.getFixture1())
+                                        | CollisionCategory.getCategoryBits(point.getFixture2());
+                if (categories == PLAYER_PLATFORM_BITS) {
+                    player.get().groundContactBegun();
+                } else if (categories == PLAYER_LADDER_BITS) {
+                    player.get().ladderContactBegun(this.getLadder(point));
+                }
+            }
+        }
+        return true;
+    }
+
+    /**
+     * {@inheritDoc}
+     * If the contact is between the feet of the {@link it.unibo.jmpcoon.model.entities.Player} and a
+     * {@link it.unibo.jmpcoon.model.entities.Platform}, the {@link PlayerPhysicalBody} is told it's touching the ground in one
+     * less point. If the contact is between the {@link it.unibo.jmpcoon.model.entities.Player} and a
+     * {@link it.unibo.jmpcoon.model.entities.Ladder}, the {@link PlayerPhysicalBody} is told it's overlapping the ladder in
+     * one less point.
+     */
+    @Override
+    public void end(final ContactPoint point) {
+        if (point.isSensor()) {
+            final Optional<PlayerPhysicalBody> player = this.world.getPlayerPhysicalBody();
+            if (player.isPresent()) {
+                final long categories = CollisionCategory.getCategoryBits(point.getFixture1())
+                                        | CollisionCategory.getCategoryBits(point.getFixture2());
+                if (categories == PLAYER_PLATFORM_BITS) {
+                    player.get().groundContactEnded();
+                } else if (categories == PLAYER_LADDER_BITS) {
+                    player.get().ladderContactEnded(this.getLadder(point));
+                }
+            }
+        }
+    }
+
     /**
      * {@inheritDoc}
      * The only contacts that matters are the ones between {@link it.unibo.jmpcoon.model.entities.Player} and
@@ -51,25 +103,21 @@ public class ContactRules extends ContactAdapter implements Serializable {
      */
     @Override
     public boolean preSolve(final ContactPoint point) {
-        final Body firstBody = point.getBody1();
-        final EntityType firstType = this.world.getEntityTypeFromBody(firstBody);
-        final Body secondBody = point.getBody2();
-        final EntityType secondType = this.world.getEntityTypeFromBody(secondBody);
-        if ((firstType == EntityType.PLAYER && secondType == EntityType.PLATFORM) 
-            || (firstType == EntityType.PLATFORM && secondType == EntityType.PLAYER)) {
-            final PhysicalBody playerBody = firstType == EntityType.PLAYER 
-                                            ? this.world.getPhysicalBodyFromBody(firstBody)
-                                            : this.world.getPhysicalBodyFromBody(secondBody);
+        final long firstCategory = CollisionCategory.getCategoryBits(point.getFixture1());
+        final long secondCategory = CollisionCategory.getCategoryBits(point.getFixture2());
+        if ((firstCategory | secondCategory) == PLAYER_PLATFORM_BITS && firstCategory != secondCategory) {
+            final boolean isFirstPlayer = firstCategory == PLAYER_BIT;
+            final PhysicalBody playerBody = this.world.getPhysicalBodyFromBody(isFirstPlayer ? point.getBody1()
+                                                                                              : point.getBody2());
             final EntityState playerState = playerBody.getState();
-            final PhysicalBody platformBody = firstType == EntityType.PLATFORM 
-                                              ? this.world.getPhysicalBodyFromBody(firstBody)
-                                              : this.world.getPhysicalBodyFromBody(secondBody);
             final Optional<PhysicalBody> collidingLadder = this.world.getCollidingLadder();
             if ((playerState == EntityState.CLIMBING_DOWN || playerState == EntityState.CLIMBING_UP)
                 && collidingLadder.isPresent()) {
                 final Vector2 coordinates = point.getPoint();
+                final PhysicalBody platformBody = this.world.getPhysicalBodyFromBody(isFirstPlayer ? point.getBody2()
+                                                                                                    : point.getBody1());
                 final PhysicalBody actualLadder = collidingLadder.get();
-                if (!PhysicsUtils.isBodyOnTop(playerBody, platformBody, new ImmutablePair<>(coordinates.x, coordinates.y))
+                if (!PhysicsUtils.isBodyOnTop(playerBody, platformBody, coordinates.x, coordinates.y)
                     || ((playerState == EntityState.CLIMBING_DOWN 
                          && !PhysicsUtils.isBodyAtBottomHalf(playerBody, actualLadder))
                         || (playerState == EntityState.CLIMBING_UP 
@@ -80,4 +128,12 @@ public class ContactRules extends ContactAdapter implements Serializable {
         }
         return true;
     }
+
+    /*
+     * Returns the physical body of the ladder in a contact between the player and a ladder.
+     */
+    private PhysicalBody getLadder(final ContactPoint point) {
+        return this.world.getPhysicalBodyFromBody(CollisionCategory.getCategoryBits(point.getFixture1()) == LADDER_BIT
+                                                  ? point.getBody1() : point.getBody2());
+    }
 }
@@ -0,0 +1,79 @@
+package it.unibo.jmpcoon.model.serializable;
+
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.ListIterator;
+
+import org.dyn4j.collision.broadphase.BroadphaseFilter;
+import org.dyn4j.collision.broadphase.BroadphaseItem;
+import org.dyn4j.collision.broadphase.BroadphasePair;
+import org.dyn4j.collision.broadphase.DynamicAABBTree;
+import org.dyn4j.dynamics.Body;
+import org.dyn4j.dynamics.BodyFixture;
+import org.dyn4j.geometry.AABB;
+import org.dyn4j.geometry.Ray;
+
+/**
+ * A {@link DynamicAABBTree} which returns the pairs and the items it detects always in the same order, the one in which their
+ * {@link Body}s were added to the {@link SerializableWorld}. The plain {@link DynamicAABBTree} returns them in an order which
+ * depends on the random identifiers of the {@link Body}s, so the order in which contacts are created and solved changes
+ * from a run to another.
+ */
+final class OrderedDynamicAABBTree extends DynamicAABBTree<Body, BodyFixture> {
+    private static final Comparator<BroadphasePair<Body, BodyFixture>> PAIR_ORDER
+        = Comparator.<BroadphasePair<Body, BodyFixture>>comparingLong(p -> getSequenceNumber(p.getCollidable1()))
+                    .thenComparingLong(p -> getSequenceNumber(p.getCollidable2()));
+    private static final Comparator<BroadphaseItem<Body, BodyFixture>> ITEM_ORDER
+        = Comparator.comparingLong(i -> getSequenceNumber(i.getCollidable()));
+
+    /**
+     * {@inheritDoc}
+     * The pairs are ordered by the first {@link Body} added, then by the second, and in each pair the first {@link Body} is
+     * the one added first.
+     */
+    @Override
+    public List<BroadphasePair<Body, BodyFixture>> detect(final BroadphaseFilter<Body, BodyFixture> filter) {
+        final List<BroadphasePair<Body, BodyFixture>> pairs = super.detect(filter);
+        final ListIterator<BroadphasePair<Body, BodyFixture>> iterator = pairs.listIterator();
+        while (iterator.hasNext()) {
+            final BroadphasePair<Body, BodyFixture> pair = iterator.next();
+            if (getSequenceNumber(pair.getCollidable1()) > getSequenceNumber(pair.getCollidable2())) {
+                iterator.set(new BroadphasePair<>(pair.getCollidable2(), pair.getFixture2(),
+                                                  pair.getCollidable1(), pair.getFixture1()));
+            }
+        }
+        Collections.sort(pairs, PAIR_ORDER);
+        return pairs;
+    }
+
+    /**
+     * {@inheritDoc}
+     * The items are ordered by the time their {@link Body} was added.
+     */
+    @Override
+    public List<BroadphaseItem<Body, BodyFixture>> detect(final AABB aabb, final BroadphaseFilter<Body, BodyFixture> filter) {
+        final List<BroadphaseItem<Body, BodyFixture>> items = super.detect(aabb, filter);
+        Collections.sort(items, ITEM_ORDER);
+        return items;
+    }
+
+    /**
+     * {@inheritDoc}
+     * The items are ordered by the time their {@link Body} was added.
+     */
+    @Override
+    public List<BroadphaseItem<Body, BodyFixture>> raycast(final Ray ray, final double length,
+                                                           final BroadphaseFilter<Body, BodyFixture> filter) {
+        final List<BroadphaseItem<Body, BodyFixture>> items = super.raycast(ray, length, filter);
+        Collections.sort(items, ITEM_ORDER);
+        return items;
+    }
+
+    /*
+     * Bodies not created by this game come after all the others, keeping the order in which they were detected.
+     */
+    private static long getSequenceNumber(final Body body) {
+        return body instanceof SerializableBody ? ((SerializableBody) body).getSequenceNumber() : Long.MAX_VALUE;
+    }
+}
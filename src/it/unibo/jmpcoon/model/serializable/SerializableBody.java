@@ -5,19 +5,21 @@ import java.io.NotSerializableException;
 import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
 import java.io.Serializable;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Set;
 
 import org.dyn4j.collision.CategoryFilter;
 import org.dyn4j.dynamics.Body;
 import org.dyn4j.dynamics.BodyFixture;
 import org.dyn4j.geometry.Circle;
+import org.dyn4j.geometry.Convex;
 import org.dyn4j.geometry.Geometry;
 import org.dyn4j.geometry.Mass;
 import org.dyn4j.geometry.MassType;
 import org.dyn4j.geometry.Rectangle;
 import org.dyn4j.geometry.Vector2;
 
-import com.google.common.hash.Hashing;
-
 import it.unibo.jmpcoon.model.physics.BodyShape;
 
 /**
@@ -30,10 +32,37 @@ public class SerializableBody extends Body implements Serializable {
     private static final String NO_WRITABLE_MSG = "This body is in an illegal state, so it isn't serializable";
     private static final String NO_READABLE_MSG = "The body read is in an illegal state";
 
+    /* not serialized, it's given again by the SerializableWorld when the body is added to it */
+    private long sequenceNumber;
+    /* not serialized, they are added again by who added them when the body is read; null until the first is added */
+    private Set<BodyFixture> transientFixtures;
+
+    /**
+     * Adds a sensor {@link BodyFixture} which isn't serialized along with this body, for the sensors derived from the other
+     * fixtures which are added again by who added them in the first place when this body is read. It doesn't change the mass
+     * of this body, which should already be set.
+     * @param shape the {@link Convex} shape of the sensor, in the coordinates local to this body
+     * @param filter the {@link CategoryFilter} of the sensor
+     * @return the {@link BodyFixture} added
+     */
+    public BodyFixture addTransientSensor(final Convex shape, final CategoryFilter filter) {
+        final BodyFixture fixture = this.addFixture(shape);
+        fixture.setSensor(true);
+        fixture.setFilter(filter);
+        if (this.transientFixtures == null) {
+            this.transientFixtures = Collections.newSetFromMap(new IdentityHashMap<>());
+        }
+        this.transientFixtures.add(fixture);
+        return fixture;
+    }
+
     private void writeObject(final ObjectOutputStream out) throws IOException {
         /* writing number of fixtures */
-        out.writeInt(this.getFixtureCount());
+        out.writeInt(this.getFixtureCount() - (this.transientFixtures == null ? 0 : this.transientFixtures.size()));
         for (final BodyFixture fixture: this.getFixtures()) { 
+            if (this.transientFixtures != null && this.transientFixtures.contains(fixture)) {
+                continue;
+            }
             /* writing dimensions */
             if (fixture.getShape() instanceof Rectangle) {
                 final Rectangle rectangle = (Rectangle) fixture.getShape();
@@ -160,6 +189,20 @@ public class SerializableBody extends Body implements Serializable {
         }
     }
 
+    /*
+     * Returns the number of bodies added to the SerializableWorld containing this body before this one.
+     */
+    long getSequenceNumber() {
+        return this.sequenceNumber;
+    }
+
+    /*
+     * Sets the number of bodies added to the SerializableWorld containing this body before this one.
+     */
+    void setSequenceNumber(final long sequenceNumber) {
+        this.sequenceNumber = sequenceNumber;
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -179,6 +222,6 @@ public class SerializableBody extends Body implements Serializable {
      */
     @Override
     public int hashCode() {
-        return Hashing.murmur3_128().hashInt(this.getId().hashCode()).asInt();
+        return this.getId().hashCode();
     }
 }
@@ -7,6 +7,7 @@ import java.io.ObjectOutputStream;
 import java.io.Serializable;
 
 import org.dyn4j.collision.AxisAlignedBounds;
+import org.dyn4j.collision.broadphase.DynamicAABBTree;
 import org.dyn4j.dynamics.Body;
 import org.dyn4j.dynamics.World;
 
@@ -18,7 +19,11 @@ import it.unibo.jmpcoon.model.physics.collisions.ContactRules;
  * game are serialized.
  */
 public class SerializableWorld extends World implements Serializable {
-    private static final long serialVersionUID = -3797499068693856432L;
+    private static final long serialVersionUID = -3078077082790043059L;
+
+    /* not serialized by default, see writeObject and readObject */
+    private boolean deterministic;
+    private long nextSequenceNumber;
 
     /**
      * Builds a new {@link SerializableWorld}.
@@ -26,6 +31,42 @@ public class SerializableWorld extends World implements Serializable {
      */
     public SerializableWorld(final AxisAlignedBounds axisAlignedBounds) {
         super(axisAlignedBounds);
+        this.deterministic = false;
+        this.nextSequenceNumber = 0;
+    }
+
+    /**
+     * {@inheritDoc}
+     * If the {@link Body} is a {@link SerializableBody}, it's also given the order in which it was added to this world.
+     */
+    @Override
+    public void addBody(final Body body) {
+        if (body instanceof SerializableBody) {
+            ((SerializableBody) body).setSequenceNumber(this.nextSequenceNumber);
+            this.nextSequenceNumber++;
+        }
+        super.addBody(body);
+    }
+
+    /**
+     * Sets whether this world should be deterministic or not. A deterministic world detects the collisions between its
+     * {@link Body}s always in the order in which they were added, so it creates and solves contacts in the same order every
+     * time, and so two deterministic worlds in the same state and stepped the same way always reach the same state.
+     * @param deterministic true if this world should be deterministic, false otherwise
+     */
+    public void setDeterministic(final boolean deterministic) {
+        if (this.deterministic != deterministic) {
+            this.deterministic = deterministic;
+            this.setBroadphaseDetector(deterministic ? new OrderedDynamicAABBTree() : new DynamicAABBTree<>());
+        }
+    }
+
+    /**
+     * Returns whether this world is deterministic or not.
+     * @return true if this world is deterministic, false otherwise
+     */
+    public boolean isDeterministic() {
+        return this.deterministic;
     }
 
     private void writeObject(final ObjectOutputStream out) throws IOException {
@@ -48,6 +89,8 @@ public class SerializableWorld extends World implements Serializable {
         } else {
             throw new NotSerializableException("Not all the bodies contained in this World are serializable");
         }
+        /* writing if the world is deterministic */
+        out.writeBoolean(this.deterministic);
     }
 
     private void readObject(final ObjectInputStream in) throws IOException, ClassNotFoundException {
@@ -65,5 +108,7 @@ public class SerializableWorld extends World implements Serializable {
             final Body body = (Body) in.readObject();
             this.addBody(body);
         }
+        /* reading if the world is deterministic */
+        this.setDeterministic(in.readBoolean());
     }
 }
@@ -0,0 +1,16 @@
+package it.unibo.jmpcoon.model.timing;
+
+import java.io.Serializable;
+
+/**
+ * An action scheduled on a {@link TimingWheel}, run when its {@link Timer} expires. It's {@link Serializable} because the
+ * actions are saved along with the {@link TimingWheel} which contains them, so they should be instances of named classes or
+ * references to methods, which can be read again even by a different build of the game.
+ */
+@FunctionalInterface
+public interface TimedAction extends Serializable {
+    /**
+     * Runs this action, because the {@link Timer} with which it was scheduled has expired.
+     */
+    void onExpired();
+}
@@ -0,0 +1,27 @@
+package it.unibo.jmpcoon.model.timing;
+
+import java.io.Serializable;
+
+/**
+ * A handle to a {@link TimedAction} scheduled on a {@link TimingWheel}, through which the action can be cancelled before it
+ * runs.
+ */
+public interface Timer extends Serializable {
+    /**
+     * Returns whether the action of this {@link Timer} is still going to run, which is false after a one-shot action has run
+     * or after this {@link Timer} has been cancelled.
+     * @return true if this {@link Timer} is scheduled, false otherwise
+     */
+    boolean isScheduled();
+
+    /**
+     * Returns the number of ticks after which the action of this {@link Timer} is going to run next.
+     * @return the number of ticks left, zero if this {@link Timer} isn't scheduled
+     */
+    long getRemainingTicks();
+
+    /**
+     * Cancels this {@link Timer}, so that its action doesn't run anymore. It does nothing if this {@link Timer} isn't scheduled.
+     */
+    void cancel();
+}
@@ -0,0 +1,52 @@
+package it.unibo.jmpcoon.model.timing;
+
+import java.io.Serializable;
+
+/**
+ * A scheduler of {@link TimedAction}s which is advanced one tick at a time by the simulation, so that the timed behaviors
+ * of the game, as the duration of a power-up or the interval between two enemies generated, don't need to be polled at every
+ * tick by whom they belong to. Scheduling and cancelling an action take constant time, and advancing a tick only costs for
+ * the actions which expire in that tick. It's {@link Serializable} along with its scheduled actions, so that a saved game
+ * resumes with the same ticks left for every action.
+ */
+public interface TimingWheel extends Serializable {
+    /**
+     * Schedules an action to be run once after the given number of ticks.
+     * @param ticks the number of ticks after which running the action, with one meaning the next tick
+     * @param action the {@link TimedAction} to run
+     * @return the {@link Timer} of the action, through which it can be cancelled
+     * @throws IllegalArgumentException if the number of ticks is less than one or more than the maximum supported
+     */
+    Timer schedule(long ticks, TimedAction action) throws IllegalArgumentException;
+
+    /**
+     * Schedules an action to be run after the given number of ticks and then again every period, until its {@link Timer} is
+     * cancelled.
+     * @param ticks the number of ticks after which running the action the first time, with one meaning the next tick
+     * @param period the number of ticks between two following runs of the action
+     * @param action the {@link TimedAction} to run
+     * @return the {@link Timer} of the action, through which it can be cancelled
+     * @throws IllegalArgumentException if the number of ticks or the period are less than one or more than the maximum
+     * supported
+     */
+    Timer scheduleRepeating(long ticks, long period, TimedAction action) throws IllegalArgumentException;
+
+    /**
+     * Advances this {@link TimingWheel} by one tick, running all the actions that expire in the new tick. Their order depends
+     * only on how they were scheduled, so the same game always runs them in the same order. The actions can schedule or
+     * cancel other actions while they run.
+     */
+    void advance();
+
+    /**
+     * Returns the number of ticks this {@link TimingWheel} has been advanced since it was created.
+     * @return the current tick
+     */
+    long getTick();
+
+    /**
+     * Returns the number of actions currently scheduled on this {@link TimingWheel}.
+     * @return the number of scheduled {@link Timer}s
+     */
+    int getScheduledCount();
+}
@@ -0,0 +1,263 @@
+package it.unibo.jmpcoon.model.timing;
+
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.Objects;
+
+/**
+ * The class implementation of {@link TimingWheel}, a hierarchical timing wheel. Every level of the wheel has a ring of slots,
+ * each one covering the ticks of a whole slot of the level below, and a {@link Timer} is put in the lowest level which can
+ * contain its expiry, so that it's inserted and cancelled in constant time. When the lower level completes a turn, the timers
+ * in the next slot of the level above are moved down, until they reach the lowest level and expire in the tick of their slot.
+ * Only the scheduled timers are saved, the slots are rebuilt when this wheel is read.
+ */
+public final class TimingWheelImpl implements TimingWheel {
+    private static final long serialVersionUID = -2317650348917405512L;
+    private static final int SLOT_BITS = 6;
+    private static final int SLOTS = 1 << SLOT_BITS;
+    private static final int SLOT_MASK = SLOTS - 1;
+    private static final int LEVELS = 6;
+    private static final long MAX_TICKS = (1L << (SLOT_BITS * LEVELS)) - 1;
+    private static final String ILLEGAL_TICKS_MSG = "The ticks must be between one and " + MAX_TICKS;
+
+    private long tick;
+    /* the timers of every slot of every level, each in a circular list headed by a sentinel */
+    private transient TimerImpl[][] slots;
+    /* the timers expiring in the current tick which are still to be run, so that they can be cancelled by the ones run before */
+    private transient TimerImpl expiring;
+    private transient int scheduledCount;
+
+    /**
+     * Builds a new empty {@link TimingWheelImpl} at its first tick.
+     */
+    public TimingWheelImpl() {
+        this.initSlots();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Timer schedule(final long ticks, final TimedAction action) throws IllegalArgumentException {
+        return this.add(ticks, 0, action);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Timer scheduleRepeating(final long ticks, final long period, final TimedAction action)
+                                   throws IllegalArgumentException {
+        return this.add(ticks, checkTicks(period), action);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void advance() {
+        this.tick++;
+        int levels = 1;
+        while (levels < LEVELS && (this.tick & ((1L << (SLOT_BITS * levels)) - 1)) == 0) {
+            levels++;
+        }
+        /* the higher levels are moved first, so that their timers can go down more than one level in the same tick */
+        for (int level = levels - 1; level > 0; level--) {
+            final TimerImpl head = this.slots[level][getSlot(this.tick, level)];
+            while (head.next != head) {
+                final TimerImpl timer = head.next;
+                timer.unlink();
+                this.link(timer);
+            }
+        }
+        final TimerImpl head = this.slots[0][getSlot(this.tick, 0)];
+        while (head.next != head) {
+            final TimerImpl timer = head.next;
+            timer.unlink();
+            timer.linkBefore(this.expiring);
+        }
+        while (this.expiring.next != this.expiring) {
+            final TimerImpl timer = this.expiring.next;
+            timer.unlink();
+            this.scheduledCount--;
+            if (timer.period > 0) {
+                timer.expiry += timer.period;
+                this.insert(timer);
+            } else {
+                timer.scheduled = false;
+            }
+            timer.action.onExpired();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long getTick() {
+        return this.tick;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getScheduledCount() {
+        return this.scheduledCount;
+    }
+
+    /*
+     * Creates and inserts a new timer, with a period of zero if it runs only once.
+     */
+    private Timer add(final long ticks, final long period, final TimedAction action) {
+        final TimerImpl timer = new TimerImpl(this, this.tick + checkTicks(ticks), period, Objects.requireNonNull(action));
+        this.insert(timer);
+        return timer;
+    }
+
+    /*
+     * Inserts a timer not yet in any slot, marking it as scheduled.
+     */
+    private void insert(final TimerImpl timer) {
+        timer.scheduled = true;
+        this.scheduledCount++;
+        this.link(timer);
+    }
+
+    /*
+     * Puts a timer at the end of the slot of the lowest level which can contain its expiry, so that the timers of a slot are
+     * kept in the order in which they got there.
+     */
+    private void link(final TimerImpl timer) {
+        final long delta = timer.expiry - this.tick;
+        int level = 0;
+        while (level < LEVELS - 1 && delta >= 1L << (SLOT_BITS * (level + 1))) {
+            level++;
+        }
+        timer.linkBefore(this.slots[level][getSlot(timer.expiry, level)]);
+    }
+
+    /*
+     * Creates the sentinels of the slots and of the expiring timers, all with empty lists.
+     */
+    private void initSlots() {
+        this.slots = new TimerImpl[LEVELS][SLOTS];
+        for (final TimerImpl[] level : this.slots) {
+            for (int i = 0; i < SLOTS; i++) {
+                level[i] = new TimerImpl();
+            }
+        }
+        this.expiring = new TimerImpl();
+    }
+
+    /*
+     * Returns the index of the slot which contains the given tick in the given level.
+     */
+    private static int getSlot(final long tick, final int level) {
+        return (int) (tick >>> (SLOT_BITS * level)) & SLOT_MASK;
+    }
+
+    private static long checkTicks(final long ticks) {
+        if (ticks < 1 || ticks > MAX_TICKS) {
+            throw new IllegalArgumentException(ILLEGAL_TICKS_MSG);
+        }
+        return ticks;
+    }
+
+    private void writeObject(final ObjectOutputStream out) throws IOException {
+        out.defaultWriteObject();
+        out.writeInt(this.scheduledCount);
+        for (final TimerImpl[] level : this.slots) {
+            for (final TimerImpl head : level) {
+                for (TimerImpl timer = head.next; timer != head; timer = timer.next) {
+                    out.writeObject(timer);
+                }
+            }
+        }
+    }
+
+    /*
+     * The timers are inserted again in the slots, which depend only on their expiry and on the current tick. A timer can be
+     * read before this wheel if it's referenced by someone else, but its expiry is read before the wheel it belongs to.
+     */
+    private void readObject(final ObjectInputStream in) throws IOException, ClassNotFoundException {
+        in.defaultReadObject();
+        this.initSlots();
+        final int count = in.readInt();
+        for (int i = 0; i < count; i++) {
+            this.insert((TimerImpl) in.readObject());
+        }
+    }
+
+    /*
+     * A timer scheduled on a TimingWheelImpl, which is also a node of the list of its slot. The sentinels of the lists are
+     * timers without a wheel and an action.
+     */
+    private static final class TimerImpl implements Timer {
+        private static final long serialVersionUID = 5094377542913390187L;
+
+        private final TimingWheelImpl wheel;
+        private final TimedAction action;
+        private final long period;
+        private long expiry;
+        private boolean scheduled;
+        private transient TimerImpl prev;
+        private transient TimerImpl next;
+
+        /*
+         * Builds a sentinel of a list of timers, which is an empty list.
+         */
+        TimerImpl() {
+            this(null, 0, 0, null);
+            this.prev = this;
+            this.next = this;
+        }
+
+        TimerImpl(final TimingWheelImpl wheel, final long expiry, final long period, final TimedAction action) {
+            this.wheel = wheel;
+            this.expiry = expiry;
+            this.period = period;
+            this.action = action;
+        }
+
+        @Override
+        public boolean isScheduled() {
+            return this.scheduled;
+        }
+
+        @Override
+        public long getRemainingTicks() {
+            return this.scheduled ? this.expiry - this.wheel.tick : 0;
+        }
+
+        @Override
+        public void cancel() {
+            if (this.scheduled) {
+                this.unlink();
+                this.scheduled = false;
+                this.wheel.scheduledCount--;
+            }
+        }
+
+        /*
+         * Links this timer at the end of the list of the given sentinel.
+         */
+        void linkBefore(final TimerImpl head) {
+            this.prev = head.prev;
+            this.next = head;
+            head.prev.next = this;
+            head.prev = this;
+        }
+
+        /*
+         * Removes this timer from the list in which it is.
+         */
+        void unlink() {
+            this.prev.next = this.next;
+            this.next.prev = this.prev;
+            this.prev = null;
+            this.next = null;
+        }
+    }
+}
@@ -35,5 +35,10 @@ public enum CollisionEvent {
      * The collision in which the {@link model.entities.Player} hits the {@link model.entities.PowerUp} that grants the
      * possibility to be invincible.
      */
-    INVINCIBILITY_HIT;
+    INVINCIBILITY_HIT,
+    /**
+     * The collision in which the {@link model.entities.Player} lands on a {@link model.entities.Platform} after having been
+     * in the air.
+     */
+    PLAYER_LANDED;
 }
@@ -3,12 +3,16 @@ package it.unibo.jmpcoon.model.world;
 import java.io.Serializable;
 import java.util.Collection;
 import java.util.Queue;
+import java.util.concurrent.ForkJoinPool;
 
 import org.apache.commons.lang3.tuple.Pair;
 
+import com.google.common.base.Optional;
+
 import it.unibo.jmpcoon.model.entities.EntityProperties;
 import it.unibo.jmpcoon.model.entities.MovementType;
 import it.unibo.jmpcoon.model.entities.UnmodifiableEntity;
+import it.unibo.jmpcoon.model.physics.PhysicsQuality;
 
 /**
  * The World in which the game takes place. It creates, initializes, destroys and passes around all the entities which populate
@@ -83,4 +87,84 @@ public interface UpdatableWorld extends Serializable {
      * @return the count of the {@link it.unibo.jmpcoon.model.entities.Player}'s lives
      */
     int getPlayerLives();
+
+    /**
+     * Sets whether this {@link UpdatableWorld} should be deterministic or not. Two deterministic {@link UpdatableWorld}s in
+     * the same state which are given the same movements and updated the same number of times always reach the same state,
+     * so they always have the same {@link #getStateChecksum()}. This setting is saved along with the world.
+     * @param deterministic true if this world should be deterministic, false otherwise
+     */
+    void setDeterministic(boolean deterministic);
+
+    /**
+     * Returns whether this {@link UpdatableWorld} is deterministic or not.
+     * @return true if this world is deterministic, false otherwise
+     */
+    boolean isDeterministic();
+
+    /**
+     * Sets the pool of workers on which the movements the enemies intend to make are computed during an {@link #update()},
+     * when there are enough enemies for it to be worth it. The movements are always applied by the thread updating this
+     * {@link UpdatableWorld} in the same order, so the state reached doesn't depend on the workers. The workers aren't saved
+     * along with the world.
+     * @param workers the {@link ForkJoinPool} of workers to use, an empty {@link Optional} for computing everything on the
+     * thread updating this world
+     */
+    void setWorkers(Optional<ForkJoinPool> workers);
+
+    /**
+     * Sets the distance from the {@link it.unibo.jmpcoon.model.entities.Player} beyond which the enemies are no longer simulated
+     * and their behavior is suspended, until the {@link it.unibo.jmpcoon.model.entities.Player} gets near again.
+     * @param activationDistance the distance within which the enemies are always simulated
+     * @throws IllegalArgumentException if the distance is not positive
+     */
+    void setActivationDistance(double activationDistance) throws IllegalArgumentException;
+
+    /**
+     * Returns the number of enemies currently simulated.
+     * @return the number of enemies whose simulation is active
+     */
+    int getActiveEnemiesCount();
+
+    /**
+     * Returns the number of enemies currently suspended because too far from the {@link it.unibo.jmpcoon.model.entities.Player}.
+     * @return the number of enemies whose simulation is suspended
+     */
+    int getSleepingEnemiesCount();
+
+    /**
+     * Sets the time the physics of this {@link UpdatableWorld} should take in an update. When it keeps taking longer, the
+     * quality of the physics is lowered, and it's raised again when it keeps taking much less. A deterministic
+     * {@link UpdatableWorld} is always at the {@link PhysicsQuality#FULL} quality.
+     * @param budget the time the physics should take in nanoseconds
+     * @throws IllegalArgumentException if the budget is not positive
+     */
+    void setPhysicsBudget(long budget) throws IllegalArgumentException;
+
+    /**
+     * Returns the quality at which the physics of this {@link UpdatableWorld} is currently simulated.
+     * @return the current {@link PhysicsQuality}
+     */
+    PhysicsQuality getPhysicsQuality();
+
+    /**
+     * Returns the number of slots used for keeping the entities of this {@link UpdatableWorld}. The slots of the dead entities
+     * are given to the entities created later, so this number stays bounded even when enemies keep being generated.
+     * @return the highest number of entities which have been in this {@link UpdatableWorld} at the same time
+     */
+    int getEntitySlotsCount();
+
+    /**
+     * Computes a checksum of the current state of this {@link UpdatableWorld}, made from the number of updates done, the score,
+     * the state of the game and the state of every alive entity, so as to compare the states of two games.
+     * @return the checksum of the current state of this world
+     */
+    long getStateChecksum();
+
+    /**
+     * Returns a read-only view of this {@link UpdatableWorld} which is always up to date, meant to be observed every tick.
+     * The same {@link WorldObservation} is returned by every call.
+     * @return the {@link WorldObservation} of this world
+     */
+    WorldObservation getObservation();
 }
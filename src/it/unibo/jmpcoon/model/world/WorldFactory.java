@@ -18,4 +18,16 @@ public interface WorldFactory {
      * @throws IllegalStateException if the {@link World} has already been created
      */
     UpdatableWorld create() throws IllegalStateException;
+
+    /**
+     * Creates a new instance of {@link World} with the given dimensions instead of the default ones, for the levels bigger
+     * than a single screen. Only one instance will be produced, trying to call this method or {@link #create()} again will
+     * result in an {@link IllegalStateException}.
+     * @param width the width of the {@link World} to create
+     * @param height the height of the {@link World} to create
+     * @return the created {@link World}
+     * @throws IllegalStateException if the {@link World} has already been created
+     * @throws IllegalArgumentException if one of the dimensions is not positive
+     */
+    UpdatableWorld create(double width, double height) throws IllegalStateException, IllegalArgumentException;
 }
@@ -26,4 +26,18 @@ public class WorldFactoryImpl implements WorldFactory {
         }
         throw new IllegalStateException(NO_TWO_WORLDS_MSG);
     }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public UpdatableWorld create(final double width, final double height)
+            throws IllegalStateException, IllegalArgumentException {
+        if (!this.worldCreated) {
+            final UpdatableWorld world = new WorldImpl(width, height);
+            this.worldCreated = true;
+            return world;
+        }
+        throw new IllegalStateException(NO_TWO_WORLDS_MSG);
+    }
 }
@@ -1,14 +1,15 @@
 package it.unibo.jmpcoon.model.world;
 
+import java.util.ArrayDeque;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Iterator;
-import java.util.LinkedList;
 import java.util.Map;
 import java.util.Queue;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.Function;
 import java.util.function.Predicate;
-import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import org.apache.commons.collections4.queue.UnmodifiableQueue;
@@ -18,6 +19,8 @@ import org.apache.commons.lang3.tuple.Pair;
 import com.google.common.base.Optional;
 import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.MultimapBuilder;
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
 
 import it.unibo.jmpcoon.model.ClassToInstanceMultimap;
 import it.unibo.jmpcoon.model.ClassToInstanceMultimapImpl;
@@ -38,19 +41,22 @@ import it.unibo.jmpcoon.model.entities.WalkingEnemy;
 import it.unibo.jmpcoon.model.physics.PhysicalBody;
 import it.unibo.jmpcoon.model.physics.PhysicalFactory;
 import it.unibo.jmpcoon.model.physics.PhysicalFactoryImpl;
+import it.unibo.jmpcoon.model.physics.PhysicsQuality;
 import it.unibo.jmpcoon.model.physics.PhysicsUtils;
 import it.unibo.jmpcoon.model.physics.UpdatablePhysicalWorld;
+import it.unibo.jmpcoon.model.timing.TimedAction;
 
 /**
  * The class implementation of {@link World}.
  */
 public class WorldImpl implements World {
-    private static final long serialVersionUID = 4663479513512261181L;
+    private static final long serialVersionUID = 2105184732572441361L;
     private static final double WORLD_WIDTH = 8;
     private static final double WORLD_HEIGHT = 4.5;
     private static final int ROLLING_POINTS = 50;
     private static final int WALKING_POINTS = 100;
     private static final String NO_INIT_MSG = "It's needed to initialize this world by initLevel() before using it";
+    private static final String ILLEGAL_DIMENSIONS_MSG = "The dimensions of the world must be positive";
 
     private final PhysicalFactory physicsFactory;
     private final UpdatablePhysicalWorld innerWorld;
@@ -62,22 +68,41 @@ public class WorldImpl implements World {
     private GameState currentState;
     private boolean initialized;
     private int score;
+    private long tick;
+    private long entitiesVersion;
+    private transient WorldObservation observation;
 
     /**
      * Default constructor, decides what are the dimensions of this {@link World}, which should be 8m by 4.5m. It's package
      * protected because the only class that should access this constructor is its factory {@link WorldFactory}.
      */
     WorldImpl() {
+        this(WORLD_WIDTH, WORLD_HEIGHT);
+    }
+
+    /**
+     * Builds a {@link World} with the given dimensions, for the levels bigger than a single screen. It's package protected
+     * because the only class that should access this constructor is its factory {@link WorldFactory}.
+     * @param width the width of this {@link World}
+     * @param height the height of this {@link World}
+     * @throws IllegalArgumentException if one of the dimensions is not positive
+     */
+    WorldImpl(final double width, final double height) throws IllegalArgumentException {
+        if (!(width > 0 && height > 0)) {
+            throw new IllegalArgumentException(ILLEGAL_DIMENSIONS_MSG);
+        }
         this.physicsFactory = new PhysicalFactoryImpl();
-        this.worldDimensions = new ImmutablePair<>(WORLD_WIDTH, WORLD_HEIGHT);
+        this.worldDimensions = new ImmutablePair<>(width, height);
         this.innerWorld = this.physicsFactory.createPhysicalWorld(this, this.worldDimensions.getLeft(), 
                                                                   this.worldDimensions.getRight());
         this.aliveEntities = new ClassToInstanceMultimapImpl<>(MultimapBuilder.linkedHashKeys().linkedHashSetValues().build());
         this.deadEntities = new ClassToInstanceMultimapImpl<>(MultimapBuilder.linkedHashKeys().linkedHashSetValues().build());
-        this.currentEvents = new LinkedList<>();
+        this.currentEvents = new ArrayDeque<>();
         this.currentState = GameState.IS_GOING;
         this.player = Optional.absent();
         this.score = 0;
+        this.tick = 0;
+        this.entitiesVersion = 0;
         this.initialized = false;
     }
 
@@ -100,7 +125,7 @@ public class WorldImpl implements World {
                                                 .findFirst()
                                                 .get();
             final Class<? extends Entity> entityClass = creator.getAssociatedClass();
-            this.aliveEntities.put(entityClass, creator.getEntityBuilder()
+            final Entity created = creator.getEntityBuilder()
                                                        .setFactory(this.physicsFactory)
                                                        .setDimensions(entity.getDimensions())
                                                        .setAngle(entity.getAngle())
@@ -111,7 +136,14 @@ public class WorldImpl implements World {
                                                        .setWorld(entity.getEntityType() == EntityType.ENEMY_GENERATOR
                                                                  ? Optional.of(this)
                                                                  : Optional.absent())
-                                                       .build());
+                                                       .build();
+            this.aliveEntities.put(entityClass, created);
+            if (created instanceof EnemyGenerator) {
+                this.scheduleGenerator((EnemyGenerator) created);
+            } else if (created instanceof WalkingEnemy) {
+                this.addBehavior((WalkingEnemy) created);
+            }
+            this.entitiesVersion++;
             if (entity.getEntityType() == EntityType.PLAYER) {
                 this.player = Optional.fromJavaUtil(this.aliveEntities.getInstances(Player.class).stream().findFirst());
             }
@@ -125,14 +157,18 @@ public class WorldImpl implements World {
     @Override
     public void addGeneratedRollingEnemy(final RollingEnemy generatedEnemy) {
         this.aliveEntities.putInstance(RollingEnemy.class, generatedEnemy);
+        this.entitiesVersion++;
     }
 
     /**
      * {@inheritDoc}
      * For first, it checks if the game has currently ended or not by checking if during this step the {@link Player} is no 
      * longer alive and has lost or if the "end level trigger" was reached and has consequently won. Then it separates all
-     * {@link Entity}s no longer alive from the others; for last it signals to all {@link it.unibo.jmpcoon.model.entities.EnemyGenerator}s 
-     * that a lapse of time has passed and asking if they have created any new {@link it.unibo.jmpcoon.model.entities.RollingEnemy}.
+     * {@link Entity}s no longer alive from the others. The {@link it.unibo.jmpcoon.model.entities.EnemyGenerator}s create
+     * their {@link it.unibo.jmpcoon.model.entities.RollingEnemy}s when their timers expire and the walking enemies are moved
+     * by their behaviors, while the physical world advances: first the velocities all the walking enemies intend to have are
+     * computed only reading the state of the world, on the workers if there are many enemies, then they're set on the bodies
+     * one enemy after the other.
      */
     public void update() {
         this.checkInitialization();
@@ -146,13 +182,13 @@ public class WorldImpl implements World {
                 this.deadEntities.put(current.getKey(), current.getValue());
                 iterator.remove();
                 this.innerWorld.removeBody(current.getValue().getPhysicalBody());
+                this.entitiesVersion++;
             }
         }
         if (this.currentState == GameState.IS_GOING && this.player.isPresent() && !this.player.get().isAlive()) {
             this.currentState = GameState.GAME_OVER;
         }
-        this.aliveEntities.getInstances(WalkingEnemy.class).forEach(WalkingEnemy::computeMovement);
-        this.aliveEntities.getInstances(EnemyGenerator.class).forEach(EnemyGenerator::onTimeAdvanced);
+        this.tick++;
     }
 
     /**
@@ -167,7 +203,7 @@ public class WorldImpl implements World {
             final Predicate<PhysicalBody> isPlayerAtBottom = ladderBody -> PhysicsUtils.isBodyAtBottomHalf(playerBody, 
                                                                                                            ladderBody);
             if (this.currentState == GameState.IS_GOING 
-                && ((movement == MovementType.JUMP && this.isBodyStanding(playerBody)) 
+                && ((movement == MovementType.JUMP && this.player.get().canJump()) 
                     || (movement == MovementType.CLIMB_UP 
                         && (this.isBodyInFrontLadder(playerBody, isPlayerAtBottom)
                             || (playerState == EntityState.CLIMBING_UP || playerState == EntityState.CLIMBING_DOWN)))
@@ -271,6 +307,135 @@ public class WorldImpl implements World {
         return UnmodifiableQueue.unmodifiableQueue(this.currentEvents);
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void setDeterministic(final boolean deterministic) {
+        this.innerWorld.setDeterministic(deterministic);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isDeterministic() {
+        return this.innerWorld.isDeterministic();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void setWorkers(final Optional<ForkJoinPool> workers) {
+        this.innerWorld.setWorkers(workers);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void setActivationDistance(final double activationDistance) throws IllegalArgumentException {
+        this.innerWorld.setActivationDistance(activationDistance);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getActiveEnemiesCount() {
+        return this.innerWorld.getActiveBodiesCount();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getSleepingEnemiesCount() {
+        return this.innerWorld.getSleepingBodiesCount();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void setPhysicsBudget(final long budget) throws IllegalArgumentException {
+        this.innerWorld.setPhysicsBudget(budget);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public PhysicsQuality getPhysicsQuality() {
+        return this.innerWorld.getPhysicsQuality();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getEntitySlotsCount() {
+        return this.innerWorld.getBodySlotsCount();
+    }
+
+    /**
+     * {@inheritDoc}
+     * The entities are considered in the order in which they were added to this world.
+     */
+    @Override
+    public long getStateChecksum() {
+        final Hasher hasher = Hashing.murmur3_128().newHasher();
+        hasher.putLong(this.tick)
+              .putInt(this.score)
+              .putInt(this.currentState.ordinal())
+              .putInt(this.player.isPresent() ? this.player.get().getLives() : 0);
+        for (final Entity entity : this.aliveEntities.values()) {
+            final Pair<Double, Double> position = entity.getPosition();
+            final Pair<Double, Double> velocity = entity.getVelocity();
+            hasher.putInt(entity.getType().ordinal())
+                  .putInt(entity.getState().ordinal())
+                  .putDouble(position.getLeft())
+                  .putDouble(position.getRight())
+                  .putDouble(velocity.getLeft())
+                  .putDouble(velocity.getRight())
+                  .putDouble(entity.getAngle());
+        }
+        return hasher.hash().asLong();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public WorldObservation getObservation() {
+        if (this.observation == null) {
+            this.observation = new WorldObservationImpl(this);
+        }
+        return this.observation;
+    }
+
+    /*
+     * Returns the number of updates done by this world.
+     */
+    long getTick() {
+        return this.tick;
+    }
+
+    /*
+     * Returns a number which changes every time an entity is added to or removed from this world.
+     */
+    long getEntitiesVersion() {
+        return this.entitiesVersion;
+    }
+
+    /*
+     * Returns a read-only view of the alive entities, in the order in which they were added.
+     */
+    Collection<Entity> getAliveEntityInstances() {
+        return Collections.unmodifiableCollection(this.aliveEntities.values());
+    }
+
     private void checkInitialization() {
         if (!this.initialized) {
             throw new IllegalStateException(NO_INIT_MSG);
@@ -278,35 +443,28 @@ public class WorldImpl implements World {
     }
 
     /*
-     * Gets if the Player is currently standing on a platform or not. This is true only if is currently in contact with
-     * a Platform and the contact point is at the bottom of the player bounding box and at the top of the platform bounding box.
-     * If it's in contact with the platform, but still jumping, it means the player has yet to complete (or start)
-     * the previous jump, so it isn't standing.
-     */
-    private boolean isBodyStanding(final PhysicalBody body) {
-        final Collection<PhysicalBody> platformsBodies = this.aliveEntities.getInstances(Platform.class)
-                                                                           .parallelStream()
-                                                                           .map(Platform::getPhysicalBody)
-                                                                           .collect(Collectors.toSet());
-        return this.innerWorld.getCollidingBodies(body)
-                              .parallelStream()
-                              .filter(collision -> platformsBodies.contains(collision.getLeft()))
-                              .anyMatch(platformStand -> PhysicsUtils.isBodyOnTop(body, platformStand.getLeft(), 
-                                                                                  platformStand.getRight()))
-               && body.getState() != EntityState.JUMPING;
+     * Gets if the Player is currently standing in front of a ladder and it could be specified where to check the player
+     * is with respect to the ladder. Only the ladders the player is overlapping are checked.
+     */
+    private boolean isBodyInFrontLadder(final PhysicalBody body, final Predicate<PhysicalBody> where) {
+        return this.innerWorld.getCollidingLadders().stream()
+                                                    .anyMatch(ladderBody -> where.test(ladderBody)
+                                                                            && PhysicsUtils.isBodyInside(body, ladderBody));
     }
 
     /*
-     * Gets if the Player is currently standing in front of a ladder and it could be specified where to check the player
-     * is with respect to the ladder.
+     * Schedules on the timing wheel of the physical world the enemies the given generator creates, starting from the next tick.
      */
-    private boolean isBodyInFrontLadder(final PhysicalBody body, final Predicate<PhysicalBody> where) {
-        return this.aliveEntities.getInstances(Ladder.class).parallelStream()
-                                                            .map(Ladder::getPhysicalBody)
-                                                            .anyMatch(ladderBody -> 
-                                                                      this.innerWorld.areBodiesInContact(body, ladderBody)
-                                                                      && where.test(ladderBody)
-                                                                      && PhysicsUtils.isBodyInside(body, ladderBody));
+    private void scheduleGenerator(final EnemyGenerator generator) {
+        this.innerWorld.getTimingWheel().scheduleRepeating(1, generator.getGenerationPeriod(),
+                                                           new GeneratorTimer(generator, this.innerWorld));
+    }
+
+    /*
+     * Makes the physical world move the given walking enemy as its behavior describes.
+     */
+    private void addBehavior(final WalkingEnemy enemy) {
+        this.innerWorld.addBehavior(enemy.getPhysicalBody(), enemy.getBehavior(), enemy.getWalkingRange());
     }
 
     private Stream<UnmodifiableEntity> getDynamicEntitiesStream(final ClassToInstanceMultimap<Entity> multimap) {
@@ -318,7 +476,7 @@ public class WorldImpl implements World {
     private <E extends Entity> Stream<UnmodifiableEntity> getEntitiesStream(final ClassToInstanceMultimap<Entity> multimap,
                                                                             final Function<E, UnmodifiableEntity> mapper,
                                                                             final Collection<Class<? extends E>> keys) {
-        return keys.parallelStream().flatMap(type -> this.getEntityKeyStream(multimap, mapper, type));
+        return keys.stream().flatMap(type -> this.getEntityKeyStream(multimap, mapper, type));
     }
 
     private Stream<UnmodifiableEntity> getPowerUpStream(final ClassToInstanceMultimap<Entity> multimap) {
@@ -328,6 +486,30 @@ public class WorldImpl implements World {
     private <E extends Entity> Stream<UnmodifiableEntity> getEntityKeyStream(final ClassToInstanceMultimap<Entity> multimap,
                                                                              final Function<E, UnmodifiableEntity> mapper,
                                                                              final Class<? extends E> key) {
-        return multimap.getInstances(key).parallelStream().map(mapper::apply);
+        return multimap.getInstances(key).stream().map(mapper::apply);
+    }
+
+    /*
+     * The action of the timer of an enemy generator, which creates an enemy while the generator is alive and near enough to the
+     * player for the enemy to be simulated, so that the generators far from the player don't fill the world with sleeping
+     * enemies.
+     */
+    private static final class GeneratorTimer implements TimedAction {
+        private static final long serialVersionUID = -5316742293615880047L;
+
+        private final EnemyGenerator generator;
+        private final UpdatablePhysicalWorld world;
+
+        GeneratorTimer(final EnemyGenerator generator, final UpdatablePhysicalWorld world) {
+            this.generator = generator;
+            this.world = world;
+        }
+
+        @Override
+        public void onExpired() {
+            if (this.generator.isAlive() && this.world.isBodyInActivationRange(this.generator.getPhysicalBody())) {
+                this.generator.generateEnemy();
+            }
+        }
     }
 }
@@ -0,0 +1,71 @@
+package it.unibo.jmpcoon.model.world;
+
+import java.util.List;
+
+import com.google.common.base.Optional;
+
+import it.unibo.jmpcoon.model.entities.EntityType;
+import it.unibo.jmpcoon.model.entities.UnmodifiableEntity;
+
+/**
+ * A read-only and always up to date view of an {@link UpdatableWorld}, meant to be observed every tick by automated players.
+ * Differently from {@link UpdatableWorld#getAliveEntities()}, it doesn't build anything new while the entities in the world
+ * stay the same, so observing it doesn't cost more than reading the state of the entities observed.
+ */
+public interface WorldObservation {
+    /**
+     * Returns the number of updates done by the observed world.
+     * @return the current tick of the observed world
+     */
+    long getTick();
+
+    /**
+     * Returns the current score of the game.
+     * @return the current score
+     */
+    int getScore();
+
+    /**
+     * Returns the current number of lives of the player.
+     * @return the current number of lives of the player, zero if there is no player
+     */
+    int getPlayerLives();
+
+    /**
+     * Returns whether the game is over because the player died.
+     * @return true if the game is over, false otherwise
+     */
+    boolean isGameOver();
+
+    /**
+     * Returns whether the player reached the goal.
+     * @return true if the player won, false otherwise
+     */
+    boolean hasPlayerWon();
+
+    /**
+     * Returns the player, if it's alive.
+     * @return an {@link Optional} containing the {@link UnmodifiableEntity} of the player if it's alive,
+     * {@link Optional#absent()} otherwise
+     */
+    Optional<UnmodifiableEntity> getPlayer();
+
+    /**
+     * Returns the alive entities of the given {@link EntityType}. The same {@link List} is returned until an entity of the
+     * observed world is added or removed, while the state of its elements is always the current one.
+     * @param type the {@link EntityType} of the entities to return
+     * @return an unmodifiable {@link List} of the alive entities of the given type, in the order in which they were added
+     */
+    List<UnmodifiableEntity> getEntities(EntityType type);
+
+    /**
+     * Returns the alive entities of the given {@link EntityType} which center is not farther than the given distance from the
+     * given point.
+     * @param type the {@link EntityType} of the entities to return
+     * @param x the horizontal coordinate of the point, in world coordinates
+     * @param y the vertical coordinate of the point, in world coordinates
+     * @param radius the maximum distance from the point
+     * @return a {@link List} of the alive entities of the given type near the point, in the order in which they were added
+     */
+    List<UnmodifiableEntity> getEntitiesNear(EntityType type, double x, double y, double radius);
+}
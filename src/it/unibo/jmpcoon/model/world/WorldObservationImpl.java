@@ -0,0 +1,148 @@
+package it.unibo.jmpcoon.model.world;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.commons.lang3.tuple.Pair;
+
+import com.google.common.base.Optional;
+
+import it.unibo.jmpcoon.model.entities.DynamicEntity;
+import it.unibo.jmpcoon.model.entities.Entity;
+import it.unibo.jmpcoon.model.entities.EntityType;
+import it.unibo.jmpcoon.model.entities.PowerUp;
+import it.unibo.jmpcoon.model.entities.StaticEntity;
+import it.unibo.jmpcoon.model.entities.UnmodifiableEntity;
+import it.unibo.jmpcoon.model.entities.UnmodifiableEntityImpl;
+
+/**
+ * The class implementation of {@link WorldObservation}, which keeps the {@link UnmodifiableEntity}s of the observed
+ * {@link WorldImpl} grouped by type and builds them again only when the world says its entities changed. It's package
+ * protected because only the {@link WorldImpl} should create it.
+ */
+final class WorldObservationImpl implements WorldObservation {
+    private final WorldImpl world;
+    private final Map<EntityType, List<UnmodifiableEntity>> entitiesByType;
+    private Optional<UnmodifiableEntity> player;
+    private long observedVersion;
+
+    /*
+     * Builds a new observation of the given world.
+     */
+    WorldObservationImpl(final WorldImpl world) {
+        this.world = world;
+        this.entitiesByType = new EnumMap<>(EntityType.class);
+        this.player = Optional.absent();
+        this.observedVersion = -1;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long getTick() {
+        return this.world.getTick();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getScore() {
+        return this.world.getCurrentScore();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getPlayerLives() {
+        return this.world.getPlayerLives();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isGameOver() {
+        return this.world.isGameOver();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean hasPlayerWon() {
+        return this.world.hasPlayerWon();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Optional<UnmodifiableEntity> getPlayer() {
+        this.refresh();
+        return this.player;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<UnmodifiableEntity> getEntities(final EntityType type) {
+        this.refresh();
+        final List<UnmodifiableEntity> entities = this.entitiesByType.get(type);
+        return entities == null ? Collections.emptyList() : entities;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<UnmodifiableEntity> getEntitiesNear(final EntityType type, final double x, final double y, final double radius) {
+        final List<UnmodifiableEntity> near = new ArrayList<>();
+        final double squaredRadius = radius * radius;
+        for (final UnmodifiableEntity entity : this.getEntities(type)) {
+            final Pair<Double, Double> position = entity.getPosition();
+            final double dx = position.getLeft() - x;
+            final double dy = position.getRight() - y;
+            if (dx * dx + dy * dy <= squaredRadius) {
+                near.add(entity);
+            }
+        }
+        return near;
+    }
+
+    /*
+     * Builds again the groups of entities if the entities in the world changed since the last time they were built.
+     */
+    private void refresh() {
+        final long currentVersion = this.world.getEntitiesVersion();
+        if (currentVersion != this.observedVersion) {
+            final Map<EntityType, List<UnmodifiableEntity>> groups = new EnumMap<>(EntityType.class);
+            for (final Entity entity : this.world.getAliveEntityInstances()) {
+                groups.computeIfAbsent(entity.getType(), t -> new ArrayList<>()).add(this.wrap(entity));
+            }
+            this.entitiesByType.clear();
+            groups.forEach((type, entities) -> this.entitiesByType.put(type, Collections.unmodifiableList(entities)));
+            final List<UnmodifiableEntity> players = this.entitiesByType.get(EntityType.PLAYER);
+            this.player = players == null ? Optional.absent() : Optional.of(players.get(0));
+            this.observedVersion = currentVersion;
+        }
+    }
+
+    /*
+     * Wraps an entity choosing the constructor of UnmodifiableEntityImpl suitable for its kind.
+     */
+    private UnmodifiableEntity wrap(final Entity entity) {
+        if (entity instanceof PowerUp) {
+            return new UnmodifiableEntityImpl((PowerUp) entity);
+        } else if (entity instanceof DynamicEntity) {
+            return new UnmodifiableEntityImpl((DynamicEntity) entity);
+        }
+        return new UnmodifiableEntityImpl((StaticEntity) entity);
+    }
+}
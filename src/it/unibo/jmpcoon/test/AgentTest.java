@@ -0,0 +1,134 @@
+package it.unibo.jmpcoon.test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import com.google.common.base.Optional;
+
+import it.unibo.jmpcoon.controller.agent.AgentInputScript;
+import it.unibo.jmpcoon.controller.agent.RandomAgent;
+import it.unibo.jmpcoon.controller.simulation.BatchResult;
+import it.unibo.jmpcoon.controller.simulation.BatchSimulator;
+import it.unibo.jmpcoon.controller.simulation.BatchSimulatorImpl;
+import it.unibo.jmpcoon.model.entities.EntityProperties;
+import it.unibo.jmpcoon.model.entities.EntityPropertiesImpl;
+import it.unibo.jmpcoon.model.entities.EntityType;
+import it.unibo.jmpcoon.model.entities.MovementType;
+import it.unibo.jmpcoon.model.entities.UnmodifiableEntity;
+import it.unibo.jmpcoon.model.physics.BodyShape;
+import it.unibo.jmpcoon.model.world.UpdatableWorld;
+import it.unibo.jmpcoon.model.world.WorldFactoryImpl;
+import it.unibo.jmpcoon.model.world.WorldObservation;
+
+/**
+ * Test class for {@link WorldObservation} and the {@link it.unibo.jmpcoon.controller.agent.Agent}s observing it.
+ */
+public class AgentTest {
+    private static final double WORLD_WIDTH = 8;
+    private static final double WORLD_HEIGHT = 4.5;
+    private static final double PLATFORM_HEIGHT = 0.29;
+    private static final double PLAYER_DIMENSION = 0.3;
+    private static final double GENERATOR_DIMENSION = 0.5;
+    private static final double ANGLE = 0;
+    private static final double NEAR_RADIUS = 0.5;
+    private static final int TICKS = 30;
+    private static final int AGENT_TICKS = 300;
+    private static final int HOLD_TICKS = 20;
+    private static final long SEED = 42;
+    private static final String NOT_CACHED = "The observation should return the same entities while they don't change";
+    private static final String NOT_REFRESHED = "The observation should see the entities added to the world";
+    private static final String NOT_LIVE = "The observation should always show the current state of the entities";
+    private static final String WRONG_PLAYER = "The observation should see the player";
+    private static final String WRONG_NEAR = "The observation should find only the entities near the given point";
+    private static final String NOT_REPEATABLE = "Agents with the same seed should play the same game";
+
+    private EntityProperties platform;
+    private EntityProperties player;
+    private UpdatableWorld world;
+
+    /**
+     * Initialization method for having a new {@link UpdatableWorld} every test.
+     */
+    @Before
+    public void initializeWorld() {
+        this.platform = new EntityPropertiesImpl(EntityType.PLATFORM, BodyShape.RECTANGLE, WORLD_WIDTH / 2, WORLD_HEIGHT / 2,
+                                                 WORLD_WIDTH / 2, PLATFORM_HEIGHT, ANGLE, Optional.absent(), Optional.absent());
+        this.player = new EntityPropertiesImpl(EntityType.PLAYER, BodyShape.RECTANGLE, WORLD_WIDTH / 2,
+                                               WORLD_HEIGHT / 2 + PLATFORM_HEIGHT / 2 + PLAYER_DIMENSION / 2,
+                                               PLAYER_DIMENSION, PLAYER_DIMENSION, ANGLE, Optional.absent(), Optional.absent());
+        this.world = new WorldFactoryImpl().create();
+    }
+
+    /**
+     * Test for the caching of the entities of a {@link WorldObservation} while the world is updated.
+     */
+    @Test
+    public void cachedObservationTest() {
+        this.world.initLevel(Arrays.asList(this.platform, this.player));
+        final WorldObservation observation = this.world.getObservation();
+        assertSame(NOT_CACHED, observation, this.world.getObservation());
+        final List<UnmodifiableEntity> platforms = observation.getEntities(EntityType.PLATFORM);
+        assertTrue(WRONG_PLAYER, observation.getPlayer().isPresent());
+        final UnmodifiableEntity observedPlayer = observation.getPlayer().get();
+        final double startX = observedPlayer.getPosition().getLeft();
+        for (int i = 0; i < TICKS; i++) {
+            this.world.movePlayer(MovementType.MOVE_RIGHT);
+            this.world.update();
+            assertSame(NOT_CACHED, platforms, observation.getEntities(EntityType.PLATFORM));
+            assertSame(NOT_CACHED, observedPlayer, observation.getPlayer().get());
+        }
+        assertNotEquals(NOT_LIVE, startX, observedPlayer.getPosition().getLeft());
+        assertEquals(TICKS, observation.getTick());
+        assertEquals(WRONG_NEAR, 1, observation.getEntitiesNear(EntityType.PLAYER, observedPlayer.getPosition().getLeft(),
+                                                                observedPlayer.getPosition().getRight(), NEAR_RADIUS)
+                                               .size());
+        assertTrue(WRONG_NEAR, observation.getEntitiesNear(EntityType.PLAYER, 0, 0, NEAR_RADIUS).isEmpty());
+    }
+
+    /**
+     * Test for the refreshing of the entities of a {@link WorldObservation} when an entity is added to the world.
+     */
+    @Test
+    public void refreshedObservationTest() {
+        this.world.initLevel(Arrays.asList(this.platform, this.player,
+                                           new EntityPropertiesImpl(EntityType.ENEMY_GENERATOR, BodyShape.CIRCLE,
+                                                                    WORLD_WIDTH / 4, WORLD_HEIGHT - GENERATOR_DIMENSION,
+                                                                    GENERATOR_DIMENSION, GENERATOR_DIMENSION, ANGLE,
+                                                                    Optional.absent(), Optional.absent())));
+        final WorldObservation observation = this.world.getObservation();
+        final List<UnmodifiableEntity> before = observation.getEntities(EntityType.ROLLING_ENEMY);
+        assertTrue(before.isEmpty());
+        this.world.update();
+        final List<UnmodifiableEntity> after = observation.getEntities(EntityType.ROLLING_ENEMY);
+        assertNotSame(NOT_REFRESHED, before, after);
+        assertFalse(NOT_REFRESHED, after.isEmpty());
+    }
+
+    /**
+     * Test for the repeatability of the games played by {@link RandomAgent}s with the same seed.
+     */
+    @Test
+    public void repeatableAgentTest() {
+        final BatchSimulator simulator = new BatchSimulatorImpl(Arrays.asList(this.platform, this.player));
+        try {
+            final BatchResult batch = simulator.run(Arrays.asList(new AgentInputScript(new RandomAgent(SEED, HOLD_TICKS)),
+                                                                  new AgentInputScript(new RandomAgent(SEED, HOLD_TICKS))),
+                                                    AGENT_TICKS);
+            assertEquals(NOT_REPEATABLE, batch.getResults().get(0).getFinalChecksum(),
+                         batch.getResults().get(1).getFinalChecksum());
+            assertEquals(NOT_REPEATABLE, batch.getResults().get(0).getTicks(), batch.getResults().get(1).getTicks());
+        } finally {
+            simulator.shutdown();
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package it.unibo.jmpcoon.test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.google.common.base.Optional;
+
+import it.unibo.jmpcoon.controller.game.InputType;
+import it.unibo.jmpcoon.controller.simulation.BatchResult;
+import it.unibo.jmpcoon.controller.simulation.BatchSimulator;
+import it.unibo.jmpcoon.controller.simulation.BatchSimulatorImpl;
+import it.unibo.jmpcoon.controller.simulation.InputScript;
+import it.unibo.jmpcoon.controller.simulation.SimulationOutcome;
+import it.unibo.jmpcoon.controller.simulation.SimulationResult;
+import it.unibo.jmpcoon.model.entities.EntityPropertiesImpl;
+import it.unibo.jmpcoon.model.entities.EntityType;
+import it.unibo.jmpcoon.model.physics.BodyShape;
+
+/**
+ * Test class for {@link BatchSimulator}.
+ */
+public class BatchSimulatorTest {
+    private static final double WORLD_WIDTH = 8;
+    private static final double WORLD_HEIGHT = 4.5;
+    private static final double PLATFORM_HEIGHT = 0.29;
+    private static final double PLAYER_DIMENSION = 0.3;
+    private static final double ANGLE = 0;
+    private static final int PARALLELISM = 2;
+    private static final int MAX_TICKS = 100;
+    private static final String WRONG_RESULTS = "The batch didn't return a result for every game, in order";
+    private static final String NOT_ISOLATED = "Games with the same inputs should end in the same state";
+    private static final String SAME_STATE = "Games with different inputs shouldn't end in the same state";
+    private static final String WRONG_OUTCOME = "The game ended in the wrong way";
+    private static final String WRONG_TICKS = "The batch simulated the wrong number of ticks";
+    private static final String NO_ERROR = "The failed game should report its error";
+
+    private BatchSimulator simulator;
+
+    /**
+     * Initialization method for having a new {@link BatchSimulator} of a level with a platform and a player every test.
+     */
+    @Before
+    public void createSimulator() {
+        this.simulator = new BatchSimulatorImpl(Arrays.asList(new EntityPropertiesImpl(EntityType.PLATFORM, BodyShape.RECTANGLE,
+                                                                                       WORLD_WIDTH / 2, WORLD_HEIGHT / 2,
+                                                                                       WORLD_WIDTH / 2, PLATFORM_HEIGHT,
+                                                                                       ANGLE, Optional.absent(),
+                                                                                       Optional.absent()),
+                                                              new EntityPropertiesImpl(EntityType.PLAYER, BodyShape.RECTANGLE,
+                                                                                       WORLD_WIDTH / 2,
+                                                                                       WORLD_HEIGHT / 2 + PLATFORM_HEIGHT / 2
+                                                                                       + PLAYER_DIMENSION / 2,
+                                                                                       PLAYER_DIMENSION, PLAYER_DIMENSION,
+                                                                                       ANGLE, Optional.absent(),
+                                                                                       Optional.absent())),
+                                                PARALLELISM);
+    }
+
+    /**
+     * Releases the threads of the {@link BatchSimulator} after every test.
+     */
+    @After
+    public void shutdownSimulator() {
+        this.simulator.shutdown();
+    }
+
+    /**
+     * Test for the isolation of the games simulated in the same batch and for the statistics of the batch.
+     */
+    @Test
+    public void isolatedGamesTest() {
+        final InputScript right = (tick, world) -> EnumSet.of(InputType.RIGHT);
+        final InputScript idle = (tick, world) -> EnumSet.noneOf(InputType.class);
+        final List<InputScript> scripts = Arrays.asList(right, idle, right, idle);
+        final BatchResult batch = this.simulator.run(scripts, MAX_TICKS);
+        final List<SimulationResult> results = batch.getResults();
+        assertEquals(WRONG_RESULTS, scripts.size(), results.size());
+        for (int i = 0; i < results.size(); i++) {
+            assertEquals(WRONG_RESULTS, i, results.get(i).getIndex());
+            assertEquals(WRONG_OUTCOME, SimulationOutcome.TIME_LIMIT, results.get(i).getOutcome());
+        }
+        assertEquals(NOT_ISOLATED, results.get(0).getFinalChecksum(), results.get(2).getFinalChecksum());
+        assertEquals(NOT_ISOLATED, results.get(1).getFinalChecksum(), results.get(3).getFinalChecksum());
+        assertNotEquals(SAME_STATE, results.get(0).getFinalChecksum(), results.get(1).getFinalChecksum());
+        assertEquals(WRONG_TICKS, scripts.size() * MAX_TICKS, batch.getTotalTicks());
+        assertEquals(WRONG_OUTCOME, scripts.size(), batch.getOutcomeCount(SimulationOutcome.TIME_LIMIT));
+        assertTrue(batch.getTicksPerSecond() > 0);
+    }
+
+    /**
+     * Test for a game which fails without affecting the others in the batch.
+     */
+    @Test
+    public void failedGameTest() {
+        final InputScript failing = (tick, world) -> {
+            throw new IllegalStateException();
+        };
+        final InputScript idle = (tick, world) -> Collections.emptySet();
+        final BatchResult batch = this.simulator.run(Arrays.asList(failing, idle), MAX_TICKS);
+        assertEquals(WRONG_OUTCOME, SimulationOutcome.FAILED, batch.getResults().get(0).getOutcome());
+        assertTrue(NO_ERROR, batch.getResults().get(0).getError().isPresent());
+        assertEquals(WRONG_OUTCOME, SimulationOutcome.TIME_LIMIT, batch.getResults().get(1).getOutcome());
+        assertEquals(WRONG_TICKS, MAX_TICKS, batch.getTotalTicks());
+    }
+}
@@ -0,0 +1,207 @@
+package it.unibo.jmpcoon.test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+
+import org.apache.commons.lang3.tuple.Pair;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.google.common.base.Optional;
+
+import it.unibo.jmpcoon.controller.game.InputType;
+import it.unibo.jmpcoon.controller.game.InputUtils;
+import it.unibo.jmpcoon.controller.simulation.LevelGenerator;
+import it.unibo.jmpcoon.controller.simulation.LevelGeneratorImpl;
+import it.unibo.jmpcoon.model.entities.EntityProperties;
+import it.unibo.jmpcoon.model.physics.PhysicsQuality;
+import it.unibo.jmpcoon.model.world.UpdatableWorld;
+import it.unibo.jmpcoon.model.world.WorldFactoryImpl;
+
+/**
+ * Test class for the deterministic mode of {@link UpdatableWorld}.
+ */
+public class DeterministicWorldTest {
+    private static final String LEVEL_FILE = "level.lev";
+    private static final int TICKS = 600;
+    private static final int INPUT_PERIOD = 90;
+    private static final String DIVERGED = "Two deterministic worlds diverged at tick ";
+    private static final String NOT_DETERMINISTIC = "The world should be deterministic";
+    private static final String NOT_SAVED = "The deterministic mode wasn't saved with the world";
+    private static final double SHORT_ACTIVATION_DISTANCE = 1;
+    private static final String NOTHING_SLEEPING = "With a short activation distance some enemies should sleep";
+    private static final String QUALITY_CHANGED = "A deterministic world should always have the full physics quality";
+    private static final String WRONG_COUNT = "The active and sleeping enemies should be all the enemies";
+    /* enough walking enemies for their intents to be computed by the workers */
+    private static final long CROWDED_SEED = 11;
+    private static final int CROWDED_FLOORS = 8;
+    private static final int CROWDED_PLATFORMS = 32;
+    private static final int CROWDED_ENEMIES = 5;
+    private static final int CROWDED_TICKS = 30;
+    private static final double LONG_ACTIVATION_DISTANCE = 1000;
+    private static final int WORKERS = 3;
+
+    private List<EntityProperties> level;
+
+    /**
+     * Initialization method for loading the level of the game, which has all the kinds of entities.
+     * @throws IOException if the level can't be read
+     * @throws ClassNotFoundException if the level contains objects of unknown classes
+     */
+    @Before
+    public void loadLevel() throws IOException, ClassNotFoundException {
+        this.level = new LinkedList<>();
+        try (ObjectInputStream in = new ObjectInputStream(ClassLoader.getSystemResource(LEVEL_FILE).openStream())) {
+            final int n = in.readInt();
+            for (int i = 0; i < n; i++) {
+                this.level.add((EntityProperties) in.readObject());
+            }
+        }
+    }
+
+    /**
+     * Test for two deterministic worlds built separately from the same level, which should have the same state after every
+     * tick when given the same inputs.
+     */
+    @Test
+    public void sameLevelSameStatesTest() {
+        final UpdatableWorld first = this.createWorld();
+        final UpdatableWorld second = this.createWorld();
+        assertTrue(NOT_DETERMINISTIC, first.isDeterministic());
+        this.assertSameStates(first, second);
+    }
+
+    /**
+     * Test for a deterministic world and its saved copy, which should have the same state after every tick when given the
+     * same inputs.
+     * @throws IOException if the world can't be saved or loaded
+     * @throws ClassNotFoundException if the saved world contains objects of unknown classes
+     */
+    @Test
+    public void savedWorldSameStatesTest() throws IOException, ClassNotFoundException {
+        final UpdatableWorld original = this.createWorld();
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(original);
+        }
+        final UpdatableWorld first;
+        final UpdatableWorld second;
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            first = (UpdatableWorld) in.readObject();
+        }
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            second = (UpdatableWorld) in.readObject();
+        }
+        assertTrue(NOT_SAVED, first.isDeterministic());
+        this.assertSameStates(first, second);
+    }
+
+    /**
+     * Test for two deterministic worlds which put to sleep the enemies far from the player, which should still have the same
+     * state after every tick when given the same inputs.
+     */
+    @Test
+    public void sleepingEnemiesSameStatesTest() {
+        final UpdatableWorld first = this.createWorld();
+        final UpdatableWorld second = this.createWorld();
+        first.setActivationDistance(SHORT_ACTIVATION_DISTANCE);
+        second.setActivationDistance(SHORT_ACTIVATION_DISTANCE);
+        first.update();
+        second.update();
+        assertTrue(NOTHING_SLEEPING, first.getSleepingEnemiesCount() > 0);
+        assertEquals(WRONG_COUNT, second.getActiveEnemiesCount() + second.getSleepingEnemiesCount(),
+                     first.getActiveEnemiesCount() + first.getSleepingEnemiesCount());
+        this.assertSameStates(first, second);
+    }
+
+    /**
+     * Test for two deterministic worlds which can never respect the budget of their physics, which should neither lower the
+     * quality of their physics nor diverge.
+     */
+    @Test
+    public void exceededBudgetSameStatesTest() {
+        final UpdatableWorld first = this.createWorld();
+        final UpdatableWorld second = this.createWorld();
+        first.setPhysicsBudget(1);
+        second.setPhysicsBudget(1);
+        this.assertSameStates(first, second);
+        assertEquals(QUALITY_CHANGED, PhysicsQuality.FULL, first.getPhysicsQuality());
+    }
+
+    /**
+     * Test for two deterministic worlds with thousands of walking enemies, one of which computes the movements of the enemies
+     * on a pool of workers, which should have the same state after every tick.
+     */
+    @Test
+    public void parallelIntentsSameStatesTest() {
+        final LevelGenerator generator = new LevelGeneratorImpl.Builder().setSeed(CROWDED_SEED)
+                                                                         .setFloors(CROWDED_FLOORS)
+                                                                         .setPlatformsPerFloor(CROWDED_PLATFORMS)
+                                                                         .setEnemiesPerPlatform(CROWDED_ENEMIES)
+                                                                         .build();
+        final Pair<Double, Double> dimensions = generator.getWorldDimensions();
+        final List<EntityProperties> crowdedLevel = generator.generate();
+        final UpdatableWorld sequential = new WorldFactoryImpl().create(dimensions.getLeft(), dimensions.getRight());
+        final UpdatableWorld parallel = new WorldFactoryImpl().create(dimensions.getLeft(), dimensions.getRight());
+        final ForkJoinPool workers = new ForkJoinPool(WORKERS);
+        try {
+            for (final UpdatableWorld world : Arrays.asList(sequential, parallel)) {
+                world.setDeterministic(true);
+                world.setActivationDistance(LONG_ACTIVATION_DISTANCE);
+                world.initLevel(crowdedLevel);
+            }
+            parallel.setWorkers(Optional.of(workers));
+            for (int i = 0; i < CROWDED_TICKS; i++) {
+                sequential.update();
+                parallel.update();
+                assertEquals(DIVERGED + i, sequential.getStateChecksum(), parallel.getStateChecksum());
+            }
+        } finally {
+            workers.shutdown();
+        }
+    }
+
+    private UpdatableWorld createWorld() {
+        final UpdatableWorld world = new WorldFactoryImpl().create();
+        world.setDeterministic(true);
+        world.initLevel(this.level);
+        return world;
+    }
+
+    private void assertSameStates(final UpdatableWorld first, final UpdatableWorld second) {
+        for (int i = 0; i < TICKS && !first.isGameOver() && !first.hasPlayerWon(); i++) {
+            final Set<InputType> inputs = this.getInputs(i);
+            InputUtils.applyInputs(first, inputs);
+            InputUtils.applyInputs(second, inputs);
+            first.update();
+            second.update();
+            assertEquals(DIVERGED + i, first.getStateChecksum(), second.getStateChecksum());
+        }
+    }
+
+    /*
+     * Cycles between moving right, jumping while moving right, climbing up and moving left.
+     */
+    private Set<InputType> getInputs(final int tick) {
+        final Set<InputType> inputs = EnumSet.noneOf(InputType.class);
+        final InputType[] cycle = {InputType.RIGHT, InputType.UP, InputType.CLIMB_UP, InputType.LEFT};
+        final InputType current = cycle[(tick / INPUT_PERIOD) % cycle.length];
+        inputs.add(current);
+        if (current == InputType.UP) {
+            inputs.add(InputType.RIGHT);
+        }
+        return inputs;
+    }
+}
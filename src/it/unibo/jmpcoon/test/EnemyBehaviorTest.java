@@ -0,0 +1,92 @@
+package it.unibo.jmpcoon.test;
+
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+
+import org.apache.commons.lang3.tuple.ImmutablePair;
+import org.junit.Test;
+
+import com.google.common.base.Optional;
+
+import it.unibo.jmpcoon.model.entities.EntityPropertiesImpl;
+import it.unibo.jmpcoon.model.entities.EntityType;
+import it.unibo.jmpcoon.model.entities.UnmodifiableEntity;
+import it.unibo.jmpcoon.model.physics.BodyShape;
+import it.unibo.jmpcoon.model.physics.EnemyBehavior;
+import it.unibo.jmpcoon.model.physics.PhysicalBody;
+import it.unibo.jmpcoon.model.physics.PhysicalFactory;
+import it.unibo.jmpcoon.model.physics.PhysicalFactoryImpl;
+import it.unibo.jmpcoon.model.physics.TurnRule;
+import it.unibo.jmpcoon.model.physics.UpdatablePhysicalWorld;
+import it.unibo.jmpcoon.model.world.UpdatableWorld;
+import it.unibo.jmpcoon.model.world.WorldFactoryImpl;
+import it.unibo.jmpcoon.model.world.WorldImpl;
+
+/**
+ * Test for checking that the walking enemies follow their {@link EnemyBehavior} and that a behavior can be given only to the
+ * bodies which can move.
+ */
+public class EnemyBehaviorTest {
+    private static final double WORLD_WIDTH = 8;
+    private static final double WORLD_HEIGHT = 4.5;
+    private static final double PLATFORM_WIDTH = WORLD_WIDTH / 2;
+    private static final double PLATFORM_HEIGHT = 0.29;
+    private static final double ENEMY_DIMENSION = 0.25;
+    private static final double ENEMY_X = WORLD_WIDTH / 2;
+    private static final double WALKING_RANGE = 0.5;
+    private static final double PRECISION = 0.05;
+    private static final double ANGLE = 0;
+    private static final double SPEED = 1;
+    private static final int UPDATE_STEPS = 600;
+    private static final String OUT_OF_RANGE = "The enemy walked outside its range: ";
+    private static final String NO_TURN = "The enemy should have walked to both ends of its range";
+
+    /**
+     * Test for a walking enemy on a platform, which should walk right across its range, then back and forth between where it
+     * started and the other end of its range.
+     */
+    @Test
+    public void patrolTest() {
+        final UpdatableWorld world = new WorldFactoryImpl().create();
+        final double platformY = WORLD_HEIGHT / 2;
+        world.initLevel(Arrays.asList(new EntityPropertiesImpl(EntityType.PLATFORM, BodyShape.RECTANGLE, WORLD_WIDTH / 2,
+                                                               platformY, PLATFORM_WIDTH, PLATFORM_HEIGHT, ANGLE,
+                                                               Optional.absent(), Optional.absent()),
+                                      new EntityPropertiesImpl(EntityType.WALKING_ENEMY, BodyShape.RECTANGLE, ENEMY_X,
+                                                               platformY + PLATFORM_HEIGHT / 2 + ENEMY_DIMENSION / 2,
+                                                               ENEMY_DIMENSION, ENEMY_DIMENSION, ANGLE, Optional.absent(),
+                                                               Optional.of(WALKING_RANGE))));
+        double minX = ENEMY_X;
+        double maxX = ENEMY_X;
+        for (int i = 0; i < UPDATE_STEPS; i++) {
+            world.update();
+            final double x = world.getAliveEntities().stream()
+                                                     .filter(entity -> entity.getType() == EntityType.WALKING_ENEMY)
+                                                     .map(UnmodifiableEntity::getPosition)
+                                                     .findFirst()
+                                                     .get()
+                                                     .getLeft();
+            assertTrue(OUT_OF_RANGE + x, x > ENEMY_X - PRECISION && x < ENEMY_X + WALKING_RANGE + PRECISION);
+            minX = Math.min(minX, x);
+            maxX = Math.max(maxX, x);
+        }
+        assertTrue(NO_TURN, maxX > ENEMY_X + WALKING_RANGE - PRECISION);
+        assertTrue(NO_TURN, minX < ENEMY_X + PRECISION);
+    }
+
+    /**
+     * Test for the failure of giving a behavior to the body of a platform, which can't move.
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void staticBodyBehaviorFail() {
+        final PhysicalFactory factory = new PhysicalFactoryImpl();
+        final WorldImpl world = WorldImpl.class.cast(new WorldFactoryImpl().create());
+        final UpdatablePhysicalWorld physicalWorld = factory.createPhysicalWorld(world, WORLD_WIDTH, WORLD_HEIGHT);
+        final PhysicalBody platform = factory.createStaticPhysicalBody(new ImmutablePair<>(WORLD_WIDTH / 2, WORLD_HEIGHT / 2),
+                                                                       ANGLE, BodyShape.RECTANGLE, PLATFORM_WIDTH,
+                                                                       PLATFORM_HEIGHT, EntityType.PLATFORM,
+                                                                       Optional.absent());
+        physicalWorld.addBehavior(platform, new EnemyBehavior(SPEED, TurnRule.AT_RANGE_END), WALKING_RANGE);
+    }
+}
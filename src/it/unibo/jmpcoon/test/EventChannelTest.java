@@ -0,0 +1,105 @@
+package it.unibo.jmpcoon.test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.apache.commons.lang3.tuple.ImmutablePair;
+import org.apache.commons.lang3.tuple.Pair;
+import org.junit.Test;
+
+import it.unibo.jmpcoon.controller.game.EventChannel;
+import it.unibo.jmpcoon.controller.game.EventChannelImpl;
+import it.unibo.jmpcoon.controller.game.GameEvent;
+import it.unibo.jmpcoon.model.world.CollisionEvent;
+
+/**
+ * Test for checking that the events published into an {@link EventChannel} are received once and in order.
+ */
+public class EventChannelTest {
+    private static final int CAPACITY = 4;
+    private static final int CONCURRENT_CAPACITY = 64;
+    private static final int EVENTS_NUMBER = 20_000;
+    private static final String NOT_SAME_EVENTS = "The events drained aren't the ones published";
+    private static final String NOT_PUBLISHED = "The event should have been published";
+    private static final String PUBLISHED = "The event shouldn't have been published in a full channel";
+    private static final String WRONG_DROPPED = "The number of dropped events isn't the one presumed";
+    private static final String WRONG_ORDER = "The events have been received out of order or more than once";
+    private static final String NO_TRANSLATION = "Every collision event should be associated to a game event";
+
+    /**
+     * Test for the events drained, which should be the ones published in the same order, even when the ring buffer wraps.
+     */
+    @Test
+    public void orderTest() {
+        final EventChannel channel = new EventChannelImpl(CAPACITY);
+        final List<Pair<GameEvent, Long>> drained = new ArrayList<>();
+        final List<Pair<GameEvent, Long>> published = new ArrayList<>();
+        for (int i = 0; i < CAPACITY * 3; i++) {
+            final GameEvent event = GameEvent.values()[i % GameEvent.values().length];
+            assertTrue(NOT_PUBLISHED, channel.publish(event, i));
+            published.add(new ImmutablePair<>(event, (long) i));
+            if (i % 2 == 1) {
+                channel.drain((e, tick) -> drained.add(new ImmutablePair<>(e, tick)));
+            }
+        }
+        assertEquals(NOT_SAME_EVENTS, published, drained);
+        assertEquals(NOT_SAME_EVENTS, 0, channel.drain((e, tick) -> drained.add(new ImmutablePair<>(e, tick))));
+    }
+
+    /**
+     * Test for the events published when the channel is full, which should be dropped and counted.
+     */
+    @Test
+    public void fullChannelTest() {
+        final EventChannel channel = new EventChannelImpl(CAPACITY - 1);
+        for (int i = 0; i < CAPACITY; i++) {
+            assertTrue(NOT_PUBLISHED, channel.publish(GameEvent.JUMP, i));
+        }
+        assertFalse(PUBLISHED, channel.publish(GameEvent.JUMP, CAPACITY));
+        assertEquals(WRONG_DROPPED, 1, channel.getDroppedCount());
+        assertEquals(NOT_SAME_EVENTS, CAPACITY, channel.drain((e, tick) -> { }));
+        assertTrue(NOT_PUBLISHED, channel.publish(GameEvent.JUMP, CAPACITY));
+    }
+
+    /**
+     * Test for a producer and a consumer running on two different threads, where every event should be received exactly
+     * once and in order.
+     * @throws InterruptedException if the test is interrupted while waiting for the producer
+     */
+    @Test
+    public void concurrentTest() throws InterruptedException {
+        final EventChannel channel = new EventChannelImpl(CONCURRENT_CAPACITY);
+        final Thread producer = new Thread(() -> {
+            for (int i = 0; i < EVENTS_NUMBER; i++) {
+                while (!channel.publish(GameEvent.JUMP, i)) {
+                    Thread.yield();
+                }
+            }
+        });
+        final AtomicLong expected = new AtomicLong();
+        producer.setDaemon(true);
+        producer.start();
+        while (expected.get() < EVENTS_NUMBER) {
+            if (channel.drain((e, tick) -> assertEquals(WRONG_ORDER, expected.getAndIncrement(), tick)) == 0) {
+                Thread.yield();
+            }
+        }
+        producer.join();
+        assertEquals(WRONG_ORDER, EVENTS_NUMBER, expected.get());
+    }
+
+    /**
+     * Test for the translations of the {@link CollisionEvent}s into {@link GameEvent}s.
+     */
+    @Test
+    public void translationTest() {
+        for (final CollisionEvent event : CollisionEvent.values()) {
+            assertEquals(NO_TRANSLATION, event, GameEvent.fromCollisionEvent(event).getAssociatedCollisionEvent().get());
+        }
+    }
+}
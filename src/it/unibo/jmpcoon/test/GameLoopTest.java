@@ -0,0 +1,82 @@
+package it.unibo.jmpcoon.test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+import it.unibo.jmpcoon.controller.game.GameLoop;
+import it.unibo.jmpcoon.controller.game.GameLoopImpl;
+
+/**
+ * Test for checking that a {@link GameLoop} runs its ticks on a single thread and pauses and resumes without changing it.
+ */
+public class GameLoopTest {
+    private static final long DELAY = 1;
+    private static final int TICKS = 20;
+    private static final long TIMEOUT = 5;
+    private static final long PAUSE = 50;
+    private static final String NOT_TICKING = "The loop should run its ticks while started";
+    private static final String TICKED_WHILE_PAUSED = "The loop shouldn't run any tick while paused";
+    private static final String MORE_THREADS = "All the ticks should be run by the same thread, even after a pause";
+    private static final String STILL_RUNNING = "The loop shouldn't be running after being stopped";
+    private static final String TICKED_AFTER_FAILURE = "The loop shouldn't run any tick after a failed one";
+
+    /**
+     * Test for a loop paused and resumed, which should run no tick while paused and all the ticks on the same thread.
+     * @throws InterruptedException if the test is interrupted while waiting for the ticks
+     */
+    @Test
+    public void pauseResumeTest() throws InterruptedException {
+        final AtomicInteger ticks = new AtomicInteger();
+        final Set<Thread> threads = ConcurrentHashMap.newKeySet();
+        final CountDownLatch firstTicks = new CountDownLatch(TICKS);
+        final CountDownLatch secondTicks = new CountDownLatch(2 * TICKS);
+        final GameLoop loop = new GameLoopImpl(() -> {
+            ticks.incrementAndGet();
+            threads.add(Thread.currentThread());
+            firstTicks.countDown();
+            secondTicks.countDown();
+        }, DELAY, TimeUnit.MILLISECONDS, false);
+        loop.start();
+        assertTrue(NOT_TICKING, firstTicks.await(TIMEOUT, TimeUnit.SECONDS));
+        loop.pause();
+        /* a tick already running when paused is allowed to complete */
+        Thread.sleep(PAUSE);
+        final int pausedTicks = ticks.get();
+        Thread.sleep(PAUSE);
+        assertEquals(TICKED_WHILE_PAUSED, pausedTicks, ticks.get());
+        loop.start();
+        assertTrue(NOT_TICKING, secondTicks.await(TIMEOUT, TimeUnit.SECONDS));
+        loop.stop();
+        assertFalse(STILL_RUNNING, loop.isRunning());
+        assertEquals(MORE_THREADS, 1, threads.size());
+    }
+
+    /**
+     * Test for a loop whose tick fails, which should stop without running other ticks.
+     * @throws InterruptedException if the test is interrupted while waiting for the ticks
+     */
+    @Test
+    public void failingTickTest() throws InterruptedException {
+        final AtomicInteger ticks = new AtomicInteger();
+        final CountDownLatch failed = new CountDownLatch(1);
+        final GameLoop loop = new GameLoopImpl(() -> {
+            ticks.incrementAndGet();
+            failed.countDown();
+            throw new IllegalStateException();
+        }, DELAY, TimeUnit.MILLISECONDS, false);
+        loop.start();
+        assertTrue(NOT_TICKING, failed.await(TIMEOUT, TimeUnit.SECONDS));
+        Thread.sleep(PAUSE);
+        assertEquals(TICKED_AFTER_FAILURE, 1, ticks.get());
+        assertFalse(STILL_RUNNING, loop.isRunning());
+    }
+}
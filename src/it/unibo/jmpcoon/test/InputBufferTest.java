@@ -0,0 +1,54 @@
+package it.unibo.jmpcoon.test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.EnumSet;
+
+import org.junit.Test;
+
+import it.unibo.jmpcoon.controller.game.InputType;
+import it.unibo.jmpcoon.view.game.InputBuffer;
+import it.unibo.jmpcoon.view.game.InputBufferImpl;
+
+/**
+ * Test for checking that an {@link InputBuffer} applies every input given between two ticks.
+ */
+public class InputBufferTest {
+    private static final String LOST_PRESS = "A key pressed and released inside a tick should be applied in that tick";
+    private static final String NOT_HELD = "A key held should be applied in every tick until released";
+    private static final String NOT_RELEASED = "A key released should no longer be applied";
+    private static final String WRONG_LATENCIES = "The number of latencies measured isn't the one presumed";
+
+    /**
+     * Test for a key pressed and released between two ticks, which should be applied only in the first one.
+     */
+    @Test
+    public void tapInsideTickTest() {
+        final InputBuffer buffer = new InputBufferImpl();
+        final long now = System.nanoTime();
+        buffer.record(InputType.UP, true, now);
+        buffer.record(InputType.UP, false, now + 1);
+        assertEquals(LOST_PRESS, EnumSet.of(InputType.UP), buffer.drainTick());
+        assertTrue(NOT_RELEASED, buffer.drainTick().isEmpty());
+    }
+
+    /**
+     * Test for a key held across more ticks, where the repeated presses sent by the system shouldn't count as new inputs.
+     */
+    @Test
+    public void heldKeyTest() {
+        final InputBuffer buffer = new InputBufferImpl();
+        final long now = System.nanoTime();
+        buffer.record(InputType.RIGHT, true, now);
+        assertEquals(NOT_HELD, EnumSet.of(InputType.RIGHT), buffer.drainTick());
+        buffer.record(InputType.RIGHT, true, now + 1);
+        buffer.record(InputType.LEFT, true, now + 2);
+        assertEquals(NOT_HELD, EnumSet.of(InputType.RIGHT, InputType.LEFT), buffer.drainTick());
+        buffer.record(InputType.RIGHT, false, now + 3);
+        assertEquals(NOT_RELEASED, EnumSet.of(InputType.LEFT), buffer.drainTick());
+        buffer.frameShown();
+        assertEquals(WRONG_LATENCIES, 2, buffer.getTickLatency().getCount());
+        assertEquals(WRONG_LATENCIES, 2, buffer.getFrameLatency().getCount());
+    }
+}
@@ -0,0 +1,76 @@
+package it.unibo.jmpcoon.test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+
+import java.util.List;
+
+import org.apache.commons.lang3.tuple.Pair;
+import org.junit.Test;
+
+import it.unibo.jmpcoon.controller.simulation.LevelGenerator;
+import it.unibo.jmpcoon.controller.simulation.LevelGeneratorImpl;
+import it.unibo.jmpcoon.model.entities.EntityProperties;
+import it.unibo.jmpcoon.model.world.UpdatableWorld;
+import it.unibo.jmpcoon.model.world.WorldFactoryImpl;
+
+/**
+ * Test for checking that a {@link LevelGenerator} produces the same level from the same seed and that its levels can be
+ * played in a world of the dimensions it gives.
+ */
+public class LevelGeneratorTest {
+    private static final long SEED = 7;
+    private static final int FLOORS = 3;
+    private static final int PLATFORMS = 5;
+    private static final int ENEMIES = 2;
+    private static final int LADDERS = 2;
+    private static final int GENERATORS = 1;
+    private static final int POWER_UPS = 1;
+    private static final int UPDATE_STEPS = 100;
+    private static final String DIFFERENT_LEVELS = "The same seed should produce the same level";
+    private static final String SAME_LEVELS = "Different seeds should produce different levels";
+    private static final String WRONG_ENTITIES_NUMBER = "A different number of entities were created";
+    private static final String GAME_OVER = "The player shouldn't have died standing still on its platform";
+
+    /**
+     * Test for the levels generated from the same seed and from different seeds.
+     */
+    @Test
+    public void sameSeedSameLevelTest() {
+        assertEquals(DIFFERENT_LEVELS, this.createGenerator(SEED).generate(), this.createGenerator(SEED).generate());
+        assertNotEquals(SAME_LEVELS, this.createGenerator(SEED).generate(), this.createGenerator(SEED + 1).generate());
+    }
+
+    /**
+     * Test for a level generated loaded in a world as big as the generator asks.
+     */
+    @Test
+    public void loadLevelTest() {
+        final LevelGenerator generator = this.createGenerator(SEED);
+        final List<EntityProperties> level = generator.generate();
+        /* the enemies are on every platform but the one of the player, the ladders on every floor but the highest one */
+        assertEquals(WRONG_ENTITIES_NUMBER, FLOORS * PLATFORMS + (FLOORS * PLATFORMS - 1) * ENEMIES + (FLOORS - 1) * LADDERS
+                                            + FLOORS * (GENERATORS + POWER_UPS) + 2, level.size());
+        final Pair<Double, Double> dimensions = generator.getWorldDimensions();
+        final UpdatableWorld world = new WorldFactoryImpl().create(dimensions.getLeft(), dimensions.getRight());
+        world.initLevel(level);
+        /* the enemy generators aren't shown, so they aren't among the alive entities */
+        assertEquals(WRONG_ENTITIES_NUMBER, level.size() - FLOORS * GENERATORS, world.getAliveEntities().size());
+        for (int i = 0; i < UPDATE_STEPS; i++) {
+            world.update();
+        }
+        assertFalse(GAME_OVER, world.isGameOver());
+    }
+
+    private LevelGenerator createGenerator(final long seed) {
+        return new LevelGeneratorImpl.Builder().setSeed(seed)
+                                               .setFloors(FLOORS)
+                                               .setPlatformsPerFloor(PLATFORMS)
+                                               .setEnemiesPerPlatform(ENEMIES)
+                                               .setLaddersPerFloor(LADDERS)
+                                               .setGeneratorsPerFloor(GENERATORS)
+                                               .setPowerUpsPerFloor(POWER_UPS)
+                                               .build();
+    }
+}
@@ -1,5 +1,6 @@
 package it.unibo.jmpcoon.test;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
 
 import java.util.stream.IntStream;
@@ -8,11 +9,15 @@ import org.apache.commons.lang3.tuple.ImmutablePair;
 import org.junit.Before;
 import org.junit.Test;
 
+import com.google.common.base.Optional;
+
 import it.unibo.jmpcoon.model.entities.EntityType;
 import it.unibo.jmpcoon.model.physics.BodyShape;
+import it.unibo.jmpcoon.model.physics.PhysicalBody;
 import it.unibo.jmpcoon.model.physics.PhysicalFactory;
 import it.unibo.jmpcoon.model.physics.PhysicalFactoryImpl;
 import it.unibo.jmpcoon.model.physics.PhysicalWorld;
+import it.unibo.jmpcoon.model.physics.UpdatablePhysicalWorld;
 import it.unibo.jmpcoon.model.physics.collisions.PhysicsRulesFactory;
 import it.unibo.jmpcoon.model.physics.collisions.PhysicsRulesFactoryImpl;
 import it.unibo.jmpcoon.model.world.World;
@@ -29,6 +34,8 @@ public class PhysicalWorldTest {
     private static final double STD_HEIGHT = WORLD_HEIGHT / 15;
     private static final ImmutablePair<Double, Double> STD_POSITION = new ImmutablePair<>(WORLD_WIDTH / 2, WORLD_HEIGHT / 2);
     private static final String NOT_CREATED = "This instance should have been created correctly";
+    private static final String WRONG_ID = "The identifiers should be given in order of creation";
+    private static final String WRONG_SLOTS = "The slots of the bodies removed should be reused";
 
     private final World world = WorldImpl.class.cast(new WorldFactoryImpl().create());
     private PhysicalFactory factory;
@@ -62,6 +69,33 @@ public class PhysicalWorldTest {
                                                                          STD_HEIGHT));
     }
 
+    /**
+     * Test for the identifiers given to {@link PhysicalBody}s, which should be dense, kept after the removal of other bodies and
+     * given again to the bodies created after a removal.
+     */
+    @Test
+    public void bodiesIdentifiersTest() {
+        final UpdatablePhysicalWorld physicalWorld = this.factory.createPhysicalWorld(this.world, WORLD_WIDTH, WORLD_HEIGHT);
+        final PhysicalBody first = this.factory.createStaticPhysicalBody(STD_POSITION, 0, BodyShape.RECTANGLE, STD_WIDTH,
+                                                                         STD_HEIGHT, EntityType.PLATFORM, Optional.absent());
+        final PhysicalBody second = this.factory.createDynamicPhysicalBody(STD_POSITION, 0, BodyShape.RECTANGLE, STD_WIDTH,
+                                                                           STD_HEIGHT, EntityType.WALKING_ENEMY);
+        assertEquals(WRONG_ID, 0, first.getId());
+        assertEquals(WRONG_ID, 1, second.getId());
+        physicalWorld.removeBody(first);
+        final PhysicalBody third = this.factory.createPlayerPhysicalBody(STD_POSITION, 0, BodyShape.RECTANGLE, STD_WIDTH,
+                                                                         STD_HEIGHT);
+        assertEquals(WRONG_ID, 1, second.getId());
+        assertEquals(WRONG_ID, 0, third.getId());
+        assertEquals(WRONG_SLOTS, 2, physicalWorld.getBodySlotsCount());
+        /* removing again a body already removed shouldn't remove the body which took its identifier */
+        physicalWorld.removeBody(first);
+        final PhysicalBody fourth = this.factory.createStaticPhysicalBody(STD_POSITION, 0, BodyShape.RECTANGLE, STD_WIDTH,
+                                                                          STD_HEIGHT, EntityType.LADDER, Optional.absent());
+        assertEquals(WRONG_ID, 2, fourth.getId());
+        assertEquals(WRONG_SLOTS, 3, physicalWorld.getBodySlotsCount());
+    }
+
     /**
      * Test for the correct failure of creating a {@link it.unibo.jmpcoon.model.physics.PhysicalWorld} after the first created.
      */
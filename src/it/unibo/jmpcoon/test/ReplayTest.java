@@ -0,0 +1,150 @@
+package it.unibo.jmpcoon.test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.zip.GZIPOutputStream;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import com.google.common.base.Optional;
+import com.google.common.collect.Sets;
+
+import it.unibo.jmpcoon.controller.game.InputType;
+import it.unibo.jmpcoon.controller.game.InputUtils;
+import it.unibo.jmpcoon.controller.replay.Replay;
+import it.unibo.jmpcoon.controller.replay.ReplayDriver;
+import it.unibo.jmpcoon.controller.replay.ReplayDriverImpl;
+import it.unibo.jmpcoon.controller.replay.ReplayFiles;
+import it.unibo.jmpcoon.controller.replay.ReplayRecorder;
+import it.unibo.jmpcoon.controller.replay.ReplayRecorderImpl;
+import it.unibo.jmpcoon.model.entities.EntityPropertiesImpl;
+import it.unibo.jmpcoon.model.entities.EntityType;
+import it.unibo.jmpcoon.model.physics.BodyShape;
+import it.unibo.jmpcoon.model.world.UpdatableWorld;
+import it.unibo.jmpcoon.model.world.WorldFactoryImpl;
+
+/**
+ * Test class for the recording and the replaying of a game session.
+ */
+public class ReplayTest {
+    private static final String LEVEL_ID = "test";
+    private static final double WORLD_WIDTH = 8;
+    private static final double WORLD_HEIGHT = 4.5;
+    private static final double PLATFORM_HEIGHT = 0.29;
+    private static final double PLAYER_DIMENSION = 0.3;
+    private static final double ANGLE = 0;
+    private static final int TICKS = 150;
+    private static final int JUMP_TICK = 40;
+    private static final int RIGHT_END_TICK = 60;
+    private static final int LEFT_END_TICK = 110;
+    private static final String WRONG_TICKS = "The replay doesn't have the recorded number of ticks";
+    private static final String WRONG_INPUTS = "The replay doesn't have the recorded inputs";
+    private static final String WRONG_HASH = "The replay doesn't have the recorded state hashes";
+    private static final String DIVERGED = "The replayed game diverged from the recorded one";
+    private static final String WRONG_STATE = "The replayed game didn't reach the recorded final state";
+    private static final String WRONG_MASK = "The inputs weren't correctly encoded";
+
+    private UpdatableWorld world;
+
+    /**
+     * Initialization method for having a new {@link UpdatableWorld} with a platform and a player every test.
+     */
+    @Before
+    public void initializeWorld() {
+        this.world = new WorldFactoryImpl().create();
+        this.world.initLevel(Arrays.asList(new EntityPropertiesImpl(EntityType.PLATFORM, BodyShape.RECTANGLE, WORLD_WIDTH / 2,
+                                                                    WORLD_HEIGHT / 2, WORLD_WIDTH / 2, PLATFORM_HEIGHT, ANGLE,
+                                                                    Optional.absent(), Optional.absent()),
+                                           new EntityPropertiesImpl(EntityType.PLAYER, BodyShape.RECTANGLE, WORLD_WIDTH / 2,
+                                                                    WORLD_HEIGHT / 2 + PLATFORM_HEIGHT / 2
+                                                                    + PLAYER_DIMENSION / 2,
+                                                                    PLAYER_DIMENSION, PLAYER_DIMENSION, ANGLE,
+                                                                    Optional.absent(), Optional.absent())));
+    }
+
+    /**
+     * Test for the encoding of every possible combination of {@link InputType}s as a mask.
+     */
+    @Test
+    public void inputMaskTest() {
+        Sets.powerSet(EnumSet.allOf(InputType.class))
+            .forEach(inputs -> assertEquals(WRONG_MASK, inputs, InputUtils.fromMask(InputUtils.toMask(inputs))));
+    }
+
+    /**
+     * Test for the recording of a session, its saving and loading and its replaying with no divergences.
+     * @throws IOException if the replay can't be written or read
+     */
+    @Test
+    public void recordAndReplayTest() throws IOException {
+        final ReplayRecorder recorder = new ReplayRecorderImpl(LEVEL_ID, this.world);
+        final UpdatableWorld recordedWorld = recorder.getWorld();
+        for (int i = 0; i < TICKS; i++) {
+            final Set<InputType> inputs = this.getScriptedInputs(i);
+            InputUtils.applyInputs(recordedWorld, inputs);
+            recordedWorld.update();
+            recorder.recordTick(inputs);
+        }
+        final Replay recorded = recorder.getReplay();
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        ReplayFiles.write(recorded, bytes);
+        final Replay loaded = ReplayFiles.read(new ByteArrayInputStream(bytes.toByteArray()));
+        assertEquals(WRONG_TICKS, TICKS, loaded.getTickCount());
+        assertEquals(LEVEL_ID, loaded.getLevelId());
+        for (int i = 0; i < TICKS; i++) {
+            assertEquals(WRONG_INPUTS, this.getScriptedInputs(i), loaded.getInputs(i));
+            assertEquals(WRONG_HASH, recorded.getStateHash(i), loaded.getStateHash(i));
+        }
+        final ReplayDriver driver = new ReplayDriverImpl(loaded);
+        assertFalse(DIVERGED, driver.runHeadless().isPresent());
+        assertEquals(WRONG_STATE, recordedWorld.getStateChecksum(), driver.getWorld().getStateChecksum());
+    }
+
+    /**
+     * Test for the illegality of re-running a tick after the end of a {@link Replay}.
+     */
+    @Test(expected = IllegalStateException.class)
+    public void stepAfterEndTest() {
+        final ReplayDriver driver = new ReplayDriverImpl(new ReplayRecorderImpl(LEVEL_ID, this.world).getReplay());
+        driver.step();
+    }
+
+    /**
+     * Test for the refusal of reading data which isn't a {@link Replay}.
+     * @throws IOException if the data can't be read
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void incompatibleReplayTest() throws IOException {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(new GZIPOutputStream(bytes))) {
+            out.writeInt(0);
+        }
+        ReplayFiles.read(new ByteArrayInputStream(bytes.toByteArray()));
+    }
+
+    /*
+     * Moves the player right, makes it jump, then moves it left and finally leaves it still.
+     */
+    private Set<InputType> getScriptedInputs(final int tick) {
+        final Collection<InputType> inputs = EnumSet.noneOf(InputType.class);
+        if (tick < RIGHT_END_TICK) {
+            inputs.add(InputType.RIGHT);
+        } else if (tick < LEFT_END_TICK) {
+            inputs.add(InputType.LEFT);
+        }
+        if (tick == JUMP_TICK) {
+            inputs.add(InputType.UP);
+        }
+        return InputUtils.toOrderedSet(inputs);
+    }
+}
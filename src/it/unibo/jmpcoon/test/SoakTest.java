@@ -0,0 +1,115 @@
+package it.unibo.jmpcoon.test;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.lang.management.ManagementFactory;
+import java.util.Arrays;
+
+import org.junit.Test;
+
+import com.google.common.base.Optional;
+
+import it.unibo.jmpcoon.model.entities.EntityPropertiesImpl;
+import it.unibo.jmpcoon.model.entities.EntityType;
+import it.unibo.jmpcoon.model.physics.BodyShape;
+import it.unibo.jmpcoon.model.world.UpdatableWorld;
+import it.unibo.jmpcoon.model.world.WorldFactoryImpl;
+
+/**
+ * Soak test for checking that a long game where enemies keep being generated and dying doesn't make the memory used grow.
+ * The number of ticks simulated is small by default so as to be run along with the other tests, for a real soak of millions
+ * of ticks it can be raised through the {@value #TICKS_PROPERTY} system property.
+ */
+public class SoakTest {
+    private static final String TICKS_PROPERTY = "jmpcoon.soak.ticks";
+    private static final int DEFAULT_TICKS = 30_000;
+    private static final double WARMUP_FRACTION = 0.1;
+    private static final long HEAP_MARGIN = 32L << 20;
+    private static final double WORLD_WIDTH = 8;
+    private static final double WORLD_HEIGHT = 4.5;
+    /* wide enough for a generator at one end to be beyond the activation distance from a player at the other end */
+    private static final double WIDE_WORLD_WIDTH = 40;
+    private static final double ACTIVATION_DISTANCE = 12;
+    private static final double PLATFORM_WIDTH = 2;
+    private static final double PLATFORM_HEIGHT = 0.29;
+    private static final double PLAYER_DIMENSION = 0.3;
+    private static final double GENERATOR_DIMENSION = 0.5;
+    private static final double ANGLE = 0;
+    private static final String PLAYER_DEAD = "The player should survive, otherwise nothing is being tested";
+    private static final String SLOTS_GROWN = "The slots of the entities kept growing: ";
+    private static final String ENTITIES_GROWN = "The alive entities kept growing: ";
+    private static final String HEAP_GROWN = "The heap used kept growing, in bytes: ";
+    private static final String SLEEPING_GROWN = "The sleeping enemies kept growing: ";
+
+    /**
+     * Test for a game where the rolling enemies created by a generator fall out of the world, so they are created and removed
+     * for the whole game, which should keep the same number of slots of entities, the same number of alive entities and
+     * about the same heap used it had after the first enemies.
+     */
+    @Test
+    public void generatedEnemiesBoundedTest() {
+        assertBounded(new WorldFactoryImpl().create(), WORLD_WIDTH);
+    }
+
+    /**
+     * Test for a game where the generator is farther from the player than the activation distance, so the enemies it could
+     * create would be put to sleep far from the player, which should keep the same number of slots of entities, the same
+     * number of alive entities and of sleeping enemies and about the same heap used it had after the first ticks.
+     */
+    @Test
+    public void farGeneratorBoundedTest() {
+        final UpdatableWorld world = new WorldFactoryImpl().create(WIDE_WORLD_WIDTH, WORLD_HEIGHT);
+        world.setActivationDistance(ACTIVATION_DISTANCE);
+        assertBounded(world, WIDE_WORLD_WIDTH);
+    }
+
+    /*
+     * Runs a level in the given world of the given width, with the player on a platform at its left end and a generator at its
+     * right end, checking that the entities, the sleeping enemies and the heap used don't keep growing after the warmup.
+     */
+    private static void assertBounded(final UpdatableWorld world, final double worldWidth) {
+        final int ticks = Integer.getInteger(TICKS_PROPERTY, DEFAULT_TICKS);
+        final int warmupTicks = (int) (ticks * WARMUP_FRACTION);
+        /* the generator has nothing under it, so its enemies fall out of the world far from the player */
+        world.initLevel(Arrays.asList(new EntityPropertiesImpl(EntityType.PLATFORM, BodyShape.RECTANGLE, PLATFORM_WIDTH / 2,
+                                                               WORLD_HEIGHT / 4, PLATFORM_WIDTH, PLATFORM_HEIGHT, ANGLE,
+                                                               Optional.absent(), Optional.absent()),
+                                      new EntityPropertiesImpl(EntityType.PLAYER, BodyShape.RECTANGLE, PLATFORM_WIDTH / 4,
+                                                               WORLD_HEIGHT / 4 + PLATFORM_HEIGHT / 2 + PLAYER_DIMENSION / 2,
+                                                               PLAYER_DIMENSION, PLAYER_DIMENSION, ANGLE, Optional.absent(),
+                                                               Optional.absent()),
+                                      new EntityPropertiesImpl(EntityType.ENEMY_GENERATOR, BodyShape.CIRCLE,
+                                                               worldWidth - GENERATOR_DIMENSION, WORLD_HEIGHT / 2,
+                                                               GENERATOR_DIMENSION, GENERATOR_DIMENSION, ANGLE,
+                                                               Optional.absent(), Optional.absent())));
+        for (int i = 0; i < warmupTicks; i++) {
+            world.update();
+        }
+        final int warmupSlots = world.getEntitySlotsCount();
+        final int warmupEntities = world.getAliveEntities().size();
+        final int warmupSleeping = world.getSleepingEnemiesCount();
+        final long warmupHeap = getUsedHeap();
+        int maxSlots = warmupSlots;
+        int maxEntities = warmupEntities;
+        int maxSleeping = warmupSleeping;
+        for (int i = warmupTicks; i < ticks && !world.isGameOver(); i++) {
+            world.update();
+            maxSlots = Math.max(maxSlots, world.getEntitySlotsCount());
+            maxEntities = Math.max(maxEntities, world.getAliveEntities().size());
+            maxSleeping = Math.max(maxSleeping, world.getSleepingEnemiesCount());
+        }
+        assertFalse(PLAYER_DEAD, world.isGameOver());
+        /* at most one enemy can be falling while the next one is generated */
+        assertTrue(SLOTS_GROWN + warmupSlots + " -> " + maxSlots, maxSlots <= warmupSlots + 1);
+        assertTrue(ENTITIES_GROWN + warmupEntities + " -> " + maxEntities, maxEntities <= warmupEntities + 1);
+        assertTrue(SLEEPING_GROWN + warmupSleeping + " -> " + maxSleeping, maxSleeping <= warmupSleeping + 1);
+        final long heap = getUsedHeap();
+        assertTrue(HEAP_GROWN + warmupHeap + " -> " + heap, heap <= warmupHeap + HEAP_MARGIN);
+    }
+
+    private static long getUsedHeap() {
+        System.gc();
+        return ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed();
+    }
+}
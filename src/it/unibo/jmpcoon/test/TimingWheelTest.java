@@ -0,0 +1,170 @@
+package it.unibo.jmpcoon.test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Test;
+
+import it.unibo.jmpcoon.model.timing.TimedAction;
+import it.unibo.jmpcoon.model.timing.Timer;
+import it.unibo.jmpcoon.model.timing.TimingWheel;
+import it.unibo.jmpcoon.model.timing.TimingWheelImpl;
+
+/**
+ * Test for checking that the actions scheduled on a {@link TimingWheel} run at the right ticks, also when they are far
+ * enough to be moved between the levels of the wheel, and that they keep their ticks when the wheel is saved and read.
+ */
+public class TimingWheelTest {
+    /* on the borders of the levels of the wheel, whose slots are 64 */
+    private static final List<Long> DELAYS = Arrays.asList(1L, 2L, 63L, 64L, 65L, 127L, 4095L, 4096L, 4097L, 300_000L);
+    private static final long PERIOD = 70;
+    private static final int RUNS = 5;
+    private static final long CANCEL_TICK = 10;
+    private static final long SAVE_TICK = 100;
+    private static final String WRONG_TICKS = "The actions didn't run at the ticks they were scheduled for";
+    private static final String WRONG_COUNT = "The number of scheduled actions is wrong";
+    private static final String CANCELLED_RUN = "A cancelled action has run";
+    private static final String STILL_SCHEDULED = "The timer should no longer be scheduled";
+    private static final String WRONG_REMAINING = "The ticks left of the timer are wrong";
+
+    /**
+     * Test for actions run once, scheduled at the same tick at different distances.
+     */
+    @Test
+    public void oneShotTest() {
+        final TimingWheel wheel = new TimingWheelImpl();
+        final TickRecorder recorder = new TickRecorder(wheel);
+        DELAYS.forEach(delay -> wheel.schedule(delay, recorder));
+        assertEquals(WRONG_COUNT, DELAYS.size(), wheel.getScheduledCount());
+        advance(wheel, Collections.max(DELAYS));
+        assertEquals(WRONG_TICKS, DELAYS, recorder.getTicks());
+        assertEquals(WRONG_COUNT, 0, wheel.getScheduledCount());
+    }
+
+    /**
+     * Test for an action run periodically and for cancelling actions, also from inside another action.
+     */
+    @Test
+    public void repeatingAndCancelTest() {
+        final TimingWheel wheel = new TimingWheelImpl();
+        final TickRecorder recorder = new TickRecorder(wheel);
+        final Timer repeating = wheel.scheduleRepeating(1, PERIOD, recorder);
+        final TickRecorder cancelled = new TickRecorder(wheel);
+        /* it's in the upper level until it's moved down after its canceller, which is scheduled later in the lowest one */
+        final Timer toCancel = wheel.schedule(PERIOD, cancelled);
+        advance(wheel, CANCEL_TICK);
+        wheel.schedule(PERIOD - CANCEL_TICK, new Canceller(toCancel));
+        final Timer later = wheel.schedule(PERIOD * 2, cancelled);
+        assertEquals(WRONG_REMAINING, PERIOD * 2, later.getRemainingTicks());
+        later.cancel();
+        assertFalse(STILL_SCHEDULED, later.isScheduled());
+        advance(wheel, PERIOD * RUNS - CANCEL_TICK);
+        final List<Long> expected = new ArrayList<>();
+        for (int i = 0; i < RUNS; i++) {
+            expected.add(1 + i * PERIOD);
+        }
+        assertEquals(WRONG_TICKS, expected, recorder.getTicks());
+        assertTrue(CANCELLED_RUN, cancelled.getTicks().isEmpty());
+        assertFalse(STILL_SCHEDULED, toCancel.isScheduled());
+        assertEquals(WRONG_COUNT, 1, wheel.getScheduledCount());
+        repeating.cancel();
+        assertEquals(WRONG_COUNT, 0, wheel.getScheduledCount());
+    }
+
+    /**
+     * Test for a wheel saved and read while it has actions scheduled, which should run at the same ticks as in the original
+     * wheel.
+     * @throws IOException if the wheel can't be written or read
+     * @throws ClassNotFoundException if the classes of the wheel read can't be found
+     */
+    @Test
+    public void saveTest() throws IOException, ClassNotFoundException {
+        final TimingWheel wheel = new TimingWheelImpl();
+        final TickRecorder recorder = new TickRecorder(wheel);
+        DELAYS.forEach(delay -> wheel.schedule(delay, recorder));
+        final Timer repeating = wheel.scheduleRepeating(PERIOD, PERIOD, recorder);
+        advance(wheel, SAVE_TICK);
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(recorder);
+            out.writeObject(repeating);
+        }
+        final TickRecorder readRecorder;
+        final Timer readRepeating;
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            readRecorder = (TickRecorder) in.readObject();
+            readRepeating = (Timer) in.readObject();
+        }
+        final TimingWheel readWheel = readRecorder.getWheel();
+        assertEquals(WRONG_COUNT, wheel.getScheduledCount(), readWheel.getScheduledCount());
+        assertEquals(WRONG_REMAINING, repeating.getRemainingTicks(), readRepeating.getRemainingTicks());
+        advance(wheel, Collections.max(DELAYS));
+        advance(readWheel, Collections.max(DELAYS));
+        assertEquals(WRONG_TICKS, recorder.getTicks(), readRecorder.getTicks());
+        readRepeating.cancel();
+        assertEquals(WRONG_COUNT, wheel.getScheduledCount() - 1, readWheel.getScheduledCount());
+    }
+
+    private static void advance(final TimingWheel wheel, final long ticks) {
+        for (long i = 0; i < ticks; i++) {
+            wheel.advance();
+        }
+    }
+
+    /*
+     * An action which records the ticks in which it runs.
+     */
+    private static final class TickRecorder implements TimedAction {
+        private static final long serialVersionUID = 1L;
+
+        private final TimingWheel wheel;
+        private final List<Long> ticks;
+
+        TickRecorder(final TimingWheel wheel) {
+            this.wheel = wheel;
+            this.ticks = new ArrayList<>();
+        }
+
+        @Override
+        public void onExpired() {
+            this.ticks.add(this.wheel.getTick());
+        }
+
+        TimingWheel getWheel() {
+            return this.wheel;
+        }
+
+        List<Long> getTicks() {
+            return this.ticks;
+        }
+    }
+
+    /*
+     * An action which cancels a timer.
+     */
+    private static final class Canceller implements TimedAction {
+        private static final long serialVersionUID = 1L;
+
+        private final Timer timer;
+
+        Canceller(final Timer timer) {
+            this.timer = timer;
+        }
+
+        @Override
+        public void onExpired() {
+            this.timer.cancel();
+        }
+    }
+}
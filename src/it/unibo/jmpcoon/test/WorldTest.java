@@ -22,6 +22,7 @@ import it.unibo.jmpcoon.model.entities.EntityType;
 import it.unibo.jmpcoon.model.entities.MovementType;
 import it.unibo.jmpcoon.model.entities.UnmodifiableEntity;
 import it.unibo.jmpcoon.model.physics.BodyShape;
+import it.unibo.jmpcoon.model.world.CollisionEvent;
 import it.unibo.jmpcoon.model.world.UpdatableWorld;
 import it.unibo.jmpcoon.model.world.WorldFactory;
 import it.unibo.jmpcoon.model.world.WorldFactoryImpl;
@@ -48,6 +49,8 @@ public class WorldTest {
     private static final String NO_PLAYER_RIGHT = "The player didn't move right";
     private static final String NO_PLAYER_LEFT = "The player didn't move left";
     private static final String NO_PLAYER_JUMP = "The player didn't jump";
+    private static final String DOUBLE_JUMP = "The player jumped again while in the air";
+    private static final String NO_LANDING = "The player didn't land after the jump";
     private static final String NO_PLAYER_CLIMB_UP = "The player didn't climb up when prompted";
     private static final String NO_PLAYER_CLIMB_DOWN = "The player didn't climb down when prompted";
     private static final String NO_DEAD_ENTITIES = "There shouldn't be dead entities";
@@ -209,6 +212,33 @@ public class WorldTest {
         assertTrue(NO_PLAYER_JUMP, playerInitialPosition.getRight() < player.get().getPosition().getRight());
     }
 
+    /**
+     * Test for the block of a jump while the player is in the air, until it lands again on the platform.
+     */
+    @Test
+    public void worldJumpOnlyFromGround() {
+        this.world.initLevel(Arrays.asList(this.platformProperties, this.playerProperties));
+        for (int i = 0; i < SHORT_UPDATE_STEPS; i++) {
+            this.world.update();
+        }
+        assertTrue(NO_PLAYER_JUMP, this.world.movePlayer(MovementType.JUMP));
+        for (int i = 0; i < SHORT_UPDATE_STEPS; i++) {
+            this.world.update();
+        }
+        assertFalse(DOUBLE_JUMP, this.world.movePlayer(MovementType.JUMP));
+        boolean landed = false;
+        for (int i = 0; i < LONG_UPDATE_STEPS && !landed; i++) {
+            this.world.update();
+            landed = this.world.getCurrentEvents().contains(CollisionEvent.PLAYER_LANDED);
+        }
+        assertTrue(NO_LANDING, landed);
+        /* updates to let the player stop after the landing */
+        for (int i = 0; i < SHORT_UPDATE_STEPS; i++) {
+            this.world.update();
+        }
+        assertTrue(NO_PLAYER_JUMP, this.world.movePlayer(MovementType.JUMP));
+    }
+
     /**
      * Test for the block of the transmission of a climb up command to the player inside the world, when it isn't in front
      * of a ladder.
@@ -4,35 +4,34 @@ import java.util.Objects;
 import javafx.scene.image.Image;
 import javafx.scene.image.ImageView;
 
-import org.apache.commons.lang3.tuple.ImmutablePair;
 import org.apache.commons.lang3.tuple.Pair;
 
 import it.unibo.jmpcoon.model.entities.EntityType;
 import it.unibo.jmpcoon.model.entities.UnmodifiableEntity;
 
 /**
- * An implementation of {@link DrawableEntity}.
+ * An implementation of {@link DrawableEntity}. The {@link ImageView} is positioned in the coordinates of the
+ * {@link it.unibo.jmpcoon.model.world.World}, so it should be put in a layer to which the {@link WorldProjection} is applied.
  */
 public abstract class AbstractDrawableEntity implements DrawableEntity {
     private final ImageView sprite;
     private final UnmodifiableEntity entity;
-    private final Pair<Double, Double> worldDimensions;
-    private final Pair<Double, Double> sceneDimensions;
+    private final SpriteCache sprites;
+    /* the position and the angle of the entity when the properties of the sprite were last updated */
+    private double shownX;
+    private double shownY;
+    private double shownAngle;
 
     /**
      * Builds a new {@link AbstractDrawableEntity}.
      * @param image the {@link Image} representing the entity in the view
      * @param entity the {@link UnmodifiableEntity} represented by this {@link AbstractDrawableEntity}
-     * @param worldDimensions the dimensions of the {@link it.unibo.jmpcoon.model.world.World} in which the
-     * {@link UnmodifiableEntity} lives
-     * @param sceneDimensions the dimensions of the view in which this {@link AbstractDrawableEntity} will be drawn
+     * @param sprites the {@link SpriteCache} from which taking the variant of the {@link Image} to show
      */
-    public AbstractDrawableEntity(final Image image, final UnmodifiableEntity entity, 
-                                  final Pair<Double, Double> worldDimensions, final Pair<Double, Double> sceneDimensions) {
-        this.sprite = new ImageView(Objects.requireNonNull(image));
+    public AbstractDrawableEntity(final Image image, final UnmodifiableEntity entity, final SpriteCache sprites) {
         this.entity = Objects.requireNonNull(entity);
-        this.worldDimensions = Objects.requireNonNull(worldDimensions);
-        this.sceneDimensions = Objects.requireNonNull(sceneDimensions);
+        this.sprites = Objects.requireNonNull(sprites);
+        this.sprite = new ImageView(this.getVariant(Objects.requireNonNull(image)));
         this.updateSpriteProperties();
     }
 
@@ -53,57 +52,72 @@ public abstract class AbstractDrawableEntity implements DrawableEntity {
     }
 
     /**
-     * Updates properties like position, rotation, ... of the {@link ImageView} of this {@link DrawableEntity}.
+     * Shows in the {@link ImageView} of this {@link DrawableEntity} the variant of the given {@link Image} nearest to the size
+     * at which it's shown on the screen.
+     * @param image the original {@link Image} to show
+     * @return true if the variant shown has a different size from the one shown before, so the properties of the
+     * {@link ImageView} need to be updated, false otherwise
      */
-    protected final void updateSpriteProperties() {
-        final double entityWidth = this.getEntity().getDimensions().getLeft();
-        final double entityHeight = this.getEntity().getDimensions().getRight();
-        final double entityX = this.getEntity().getPosition().getLeft();
-        final double entityY = this.getEntity().getPosition().getRight();
-        /* scaling the ImageView to correct dimensions */
-        this.getImageView().setScaleX(entityWidth * this.getXRatio() / this.getImageView().getImage().getWidth());
-        this.getImageView().setScaleY(entityHeight * this.getYRatio() / this.getImageView().getImage().getHeight());
-        this.getImageView().setRotate(-Math.toDegrees(this.getEntity().getAngle()));
-        /* differences between the sizes of the ImageView and of the image really shown */
-        final double diffX = this.getImageView().getImage().getWidth() - entityWidth * this.getXRatio();
-        final double diffY = this.getImageView().getImage().getHeight() - entityHeight * this.getYRatio();
-        final Pair<Double, Double> sceneCoordinates = 
-                this.getConvertedCoordinates(new ImmutablePair<>(entityX - entityWidth / 2, entityY + entityHeight / 2));
-        this.getImageView().setX(sceneCoordinates.getLeft() - diffX / 2);
-        this.getImageView().setY(sceneCoordinates.getRight() - diffY / 2);
+    protected final boolean showImage(final Image image) {
+        final Image variant = this.getVariant(image);
+        final Image shown = this.getImageView().getImage();
+        if (variant == shown) {
+            return false;
+        }
+        this.getImageView().setImage(variant);
+        return variant.getWidth() != shown.getWidth() || variant.getHeight() != shown.getHeight();
     }
 
     /**
-     * Returns the {@link UnmodifiableEntity} represented by this {@link DrawableEntity}.
-     * @return the {@link UnmodifiableEntity} represented by this {@link DrawableEntity}
+     * Updates properties like scale, position, rotation, ... of the {@link ImageView} of this {@link DrawableEntity}.
      */
-    protected UnmodifiableEntity getEntity() {
-        return this.entity;
+    protected final void updateSpriteProperties() {
+        final Pair<Double, Double> dimensions = this.getEntity().getDimensions();
+        final Image image = this.getImageView().getImage();
+        /* scaling the ImageView to the dimensions in the world, flipping it because the world is flipped when projected */
+        this.getImageView().setScaleX(dimensions.getLeft() / image.getWidth());
+        this.getImageView().setScaleY(-dimensions.getRight() / image.getHeight());
+        this.updateSpritePlacement();
     }
 
     /**
-     * Converts the given world coordinates into scene coordinates.
-     * @param worldCoordinates the coordinates to be converted
-     * @return the converted coordinates 
+     * Updates the position and the rotation of the {@link ImageView} of this {@link DrawableEntity}, which are the only
+     * properties changing when the {@link UnmodifiableEntity} moves.
      */
-    protected final Pair<Double, Double> getConvertedCoordinates(final Pair<Double, Double> worldCoordinates) {
-        return new ImmutablePair<>(worldCoordinates.getLeft() * this.getXRatio(),
-                this.sceneDimensions.getRight() - worldCoordinates.getRight() * this.getYRatio());
+    protected final void updateSpritePlacement() {
+        final Pair<Double, Double> position = this.getEntity().getPosition();
+        final Image image = this.getImageView().getImage();
+        this.shownX = position.getLeft();
+        this.shownY = position.getRight();
+        this.shownAngle = this.getEntity().getAngle();
+        /* the ImageView is scaled and rotated around its center, which is placed in the center of the entity */
+        this.getImageView().setX(this.shownX - image.getWidth() / 2);
+        this.getImageView().setY(this.shownY - image.getHeight() / 2);
+        this.getImageView().setRotate(Math.toDegrees(this.shownAngle));
     }
 
     /**
-     * Return the conversion ratio from world to scene dimensions along the x axis.
-     * @return the ratio to convert world dimensions to scene dimensions along the x axis
+     * Returns whether the {@link UnmodifiableEntity} represented by this {@link DrawableEntity} has moved or rotated since the
+     * properties of the {@link ImageView} were last updated, so whether they need to be updated again.
+     * @return true if the {@link UnmodifiableEntity} has moved or rotated, false otherwise
      */
-    protected final double getXRatio() {
-        return this.sceneDimensions.getLeft() / this.worldDimensions.getLeft();
+    protected final boolean hasMoved() {
+        final Pair<Double, Double> position = this.getEntity().getPosition();
+        return Double.compare(position.getLeft(), this.shownX) != 0
+               || Double.compare(position.getRight(), this.shownY) != 0
+               || Double.compare(this.getEntity().getAngle(), this.shownAngle) != 0;
     }
 
     /**
-     * Return the conversion ratio from world to scene dimensions along the y axis.
-     * @return the ratio to convert world dimensions to scene dimensions along the y axis
+     * Returns the {@link UnmodifiableEntity} represented by this {@link DrawableEntity}.
+     * @return the {@link UnmodifiableEntity} represented by this {@link DrawableEntity}
      */
-    protected final double getYRatio() {
-        return this.sceneDimensions.getRight() / this.worldDimensions.getRight();
+    protected UnmodifiableEntity getEntity() {
+        return this.entity;
+    }
+
+    private Image getVariant(final Image image) {
+        final Pair<Double, Double> dimensions = this.entity.getDimensions();
+        return this.sprites.get(image, dimensions.getLeft(), dimensions.getRight());
     }
 }
@@ -0,0 +1,46 @@
+package it.unibo.jmpcoon.view.game;
+
+/**
+ * An engine which plays the {@link Sounds} of the game on a thread of its own, so that the thread drawing the game never waits
+ * for the audio. It limits how often the same sound can be played and how many sounds can be played at once, giving precedence
+ * to the sounds with a higher priority.
+ */
+public interface AudioEngine {
+    /**
+     * Starts the thread which plays the requested sounds and the sounds of the events happened in the game.
+     * @throws IllegalStateException if this {@link AudioEngine} has already been started
+     */
+    void start() throws IllegalStateException;
+
+    /**
+     * Stops the thread which plays the requested sounds, the sounds requested and not yet played are discarded.
+     */
+    void stop();
+
+    /**
+     * Requests a sound to be played as soon as possible. It never blocks and it can be called from any thread.
+     * @param sound the {@link Sounds} to play
+     * @return true if the request has been accepted, false if there were too many requests pending and it has been discarded
+     */
+    boolean request(Sounds sound);
+
+    /**
+     * Returns the number of sounds played since this {@link AudioEngine} has been created.
+     * @return the number of sounds played
+     */
+    long getPlayedCount();
+
+    /**
+     * Returns the number of requests for the given sound which have been discarded, because there were too many requests
+     * pending, the sound was played too recently or there were too many more important sounds being played.
+     * @param sound the {@link Sounds} of which getting the number of discarded requests
+     * @return the number of discarded requests for the given sound
+     */
+    long getDroppedCount(Sounds sound);
+
+    /**
+     * Returns the number of requests for any sound which have been discarded.
+     * @return the number of discarded requests
+     */
+    long getDroppedCount();
+}
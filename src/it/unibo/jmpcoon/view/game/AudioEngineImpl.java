@@ -0,0 +1,215 @@
+package it.unibo.jmpcoon.view.game;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Consumer;
+import java.util.function.DoubleSupplier;
+
+import com.google.common.base.Optional;
+
+import it.unibo.jmpcoon.controller.game.EventChannel;
+import it.unibo.jmpcoon.controller.game.GameEvent;
+
+/**
+ * Class implementation of {@link AudioEngine}. The requests are put in a bounded queue and played by a daemon thread, which
+ * takes all the requests pending at once and plays them from the most to the least important. The same thread drains the
+ * {@link GameEvent}s of the game at least once per update, so it's the only consumer of their {@link EventChannel}, and plays
+ * their sounds along with the requests. A sound isn't played again if
+ * it was played less than a cool-down ago and at most a fixed number of voices can be playing at the same time: when all of
+ * them are busy, a sound can only take the place of a less important one.
+ */
+public class AudioEngineImpl implements AudioEngine {
+    private static final String ALREADY_STARTED_MSG = "The audio engine has already been started";
+    private static final String THREAD_NAME = "jmpcoon-audio";
+    private static final int QUEUE_CAPACITY = 64;
+    private static final int MAX_VOICES = 4;
+    /* how long a voice is considered busy after a sound has been started on it, longer than the sound effects used */
+    private static final long VOICE_DURATION = TimeUnit.MILLISECONDS.toNanos(400);
+    /* about three updates of the game, the delay which was used between two sounds before */
+    private static final long COOLDOWN = TimeUnit.MILLISECONDS.toNanos(45);
+    /* the delay between two updates of the game, so that the sounds of the events drained aren't late by more than one */
+    private static final long DRAIN_PERIOD = TimeUnit.MILLISECONDS.toNanos(15);
+    private static final Sounds[] BY_PRIORITY = Arrays.stream(Sounds.values())
+                                                      .sorted(Comparator.comparingInt(Sounds::getPriority).reversed())
+                                                      .toArray(Sounds[]::new);
+
+    private final BlockingQueue<Sounds> requests;
+    private final DoubleSupplier volume;
+    private final Consumer<EventChannel.EventConsumer> events;
+    private final int[] pending;
+    private final long[] lastPlayed;
+    private final boolean[] everPlayed;
+    private final long[] voicesEnd;
+    private final Sounds[] voicesSound;
+    private final AtomicLong played;
+    private final AtomicLongArray dropped;
+    private final Thread thread;
+    private volatile boolean running;
+
+    /**
+     * Builds a new {@link AudioEngineImpl}, loading all the {@link Sounds} so that the first time they're played they're already
+     * available.
+     * @param volume a supplier of the volume at which playing the sounds, between 0 and 1, read every time a sound is played
+     * @param events the source of the {@link GameEvent}s whose sounds should be played, which is called only by the thread of
+     * this {@link AudioEngineImpl} with the {@link EventChannel.EventConsumer} to which passing the events happened since the
+     * last call
+     */
+    public AudioEngineImpl(final DoubleSupplier volume, final Consumer<EventChannel.EventConsumer> events) {
+        this.volume = Objects.requireNonNull(volume);
+        this.events = Objects.requireNonNull(events);
+        final int soundsNumber = BY_PRIORITY.length;
+        this.requests = new ArrayBlockingQueue<>(QUEUE_CAPACITY);
+        this.pending = new int[soundsNumber];
+        this.lastPlayed = new long[soundsNumber];
+        this.everPlayed = new boolean[soundsNumber];
+        this.voicesEnd = new long[MAX_VOICES];
+        this.voicesSound = new Sounds[MAX_VOICES];
+        this.played = new AtomicLong();
+        this.dropped = new AtomicLongArray(soundsNumber);
+        this.thread = new Thread(this::playRequests, THREAD_NAME);
+        this.thread.setDaemon(true);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public synchronized void start() throws IllegalStateException {
+        if (this.thread.getState() != Thread.State.NEW) {
+            throw new IllegalStateException(ALREADY_STARTED_MSG);
+        }
+        this.running = true;
+        this.thread.start();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void stop() {
+        this.running = false;
+        this.thread.interrupt();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean request(final Sounds sound) {
+        if (!this.requests.offer(Objects.requireNonNull(sound))) {
+            this.dropped.incrementAndGet(sound.ordinal());
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long getPlayedCount() {
+        return this.played.get();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long getDroppedCount(final Sounds sound) {
+        return this.dropped.get(sound.ordinal());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long getDroppedCount() {
+        long total = 0;
+        for (int i = 0; i < this.dropped.length(); i++) {
+            total += this.dropped.get(i);
+        }
+        return total;
+    }
+
+    /*
+     * The body of the audio thread: it waits for a request or for the next update of the game, then collects all the requests
+     * pending and the sounds of the events happened, and plays them in order of priority. The same sound requested more times
+     * at once is played only once.
+     */
+    private void playRequests() {
+        try {
+            while (this.running) {
+                Sounds request = this.requests.poll(DRAIN_PERIOD, TimeUnit.NANOSECONDS);
+                while (request != null) {
+                    this.pending[request.ordinal()]++;
+                    request = this.requests.poll();
+                }
+                this.events.accept(this::requestEvent);
+                final long now = System.nanoTime();
+                for (final Sounds sound : BY_PRIORITY) {
+                    final int requested = this.pending[sound.ordinal()];
+                    if (requested > 0) {
+                        this.pending[sound.ordinal()] = 0;
+                        final int discarded = this.tryPlay(sound, now) ? requested - 1 : requested;
+                        if (discarded > 0) {
+                            this.dropped.addAndGet(sound.ordinal(), discarded);
+                        }
+                    }
+                }
+            }
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /*
+     * Adds the sound of the given event, if it has one, to the ones pending.
+     */
+    private void requestEvent(final GameEvent event, final long tick) {
+        final Optional<Sounds> sound = Sounds.fromGameEvent(event);
+        if (sound.isPresent()) {
+            this.pending[sound.get().ordinal()]++;
+        }
+    }
+
+    /*
+     * Plays the given sound if its cool-down has passed and there's a free voice or a voice playing a less important sound.
+     */
+    private boolean tryPlay(final Sounds sound, final long now) {
+        final int index = sound.ordinal();
+        if (this.everPlayed[index] && now - this.lastPlayed[index] < COOLDOWN) {
+            return false;
+        }
+        int voice = -1;
+        for (int i = 0; i < MAX_VOICES && voice < 0; i++) {
+            if (this.voicesSound[i] == null || now - this.voicesEnd[i] >= 0) {
+                voice = i;
+            }
+        }
+        if (voice < 0) {
+            for (int i = 0; i < MAX_VOICES; i++) {
+                if (this.voicesSound[i].getPriority() < sound.getPriority()
+                    && (voice < 0 || this.voicesSound[i].getPriority() < this.voicesSound[voice].getPriority())) {
+                    voice = i;
+                }
+            }
+            if (voice < 0) {
+                return false;
+            }
+            this.voicesSound[voice].getSound().stop();
+        }
+        sound.getSound().play(this.volume.getAsDouble());
+        this.voicesSound[voice] = sound;
+        this.voicesEnd[voice] = now + VOICE_DURATION;
+        this.lastPlayed[index] = now;
+        this.everPlayed[index] = true;
+        this.played.incrementAndGet();
+        return true;
+    }
+}
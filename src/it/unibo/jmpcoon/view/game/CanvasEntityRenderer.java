@@ -0,0 +1,65 @@
+package it.unibo.jmpcoon.view.game;
+
+import java.util.List;
+
+import javafx.scene.Node;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.image.Image;
+import javafx.scene.image.ImageView;
+import javafx.scene.transform.Affine;
+
+/**
+ * An {@link EntityRenderer} which draws all the {@link DrawableEntity}s on a single {@link Canvas}, so that the number of nodes
+ * in the scene doesn't depend on the number of entities. The {@link ImageView}s of the {@link DrawableEntity}s are never put in
+ * the scene, they're only used to know what to draw and where, applying the same transforms JavaFX would apply to them after
+ * the {@link WorldProjection}.
+ */
+public class CanvasEntityRenderer implements EntityRenderer {
+    private final Canvas canvas;
+    private final WorldProjection projection;
+
+    /**
+     * Builds a new {@link CanvasEntityRenderer}.
+     * @param projection the {@link WorldProjection} of the scene in which the entities will be drawn
+     */
+    public CanvasEntityRenderer(final WorldProjection projection) {
+        this.projection = projection;
+        this.canvas = new Canvas(projection.getSceneWidth(), projection.getSceneHeight());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Node getNode() {
+        return this.canvas;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void render(final List<DrawableEntity> drawables) {
+        /* the canvas follows the size of the scene */
+        this.canvas.setWidth(this.projection.getSceneWidth());
+        this.canvas.setHeight(this.projection.getSceneHeight());
+        final GraphicsContext context = this.canvas.getGraphicsContext2D();
+        context.setTransform(new Affine());
+        context.clearRect(0, 0, this.canvas.getWidth(), this.canvas.getHeight());
+        context.setTransform(new Affine(this.projection.getTransform()));
+        for (final DrawableEntity drawable : drawables) {
+            final ImageView view = drawable.getImageView();
+            final Image image = view.getImage();
+            final double halfWidth = image.getWidth() / 2;
+            final double halfHeight = image.getHeight() / 2;
+            context.save();
+            /* a node is rotated and then scaled around its center */
+            context.translate(view.getX() + halfWidth, view.getY() + halfHeight);
+            context.rotate(view.getRotate());
+            context.scale(view.getScaleX(), view.getScaleY());
+            context.drawImage(image, -halfWidth, -halfHeight);
+            context.restore();
+        }
+    }
+}
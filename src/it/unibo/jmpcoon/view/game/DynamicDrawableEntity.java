@@ -22,6 +22,8 @@ public class DynamicDrawableEntity extends AbstractDrawableEntity {
     private Animation currentAnimation;
     private boolean movingRight = true;
     private EntityState currentState;
+    /* the sprite sheet from which the image shown was taken when the properties of the sprite were last updated */
+    private SpriteAnimation shownSheet;
 
     /**
      * Builds a new {@link DynamicDrawableEntity}.
@@ -29,12 +31,11 @@ public class DynamicDrawableEntity extends AbstractDrawableEntity {
      * sheets that will represent it. The value of an entry is a pair with the sprite sheet and the number of frames it contains.
      * There must always be a sprite sheet for the {@link EntityState#IDLE}.
      * @param entity the {@link UnmodifiableEntity}
-     * @param worldDimensions the dimensions of the {@link it.unibo.jmpcoon.model.world.World}
-     * @param sceneDimensions the dimensions of the view in which this {@link UnmodifiableEntity} will be drawn
+     * @param sprites the {@link SpriteCache} from which taking the variants of the frames to show
      */
     public DynamicDrawableEntity(final Map<EntityState, Pair<Image, Integer>> spritesheets, final UnmodifiableEntity entity,
-                                 final Pair<Double, Double> worldDimensions, final Pair<Double, Double> sceneDimensions) {
-        super(spritesheets.get(EntityState.IDLE).getLeft(), entity, worldDimensions, sceneDimensions);
+                                 final SpriteCache sprites) {
+        super(spritesheets.get(EntityState.IDLE).getLeft(), entity, sprites);
         this.map = new HashMap<>();
         this.currentState = EntityState.IDLE;
         final int height = ((Double) spritesheets.get(EntityState.IDLE).getLeft().getHeight()).intValue();
@@ -49,19 +50,29 @@ public class DynamicDrawableEntity extends AbstractDrawableEntity {
     }
 
     /**
-     * Updates the image view.
+     * Updates the image view. The frame of the animation is always updated, while the scale is updated only if the entity has
+     * turned or is drawn with another sprite sheet or another variant of it, and the position and the rotation only if the
+     * entity has moved.
      */
     public void updateSpritePosition() {
-            super.updateSpriteProperties();
+            final EntityState state = this.getEntity().getState();
+            final boolean wasMovingRight = this.movingRight;
             if (isIdleWhileClimbing()) {
                 this.currentAnimation.pause();
             } else {
-                this.changeAnimation(this.getEntity().getState());
+                this.changeAnimation(state);
                 this.currentAnimation.play();
             }
             this.updateMovingRight();
-            this.getImageView().setImage(this.map.get(this.getEntity().getState()).getImage());
-            this.getImageView().setScaleX(this.getImageView().getScaleX() * (this.movingRight ? 1 : -1));
+            final SpriteAnimation sheet = this.map.get(state);
+            final boolean resized = this.showImage(sheet.getImage());
+            if (resized || sheet != this.shownSheet || wasMovingRight != this.movingRight) {
+                this.shownSheet = sheet;
+                super.updateSpriteProperties();
+                this.getImageView().setScaleX(this.getImageView().getScaleX() * (this.movingRight ? 1 : -1));
+            } else if (this.hasMoved()) {
+                super.updateSpritePlacement();
+            }
     }
 
     private void mapAnimation(final EntityState state, final SpriteAnimation animation) {
@@ -0,0 +1,25 @@
+package it.unibo.jmpcoon.view.game;
+
+import java.util.List;
+
+import javafx.scene.Node;
+
+/**
+ * A renderer of the alive entities of the game, which draws their {@link DrawableEntity}s every frame. Different renderers can
+ * draw them in different ways, but all of them show the sprite, the position, the rotation and the scale of the
+ * {@link javafx.scene.image.ImageView} of each {@link DrawableEntity}.
+ */
+public interface EntityRenderer {
+    /**
+     * Returns the {@link Node} in which the entities are drawn, which should be put in the scene once.
+     * @return the {@link Node} in which the entities are drawn
+     */
+    Node getNode();
+
+    /**
+     * Draws the given {@link DrawableEntity}s, replacing the ones drawn before. It should be called by the JavaFX thread.
+     * @param drawables the {@link DrawableEntity}s to draw, ordered from the one to draw at the bottom to the one to draw at the
+     * top
+     */
+    void render(List<DrawableEntity> drawables);
+}
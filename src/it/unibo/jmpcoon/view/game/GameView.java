@@ -40,7 +40,8 @@ public interface GameView {
     void clean();
 
     /**
-     * Returns a {@link Collection} of the inputs given by the user after the last update.
+     * Returns a {@link Collection} of the inputs given by the user after the last update, which are the keys held now and the
+     * ones pressed since the last call, even if already released. It should be called once per update.
      * @return a collection of inputs
      */
     Collection<InputType> getInputs();
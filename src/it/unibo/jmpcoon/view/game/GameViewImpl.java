@@ -15,7 +15,6 @@ import javafx.scene.layout.BackgroundPosition;
 import javafx.scene.layout.BackgroundRepeat;
 import javafx.scene.layout.BackgroundSize;
 import javafx.scene.layout.FlowPane;
-import javafx.scene.layout.Pane;
 import javafx.scene.layout.StackPane;
 import javafx.scene.media.MediaPlayer;
 import javafx.scene.paint.Color;
@@ -28,16 +27,15 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.logging.Logger;
 import java.util.stream.Collectors;
-import java.util.stream.Stream;
-
-import org.apache.commons.lang3.tuple.ImmutablePair;
 
 import com.google.common.base.Optional;
-import com.google.common.collect.Sets;
 
 import it.unibo.jmpcoon.controller.app.AppController;
 import it.unibo.jmpcoon.controller.game.GameController;
@@ -54,6 +52,7 @@ import it.unibo.jmpcoon.view.menus.Menu;
  * The class implementation of the {@link GameView} interface.
  */
 public class GameViewImpl implements GameView {
+    private static final Logger LOGGER = Logger.getLogger(GameViewImpl.class.getName());
     private static final String INIT_ERR = "You can't call this method before initializing the instance";
     private static final String BG_IMAGE = "images/bg_game.png";
     private static final String LAYOUT_PATH = "layouts/";
@@ -69,24 +68,33 @@ public class GameViewImpl implements GameView {
     private static final String PADDING = "-fx-padding: ";
     private static final String SIZE_UNIT = "em";
     private static final int SCORE_PADDING_RATIO = 2500;
-    private static final int SOUND_DELAY = 3;
+    private static final String TICK_LATENCY_STR = "Input latency to tick: ";
+    private static final String FRAME_LATENCY_STR = "Input latency to frame: ";
+    private static final String RENDERER_PROPERTY = "jmpcoon.renderer";
+    private static final String CANVAS_RENDERER = "canvas";
+    /* the types of the alive entities, ordered from the bottom layer to the top one */
+    private static final List<EntityType> ALIVE_LAYERS = Arrays.asList(EntityType.POWERUP, EntityType.WALKING_ENEMY,
+                                                                       EntityType.PLAYER, EntityType.ROLLING_ENEMY);
 
     private final AppController appController;
     private final AppView appView;
     private final Stage stage;
-    private final Pane entities;
     private final MediaPlayer music;
+    private final AudioEngine audio;
     private final EventHandler<KeyEvent> commandHandler;
-    private final Set<InputType> inputs;
+    private final InputBuffer inputs;
+    private final SpriteCache sprites;
     private EventHandler<WindowEvent> closeHandler;
     private GameController gameController;
     private MemoizedEntityConverter entityConverter;
+    private WorldProjection projection;
+    private EntityRenderer renderer;
     private Menu gameMenu;
     private StackPane root;
+    private List<StaticLayer> staticLayers;
     private boolean isMenuVisible;
     private boolean isGameEnded;
     private boolean isInitialized;
-    private int updatesFromLastSound;
     @FXML
     private Text score;
     @FXML
@@ -109,14 +117,22 @@ public class GameViewImpl implements GameView {
         this.appView = Objects.requireNonNull(view);
         this.music = Objects.requireNonNull(music);
         this.stage = Objects.requireNonNull(stage);
-        this.entities = new Pane();
+        this.sprites = new SpriteCacheImpl();
         this.mutableInitialization();
         this.commandHandler = key -> this.processInput(key);
         this.isGameEnded = false;
         this.isMenuVisible = false;
         this.isInitialized = false;
-        this.inputs = Sets.newConcurrentHashSet();
-        this.updatesFromLastSound = 0;
+        this.inputs = new InputBufferImpl();
+        /* the events are drained by the audio thread from the controller of the current game, which changes when restarting */
+        this.audio = new AudioEngineImpl(() -> this.music.isMute() ? 0 : this.music.getVolume(),
+                                         consumer -> this.gameController.drainEvents(consumer));
+        this.audio.start();
+        /* the stage is the same for every game, so the listener is added only once */
+        SpriteCacheImpl.addOutputScaleListener(this.stage, () -> {
+            this.updateScreenScale();
+            this.staticLayers.forEach(StaticLayer::redraw);
+        });
     }
 
     /**
@@ -125,10 +141,18 @@ public class GameViewImpl implements GameView {
      */
     private void mutableInitialization() {
         this.root = new StackPane();
+        this.staticLayers = Collections.emptyList();
         this.gameController = new GameControllerImpl(this);
-        this.entityConverter = new MemoizedEntityConverterImpl(this.gameController.getWorldDimensions(),
-                                                               new ImmutablePair<>(this.stage.getScene().getWidth(),
-                                                                                   this.stage.getScene().getHeight()));
+        this.entityConverter = new MemoizedEntityConverterImpl(this.sprites);
+        this.projection = new WorldProjection(this.gameController.getWorldDimensions(), this.stage.getScene().getWidth(),
+                                              this.stage.getScene().getHeight());
+        this.updateScreenScale();
+        /* every layer is projected again when the scene is resized */
+        this.root.widthProperty().addListener((observable, oldWidth, newWidth) -> this.resizeProjection());
+        this.root.heightProperty().addListener((observable, oldHeight, newHeight) -> this.resizeProjection());
+        this.renderer = CANVAS_RENDERER.equals(System.getProperty(RENDERER_PROPERTY))
+                        ? new CanvasEntityRenderer(this.projection)
+                        : new NodeEntityRenderer(this.projection);
         this.gameMenu = new GameMenu(this.root, this.stage.getHeight(), this.appController, this.appView, this.gameController,
                                      this);
         this.closeHandler = e -> this.gameController.stopGame();
@@ -162,25 +186,7 @@ public class GameViewImpl implements GameView {
         Platform.runLater(() -> {
             this.entityConverter.removeUnusedEntities(this.gameController.getDeadEntities());
             this.drawAliveEntities();
-            this.gameController.getCurrentEvents()
-                               .forEach(event -> Arrays.asList(Sounds.values())
-                                                       .parallelStream()
-                                                       .filter(sounds -> sounds.getAssociatedEvent().isPresent())
-                                                       .filter(eventSounds -> eventSounds.getAssociatedEvent().get() == event)
-                                                       .findFirst()
-                                                       .ifPresent(sound -> {
-                                                           if (this.updatesFromLastSound >= SOUND_DELAY) {
-                                                               sound.getSound().play(this.music.isMute() 
-                                                                                     ? 0 
-                                                                                     : this.music.getVolume());
-                                                               this.updatesFromLastSound = 0;
-                                                           } else {
-                                                               this.updatesFromLastSound = this.updatesFromLastSound + 1;
-                                                           }
-                                                       }));
-            if (this.gameController.getCurrentEvents().isEmpty()) {
-                this.updatesFromLastSound = this.updatesFromLastSound + 1;
-            }
+            this.inputs.frameShown();
             this.score.setText(SCORE_STR + this.gameController.getCurrentScore() + LIVES_STR 
                                + this.gameController.getPlayerLives());
         });
@@ -192,10 +198,8 @@ public class GameViewImpl implements GameView {
      */
     public void showGameOver() {
         this.checkInitialization();
-        Platform.runLater(() -> {
-            Sounds.PLAYER_DEATH.getSound().play(this.music.isMute() ? 0 : this.music.getVolume());
-            this.showMessage(LOSE_MSG);
-        });
+        this.audio.request(Sounds.PLAYER_DEATH);
+        Platform.runLater(() -> this.showMessage(LOSE_MSG));
     }
 
     /**
@@ -203,10 +207,8 @@ public class GameViewImpl implements GameView {
      */
     public void showPlayerWin() {
         this.checkInitialization();
-        Platform.runLater(() -> {
-            Sounds.END_GAME.getSound().play(this.music.isMute() ? 0 : this.music.getVolume());
-            this.showMessage(WIN_MSG);
-        });
+        this.audio.request(Sounds.END_GAME);
+        Platform.runLater(() -> this.showMessage(WIN_MSG));
     }
 
 
@@ -216,6 +218,9 @@ public class GameViewImpl implements GameView {
     @Override
     public void clean() {
         this.checkInitialization();
+        this.gameController.stopGame();
+        this.sprites.stop();
+        this.audio.stop();
         this.stage.getScene().removeEventHandler(KeyEvent.KEY_PRESSED, this.commandHandler);
         this.stage.getScene().removeEventHandler(KeyEvent.KEY_RELEASED, this.commandHandler);
         this.stage.removeEventHandler(WindowEvent.WINDOW_CLOSE_REQUEST, this.closeHandler);
@@ -226,11 +231,12 @@ public class GameViewImpl implements GameView {
      * ladders, entities, score).
      */
     private void setupStage() {
-        final Pane platforms = new Pane();
-        final Pane ladders = new Pane();
-        platforms.getChildren().addAll(this.getNodes(EntityType.PLATFORM));
-        ladders.getChildren().addAll(this.getNodes(EntityType.LADDER));
-        this.root.getChildren().addAll(platforms, ladders, this.entities);
+        final StaticLayer platforms = new StaticLayer(this.getNodes(EntityType.PLATFORM), this.projection,
+                                                      () -> SpriteCacheImpl.getOutputScale(this.stage));
+        final StaticLayer ladders = new StaticLayer(this.getNodes(EntityType.LADDER), this.projection,
+                                                    () -> SpriteCacheImpl.getOutputScale(this.stage));
+        this.staticLayers = Arrays.asList(platforms, ladders);
+        this.root.getChildren().addAll(platforms, ladders, this.renderer.getNode());
         try {
             final FXMLLoader scoreLoader = new FXMLLoader(ClassLoader.getSystemResource(SCORE_SRC));
             scoreLoader.setController(this);
@@ -255,10 +261,35 @@ public class GameViewImpl implements GameView {
      * Draws only the alive entities of the specified types.
      */
     private void drawAliveEntities() {
-        final List<Node> nodes = new ArrayList<>();
-        Arrays.asList(EntityType.POWERUP, EntityType.WALKING_ENEMY, EntityType.PLAYER, EntityType.ROLLING_ENEMY)
-              .forEach(type -> nodes.addAll(this.getNodes(type)));
-        this.entities.getChildren().setAll(nodes);
+        final Map<EntityType, List<DrawableEntity>> layers = new EnumMap<>(EntityType.class);
+        ALIVE_LAYERS.forEach(type -> layers.put(type, new ArrayList<>()));
+        /* every entity is converted, and so updated, only once per frame */
+        this.gameController.getAliveEntities()
+                           .stream()
+                           .filter(entity -> layers.containsKey(entity.getType()))
+                           .map(this.entityConverter::getDrawableEntity)
+                           .forEach(entity -> layers.get(entity.getEntityType()).add(entity));
+        final List<DrawableEntity> drawables = new ArrayList<>();
+        ALIVE_LAYERS.forEach(type -> drawables.addAll(layers.get(type)));
+        this.renderer.render(drawables);
+    }
+
+    /*
+     * Projects the world into the current dimensions of the root, ignoring the ones it has before being laid out.
+     */
+    private void resizeProjection() {
+        if (this.root.getWidth() > 0 && this.root.getHeight() > 0) {
+            this.projection.setSceneDimensions(this.root.getWidth(), this.root.getHeight());
+            this.updateScreenScale();
+        }
+    }
+
+    /*
+     * Tells the cache of the sprites how big a unit of the world is on the screen, so that it prepares the sprites at that size.
+     */
+    private void updateScreenScale() {
+        final double outputScale = SpriteCacheImpl.getOutputScale(this.stage);
+        this.sprites.setScreenScale(this.projection.getScaleX() * outputScale, this.projection.getScaleY() * outputScale);
     }
 
     /*
@@ -274,24 +305,25 @@ public class GameViewImpl implements GameView {
     }
 
     private void processInput(final KeyEvent event) {
+        final long timestamp = System.nanoTime();
         if (event.getEventType() == KeyEvent.KEY_PRESSED) {
-            this.manageInput(event.getCode(), true);
+            this.manageInput(event.getCode(), true, timestamp);
         } else if (event.getEventType() == KeyEvent.KEY_RELEASED) {
-            this.manageInput(event.getCode(), false);
+            this.manageInput(event.getCode(), false, timestamp);
         }
     }
 
     /*
-     * Finds the key's correspondent in InputKey which has a method that converts it into InputType, which is passed to the
-     * gameController.
+     * Finds the key's correspondent in InputKey which has a method that converts it into InputType, which is recorded in the
+     * buffer of inputs along with the instant in which the key was pressed or released. The inputs aren't recorded while the
+     * game isn't driven by the user, since no one would drain them.
      * forward must be true if the input has to be propagated to the GameController, false if it has to be removed from the
      * GameController (this distinction isn't valid for the escape key)
      */
-    private void manageInput(final KeyCode key, final boolean forward) {
-        Stream.of(InputKey.values())
-              .filter(input -> input.name().equals(key.name()))
-              .findAny()
-              .ifPresent(input -> {
+    private void manageInput(final KeyCode key, final boolean forward, final long timestamp) {
+        InputKey.fromKeyCode(key)
+                .toJavaUtil()
+                .ifPresent(input -> {
                   if (input == InputKey.ESCAPE && forward) {
                       if (!this.isGameEnded) {
                           this.gameController.togglePauseGame();
@@ -306,12 +338,8 @@ public class GameViewImpl implements GameView {
                           }
                       }
                   } else {
-                      if (input.convert().isPresent()) {
-                          if (forward) {
-                              this.inputs.add(input.convert().get());
-                          } else {
-                              this.inputs.remove(input.convert().get());
-                          }
+                      if (input.convert().isPresent() && this.gameController.isDrivenByUser()) {
+                          this.inputs.record(input.convert().get(), forward, timestamp);
                       }
                   }
               });
@@ -319,6 +347,8 @@ public class GameViewImpl implements GameView {
 
     private void showMessage(final String msg) {
         this.isGameEnded = true;
+        LOGGER.fine(() -> TICK_LATENCY_STR + this.inputs.getTickLatency());
+        LOGGER.fine(() -> FRAME_LATENCY_STR + this.inputs.getFrameLatency());
         this.music.stop();
         ViewUtils.drawFromURL(END_MSG_SRC, this, this.root);
         this.message.setText(msg);
@@ -353,6 +383,6 @@ public class GameViewImpl implements GameView {
      */
     @Override
     public Set<InputType> getInputs() {
-        return Collections.unmodifiableSet(this.inputs);
+        return this.inputs.drainTick();
     }
 }
@@ -0,0 +1,50 @@
+package it.unibo.jmpcoon.view.game;
+
+import java.util.Set;
+
+import it.unibo.jmpcoon.controller.game.InputType;
+
+/**
+ * A buffer of the inputs given by the user, which records every press and release of a key along with the instant in which it
+ * happened, so that the game can apply them once per tick without losing the keys pressed and released between two ticks. It
+ * also measures how long an input waits before being applied and before its result is shown.
+ */
+public interface InputBuffer {
+    /**
+     * Records the press or the release of the key associated to the given {@link InputType}. It should be called by the thread
+     * receiving the inputs of the user.
+     * @param input the {@link InputType} associated to the key
+     * @param pressed true if the key has been pressed, false if it has been released
+     * @param timestamp the instant in which the key has been pressed or released, as given by {@link System#nanoTime()}
+     */
+    void record(InputType input, boolean pressed, long timestamp);
+
+    /**
+     * Drains the inputs recorded since the last call and returns the ones to apply in the current tick of the game, which are
+     * the ones held at the end of the tick plus the ones pressed during it, even if they have already been released.
+     * @return the {@link InputType}s to apply in the current tick
+     */
+    Set<InputType> drainTick();
+
+    /**
+     * Signals that a frame showing the results of all the ticks already drained has been drawn.
+     */
+    void frameShown();
+
+    /**
+     * Forgets all the inputs recorded and held, like all the keys had been released.
+     */
+    void clear();
+
+    /**
+     * Returns the statistics of the time elapsed between the press of a key and the tick which applied it.
+     * @return the {@link LatencyStatistics} from key press to tick
+     */
+    LatencyStatistics getTickLatency();
+
+    /**
+     * Returns the statistics of the time elapsed between the press of a key and the first frame showing its result.
+     * @return the {@link LatencyStatistics} from key press to frame
+     */
+    LatencyStatistics getFrameLatency();
+}
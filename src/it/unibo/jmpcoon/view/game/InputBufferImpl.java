@@ -0,0 +1,130 @@
+package it.unibo.jmpcoon.view.game;
+
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.Set;
+
+import it.unibo.jmpcoon.controller.game.InputType;
+
+/**
+ * Class implementation of {@link InputBuffer}. The events are kept in arrays which grow only when there are more events between
+ * two ticks than ever before, so recording and draining them doesn't allocate anything in the common case.
+ */
+public class InputBufferImpl implements InputBuffer {
+    private static final int INITIAL_CAPACITY = 16;
+
+    private final Set<InputType> held;
+    private final LatencyStatistics tickLatency;
+    private final LatencyStatistics frameLatency;
+    private InputType[] inputs;
+    private boolean[] pressed;
+    private long[] timestamps;
+    private int size;
+    private long[] awaitingFrame;
+    private int awaitingFrameSize;
+
+    /**
+     * Builds a new empty {@link InputBufferImpl}.
+     */
+    public InputBufferImpl() {
+        this.held = EnumSet.noneOf(InputType.class);
+        this.tickLatency = new LatencyStatistics();
+        this.frameLatency = new LatencyStatistics();
+        this.inputs = new InputType[INITIAL_CAPACITY];
+        this.pressed = new boolean[INITIAL_CAPACITY];
+        this.timestamps = new long[INITIAL_CAPACITY];
+        this.awaitingFrame = new long[INITIAL_CAPACITY];
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public synchronized void record(final InputType input, final boolean pressed, final long timestamp) {
+        if (this.size == this.inputs.length) {
+            this.inputs = Arrays.copyOf(this.inputs, this.size * 2);
+            this.pressed = Arrays.copyOf(this.pressed, this.size * 2);
+            this.timestamps = Arrays.copyOf(this.timestamps, this.size * 2);
+        }
+        this.inputs[this.size] = input;
+        this.pressed[this.size] = pressed;
+        this.timestamps[this.size] = timestamp;
+        this.size++;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public synchronized Set<InputType> drainTick() {
+        final long now = System.nanoTime();
+        final Set<InputType> tickInputs = EnumSet.noneOf(InputType.class);
+        for (int i = 0; i < this.size; i++) {
+            final InputType input = this.inputs[i];
+            if (this.pressed[i]) {
+                /* the key repeat of the system sends more presses while a key is held, only the first one is a new input */
+                if (this.held.add(input)) {
+                    tickInputs.add(input);
+                    this.tickLatency.record(now - this.timestamps[i]);
+                    this.awaitFrame(this.timestamps[i]);
+                }
+            } else {
+                this.held.remove(input);
+            }
+            this.inputs[i] = null;
+        }
+        this.size = 0;
+        tickInputs.addAll(this.held);
+        return tickInputs;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public synchronized void frameShown() {
+        final long now = System.nanoTime();
+        for (int i = 0; i < this.awaitingFrameSize; i++) {
+            this.frameLatency.record(now - this.awaitingFrame[i]);
+        }
+        this.awaitingFrameSize = 0;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public synchronized void clear() {
+        Arrays.fill(this.inputs, 0, this.size, null);
+        this.size = 0;
+        this.awaitingFrameSize = 0;
+        this.held.clear();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public LatencyStatistics getTickLatency() {
+        return this.tickLatency;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public LatencyStatistics getFrameLatency() {
+        return this.frameLatency;
+    }
+
+    /*
+     * Remembers the instant of a press applied in a tick, so as to measure its latency when the next frame is shown.
+     */
+    private void awaitFrame(final long timestamp) {
+        if (this.awaitingFrameSize == this.awaitingFrame.length) {
+            this.awaitingFrame = Arrays.copyOf(this.awaitingFrame, this.awaitingFrameSize * 2);
+        }
+        this.awaitingFrame[this.awaitingFrameSize] = timestamp;
+        this.awaitingFrameSize++;
+    }
+}
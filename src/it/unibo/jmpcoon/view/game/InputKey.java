@@ -1,8 +1,12 @@
 package it.unibo.jmpcoon.view.game;
 
+import java.util.EnumMap;
+import java.util.Map;
+
 import com.google.common.base.Optional;
 
 import it.unibo.jmpcoon.controller.game.InputType;
+import javafx.scene.input.KeyCode;
 
 /**
  * The keyboard keys that control the {@link it.unibo.jmpcoon.model.entities.Player}.
@@ -33,6 +37,14 @@ public enum InputKey {
      */
     ESCAPE(Optional.absent());
 
+    private static final Map<KeyCode, InputKey> FROM_KEY_CODE = new EnumMap<>(KeyCode.class);
+
+    static {
+        for (final InputKey key : values()) {
+            FROM_KEY_CODE.put(KeyCode.valueOf(key.name()), key);
+        }
+    }
+
     private final Optional<InputType> correspondingInputType;
 
     InputKey(final Optional<InputType> correspondingInputType) {
@@ -46,4 +58,15 @@ public enum InputKey {
     public Optional<InputType> convert() {
         return this.correspondingInputType;
     }
+
+    /**
+     * Returns the value of this enumeration associated with the given {@link KeyCode}, which is the one with the same name,
+     * looked up in a table built once.
+     * @param keyCode the {@link KeyCode} of the key pressed or released
+     * @return an {@link Optional} containing the {@link InputKey} associated with the {@link KeyCode}, if present, an
+     * {@link Optional#absent()} otherwise
+     */
+    public static Optional<InputKey> fromKeyCode(final KeyCode keyCode) {
+        return Optional.fromNullable(FROM_KEY_CODE.get(keyCode));
+    }
 }
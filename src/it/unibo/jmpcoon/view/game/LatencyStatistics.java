@@ -0,0 +1,58 @@
+package it.unibo.jmpcoon.view.game;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A collector of latencies which keeps their number, their average and their maximum. It can be used from more than one thread.
+ */
+public final class LatencyStatistics {
+    private long count;
+    private long totalNanos;
+    private long maxNanos;
+
+    /**
+     * Records a latency.
+     * @param nanos the latency to record in nanoseconds, ignored if negative
+     */
+    public synchronized void record(final long nanos) {
+        if (nanos >= 0) {
+            this.count++;
+            this.totalNanos += nanos;
+            this.maxNanos = Math.max(this.maxNanos, nanos);
+        }
+    }
+
+    /**
+     * Returns the number of latencies recorded.
+     * @return the number of latencies recorded
+     */
+    public synchronized long getCount() {
+        return this.count;
+    }
+
+    /**
+     * Returns the average of the latencies recorded.
+     * @return the average latency in nanoseconds, 0 if no latency has been recorded
+     */
+    public synchronized double getAverageNanos() {
+        return this.count == 0 ? 0 : (double) this.totalNanos / this.count;
+    }
+
+    /**
+     * Returns the maximum of the latencies recorded.
+     * @return the maximum latency in nanoseconds, 0 if no latency has been recorded
+     */
+    public synchronized long getMaxNanos() {
+        return this.maxNanos;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public synchronized String toString() {
+        return "Count: " + this.count
+               + "; Average: " + this.getAverageNanos() / TimeUnit.MILLISECONDS.toNanos(1) + " ms"
+               + "; Max: " + (double) this.maxNanos / TimeUnit.MILLISECONDS.toNanos(1) + " ms";
+    }
+}
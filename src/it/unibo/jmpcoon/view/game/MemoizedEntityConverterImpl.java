@@ -1,9 +1,10 @@
 package it.unibo.jmpcoon.view.game;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.EnumMap;
-import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.function.Function;
 import java.util.stream.IntStream;
@@ -29,26 +30,28 @@ public class MemoizedEntityConverterImpl implements MemoizedEntityConverter {
     private static final double LADDER_RATIO = 0.5; // one ladder sprite is about 0.5m (height) in the world
     private static final double PLATFORM_RATIO = 0.9; // one platform sprite is about 0.9m (width) in the world
 
-    private final Pair<Double, Double> worldDimensions;
-    private final Pair<Double, Double> sceneDimensions;
-    private final Map<UnmodifiableEntity, DrawableEntity> convertedEntities;
+    /*
+     * the entities already converted indexed by the identifier of the entity, null if not converted; the identifier of a dead
+     * entity can be given to a new one, so a converted entity is used only if it represents the same entity
+     */
+    private final List<DrawableEntity> convertedEntities;
     private final Map<EntityType, Image> imagesForStaticEntities;
     private final Map<EntityType, Map<EntityState, Pair<Image, Integer>>> imagesForDynamicEntities;
     private final Map<PowerUpType, Image> imagesForPowerUps;
+    private final SpriteCache sprites;
 
     /**
-     * builds a new {@link MemoizedEntityConverterImpl}.
-     * @param worldDimensions the dimensions of the world in which the {@link it.unibo.jmpcoon.model.entities.Entity} to convert lives
-     * @param sceneDimensions the dimensions of the scene in which the {@link DrawableEntity} produced will be put
+     * builds a new {@link MemoizedEntityConverterImpl}. The {@link DrawableEntity} produced are positioned in the coordinates of
+     * the world, so they should be put in a layer to which a {@link WorldProjection} is applied.
+     * @param sprites the {@link SpriteCache} from which the {@link DrawableEntity} produced take the variants of their images
      */
-    public MemoizedEntityConverterImpl(final Pair<Double, Double> worldDimensions, final Pair<Double, Double> sceneDimensions) {
-        this.worldDimensions = worldDimensions;
-        this.sceneDimensions = sceneDimensions;
+    public MemoizedEntityConverterImpl(final SpriteCache sprites) {
+        this.sprites = sprites;
         this.imagesForStaticEntities = new EnumMap<>(EntityType.class);
         this.imagesForDynamicEntities = new EnumMap<>(EntityType.class);
         this.imagesForPowerUps = new EnumMap<>(PowerUpType.class);
         this.fillImagesMaps();
-        this.convertedEntities = new HashMap<>();
+        this.convertedEntities = new ArrayList<>();
     }
 
     /**
@@ -56,7 +59,7 @@ public class MemoizedEntityConverterImpl implements MemoizedEntityConverter {
      */
     @Override
     public DrawableEntity getDrawableEntity(final UnmodifiableEntity entity) {
-        if (!this.convertedEntities.containsKey(entity)) {
+        if (this.getConverted(entity) == null) {
             if (!entity.isDynamic()) {
                 final Image image;
                 if (entity.getType() == EntityType.POWERUP 
@@ -78,23 +81,24 @@ public class MemoizedEntityConverterImpl implements MemoizedEntityConverter {
                 } else {
                     throw new IllegalArgumentException(NOT_SUPPORTED_ENTITY_MSG);
                 }
-                this.convertedEntities.put(entity, 
-                                           new StaticDrawableEntity(image, entity, this.worldDimensions, this.sceneDimensions));
+                this.putConverted(entity, 
+                                  new StaticDrawableEntity(image, entity, this.sprites));
             } else {
                 if (this.imagesForDynamicEntities.containsKey(entity.getType())) {
-                    this.convertedEntities.put(entity, 
-                                               new DynamicDrawableEntity(this.imagesForDynamicEntities.get(entity.getType()), 
-                                                                         entity,
-                                                                         this.worldDimensions,
-                                                                         this.sceneDimensions));
+                    this.putConverted(entity, 
+                                      new DynamicDrawableEntity(this.imagesForDynamicEntities.get(entity.getType()), 
+                                                                entity,
+                                                                this.sprites));
                 } else {
                     throw new IllegalArgumentException(NOT_SUPPORTED_ENTITY_MSG);
                 }
             }
         }
-        final DrawableEntity drawableEntity = this.convertedEntities.get(entity);
+        final DrawableEntity drawableEntity = this.getConverted(entity);
         if (drawableEntity instanceof DynamicDrawableEntity) {
             ((DynamicDrawableEntity) drawableEntity).updateSpritePosition();
+        } else if (drawableEntity instanceof StaticDrawableEntity) {
+            ((StaticDrawableEntity) drawableEntity).updateSprite();
         }
         return drawableEntity;
     }
@@ -105,7 +109,25 @@ public class MemoizedEntityConverterImpl implements MemoizedEntityConverter {
      */
     @Override
     public void removeUnusedEntities(final Collection<UnmodifiableEntity> entities) {
-        entities.forEach(this.convertedEntities::remove);
+        entities.stream()
+                .filter(entity -> this.getConverted(entity) != null)
+                .forEach(entity -> this.convertedEntities.set(entity.getId(), null));
+    }
+
+    private DrawableEntity getConverted(final UnmodifiableEntity entity) {
+        final DrawableEntity converted = entity.getId() >= 0 && entity.getId() < this.convertedEntities.size()
+                                         ? this.convertedEntities.get(entity.getId())
+                                         : null;
+        return converted instanceof AbstractDrawableEntity && ((AbstractDrawableEntity) converted).getEntity().equals(entity)
+               ? converted
+               : null;
+    }
+
+    private void putConverted(final UnmodifiableEntity entity, final DrawableEntity drawableEntity) {
+        while (this.convertedEntities.size() <= entity.getId()) {
+            this.convertedEntities.add(null);
+        }
+        this.convertedEntities.set(entity.getId(), drawableEntity);
     }
 
     private void fillImagesMaps() {
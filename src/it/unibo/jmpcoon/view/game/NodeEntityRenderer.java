@@ -0,0 +1,45 @@
+package it.unibo.jmpcoon.view.game;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import javafx.scene.Node;
+import javafx.scene.layout.Pane;
+
+/**
+ * An {@link EntityRenderer} which puts in the scene the {@link javafx.scene.image.ImageView} of every {@link DrawableEntity}, so
+ * that JavaFX draws each one of them as a separate node. The {@link WorldProjection} is applied to the layer containing them.
+ */
+public class NodeEntityRenderer implements EntityRenderer {
+    private final Pane entities;
+
+    /**
+     * Builds a new {@link NodeEntityRenderer}.
+     * @param projection the {@link WorldProjection} of the scene in which the entities will be drawn
+     */
+    public NodeEntityRenderer(final WorldProjection projection) {
+        this.entities = new Pane();
+        this.entities.getTransforms().add(projection.getTransform());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Node getNode() {
+        return this.entities;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void render(final List<DrawableEntity> drawables) {
+        final List<Node> nodes = new ArrayList<>(drawables.size());
+        drawables.forEach(drawable -> nodes.add(drawable.getImageView()));
+        /* the scene graph is touched only when an entity has been added or removed */
+        if (!this.entities.getChildren().equals(nodes)) {
+            this.entities.getChildren().setAll(nodes);
+        }
+    }
+}
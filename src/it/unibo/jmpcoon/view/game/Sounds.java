@@ -1,5 +1,8 @@
 package it.unibo.jmpcoon.view.game;
 
+import java.util.EnumMap;
+import java.util.Map;
+
 import com.google.common.base.Optional;
 
 import it.unibo.jmpcoon.controller.game.GameEvent;
@@ -12,41 +15,56 @@ public enum Sounds {
     /**
      * A sound associated to a jump action of the {@link model.entities.Player}.
      */
-    JUMP("jump", Optional.of(GameEvent.JUMP)),
+    JUMP("jump", Optional.of(GameEvent.JUMP), 0),
     /**
      * A sound associated to the death of a {@link model.entities.RollingEnemy}.
      */
-    ROLLING_DESTROY("rollDestroy", Optional.of(GameEvent.ROLLING_ENEMY_KILLED)),
+    ROLLING_DESTROY("rollDestroy", Optional.of(GameEvent.ROLLING_ENEMY_KILLED), 1),
     /**
      * A sound associated to the death of a {@link model.entities.WalkingEnemy}.
      */
-    WALKING_DESTROY("walkDestroy", Optional.of(GameEvent.WALKING_ENEMY_KILLED)),
+    WALKING_DESTROY("walkDestroy", Optional.of(GameEvent.WALKING_ENEMY_KILLED), 1),
     /**
      * A sound associated to the death of the {@link model.entities.Player}.
      */
-    PLAYER_DEATH("death", Optional.absent()),
+    PLAYER_DEATH("death", Optional.absent(), 2),
     /**
      * A sound associated to the {@link model.entities.Player} getting the {@link model.entities.PowerUp} that makes invincible.
      */
-    INVINCIBIITY("invincible", Optional.of(GameEvent.INVINCIBILITY_HIT)),
+    INVINCIBIITY("invincible", Optional.of(GameEvent.INVINCIBILITY_HIT), 1),
     /**
      * A sound associated to the {@link model.entities.Player} getting a generic {@link model.entities.PowerUp}.
      */
-    POWER_UP_GOT("powerUp", Optional.of(GameEvent.POWER_UP_HIT)),
+    POWER_UP_GOT("powerUp", Optional.of(GameEvent.POWER_UP_HIT), 1),
     /**
      * A sound associated to the {@link model.entities.Player} winning and terminating the game.
      */
-    END_GAME("end", Optional.absent());
+    END_GAME("end", Optional.absent(), 2);
 
     private static final String SOUNDS_PATH = "sounds/";
     private static final String SOUNDS_EXT = ".mp3";
 
+    private static final Map<GameEvent, Optional<Sounds>> FROM_GAME_EVENT = new EnumMap<>(GameEvent.class);
+
+    static {
+        for (final GameEvent event : GameEvent.values()) {
+            FROM_GAME_EVENT.put(event, Optional.absent());
+        }
+        for (final Sounds sound : values()) {
+            if (sound.associatedEvent.isPresent()) {
+                FROM_GAME_EVENT.put(sound.associatedEvent.get(), Optional.of(sound));
+            }
+        }
+    }
+
     private final AudioClip sound;
     private final Optional<GameEvent> associatedEvent;
+    private final int priority;
 
-    Sounds(final String soundName, final Optional<GameEvent> associatedEvent) {
+    Sounds(final String soundName, final Optional<GameEvent> associatedEvent, final int priority) {
         this.sound = new AudioClip(ClassLoader.getSystemResource(SOUNDS_PATH + soundName + SOUNDS_EXT).toExternalForm());
         this.associatedEvent = associatedEvent;
+        this.priority = priority;
     }
 
     /**
@@ -65,4 +83,22 @@ public enum Sounds {
     public Optional<GameEvent> getAssociatedEvent() {
         return this.associatedEvent;
     }
+
+    /**
+     * Gets the priority of this sound: when there are too many sounds to be played at once, the ones with a higher priority
+     * are played instead of the others.
+     * @return the priority of this sound, higher for more important sounds
+     */
+    public int getPriority() {
+        return this.priority;
+    }
+
+    /**
+     * Gets the sound which should be played when the given event happens, looked up in a table built once.
+     * @param event the {@link GameEvent} happened
+     * @return an {@link Optional} of the sound associated with the event, if present, an {@link Optional#absent()} otherwise
+     */
+    public static Optional<Sounds> fromGameEvent(final GameEvent event) {
+        return FROM_GAME_EVENT.get(event);
+    }
 }
@@ -0,0 +1,33 @@
+package it.unibo.jmpcoon.view.game;
+
+import javafx.scene.image.Image;
+
+/**
+ * A cache of sprites scaled in advance to the size at which they're shown on the screen, so that they aren't resampled every
+ * time they're drawn. The scaled variants are built in background, so until the variant for the current size is ready the
+ * nearest one already built is used, which at worst is the original sprite.
+ */
+public interface SpriteCache {
+    /**
+     * Sets how many pixels of the screen a unit of the {@link it.unibo.jmpcoon.model.world.World} takes, considering both the
+     * size of the scene and the scale of the screen. It should be called every time one of them changes.
+     * @param pixelsPerUnitX the pixels of the screen per unit of the world along the x axis
+     * @param pixelsPerUnitY the pixels of the screen per unit of the world along the y axis
+     */
+    void setScreenScale(double pixelsPerUnitX, double pixelsPerUnitY);
+
+    /**
+     * Returns the variant of the given sprite nearest to the size at which a sprite with the given dimensions in the world is
+     * shown on the screen, requesting the building of the right variant if it isn't already built.
+     * @param sprite the original sprite
+     * @param width the width in the world of the entity drawn with the sprite
+     * @param height the height in the world of the entity drawn with the sprite
+     * @return the nearest variant of the sprite already built
+     */
+    Image get(Image sprite, double width, double height);
+
+    /**
+     * Stops building the variants requested and not yet built.
+     */
+    void stop();
+}
@@ -0,0 +1,229 @@
+package it.unibo.jmpcoon.view.game;
+
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import javafx.beans.property.ReadOnlyDoubleProperty;
+import javafx.scene.image.Image;
+import javafx.scene.image.PixelFormat;
+import javafx.scene.image.WritableImage;
+import javafx.stage.Window;
+
+import org.apache.commons.lang3.tuple.ImmutablePair;
+import org.apache.commons.lang3.tuple.Pair;
+
+/**
+ * Class implementation of {@link SpriteCache}. The variants of a sprite are scaled by powers of the square root of two, so that
+ * a variant is never more than about 20% bigger or smaller than the size on the screen, and they're built by a single daemon
+ * thread. The sprites are shrunk averaging the pixels they cover and enlarged interpolating the nearest ones.
+ */
+public class SpriteCacheImpl implements SpriteCache {
+    private static final String THREAD_NAME = "jmpcoon-sprites";
+    private static final int LEVELS_PER_OCTAVE = 2;
+    private static final int MIN_LEVEL = -8;
+    private static final int MAX_LEVEL = 4;
+    private static final String OUTPUT_SCALE_METHOD = "getOutputScaleX";
+    private static final String OUTPUT_SCALE_PROPERTY_METHOD = "outputScaleXProperty";
+
+    /* the variants of every sprite indexed by their level, the original sprite is the level 0 */
+    private final Map<Image, NavigableMap<Integer, Image>> variants;
+    private final Set<Pair<Image, Integer>> requested;
+    private final ExecutorService builder;
+    private volatile double pixelsPerUnitX;
+    private volatile double pixelsPerUnitY;
+
+    /**
+     * Builds a new {@link SpriteCacheImpl}, which considers a unit of the world as big as a pixel until the scale of the screen
+     * is set.
+     */
+    public SpriteCacheImpl() {
+        this.variants = new ConcurrentHashMap<>();
+        this.requested = ConcurrentHashMap.newKeySet();
+        this.builder = Executors.newSingleThreadExecutor(task -> {
+            final Thread thread = new Thread(task, THREAD_NAME);
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.pixelsPerUnitX = 1;
+        this.pixelsPerUnitY = 1;
+    }
+
+    /**
+     * Returns the scale of the screen on which the given {@link Window} is shown, which is more than 1 on the HiDPI screens.
+     * The scale is known only from JavaFX 9 on, so on the previous versions it's always 1.
+     * @param window the {@link Window} shown
+     * @return the scale of the screen on which the {@link Window} is shown
+     */
+    public static double getOutputScale(final Window window) {
+        try {
+            return (Double) Window.class.getMethod(OUTPUT_SCALE_METHOD).invoke(window);
+        } catch (final ReflectiveOperationException | ClassCastException e) {
+            return 1;
+        }
+    }
+
+    /**
+     * Runs the given action every time the scale of the screen on which the given {@link Window} is shown changes, as when the
+     * {@link Window} is moved to another screen. The scale is known only from JavaFX 9 on, so on the previous versions the
+     * action is never run.
+     * @param window the {@link Window} shown
+     * @param action the action to run on the JavaFX thread when the scale changes
+     */
+    public static void addOutputScaleListener(final Window window, final Runnable action) {
+        try {
+            ((ReadOnlyDoubleProperty) Window.class.getMethod(OUTPUT_SCALE_PROPERTY_METHOD).invoke(window))
+                .addListener((observable, oldScale, newScale) -> action.run());
+        } catch (final ReflectiveOperationException | ClassCastException e) {
+            /* the scale never changes */
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void setScreenScale(final double pixelsPerUnitX, final double pixelsPerUnitY) {
+        this.pixelsPerUnitX = pixelsPerUnitX;
+        this.pixelsPerUnitY = pixelsPerUnitY;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Image get(final Image sprite, final double width, final double height) {
+        if (sprite.getWidth() <= 0 || sprite.getHeight() <= 0) {
+            return sprite;
+        }
+        /* the level is chosen on the larger side, so that the sprite is never shrunk too much */
+        final double factor = Math.max(width * this.pixelsPerUnitX / sprite.getWidth(),
+                                       height * this.pixelsPerUnitY / sprite.getHeight());
+        final int level = Math.max(MIN_LEVEL, Math.min(MAX_LEVEL,
+                                                       (int) Math.round(Math.log(factor) / Math.log(2) * LEVELS_PER_OCTAVE)));
+        if (level == 0) {
+            return sprite;
+        }
+        final NavigableMap<Integer, Image> spriteVariants = this.variants.computeIfAbsent(sprite, s -> {
+            final NavigableMap<Integer, Image> map = new ConcurrentSkipListMap<>();
+            map.put(0, s);
+            return map;
+        });
+        final Image variant = spriteVariants.get(level);
+        if (variant != null) {
+            return variant;
+        }
+        if (this.requested.add(new ImmutablePair<>(sprite, level))) {
+            this.builder.execute(() -> spriteVariants.put(level, scale(sprite, level)));
+        }
+        final Map.Entry<Integer, Image> lower = spriteVariants.floorEntry(level);
+        final Map.Entry<Integer, Image> higher = spriteVariants.ceilingEntry(level);
+        if (lower == null) {
+            return higher.getValue();
+        }
+        return higher == null || level - lower.getKey() <= higher.getKey() - level ? lower.getValue() : higher.getValue();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void stop() {
+        this.builder.shutdownNow();
+    }
+
+    /*
+     * Builds the variant of the given sprite at the given level.
+     */
+    private static Image scale(final Image sprite, final int level) {
+        final double factor = Math.pow(2, (double) level / LEVELS_PER_OCTAVE);
+        final int sourceWidth = (int) sprite.getWidth();
+        final int sourceHeight = (int) sprite.getHeight();
+        final int width = Math.max(1, (int) Math.round(sourceWidth * factor));
+        final int height = Math.max(1, (int) Math.round(sourceHeight * factor));
+        final int[] source = new int[sourceWidth * sourceHeight];
+        sprite.getPixelReader().getPixels(0, 0, sourceWidth, sourceHeight, PixelFormat.getIntArgbInstance(), source, 0,
+                                          sourceWidth);
+        final int[] target = factor < 1 ? shrink(source, sourceWidth, sourceHeight, width, height)
+                                        : enlarge(source, sourceWidth, sourceHeight, width, height);
+        final WritableImage variant = new WritableImage(width, height);
+        variant.getPixelWriter().setPixels(0, 0, width, height, PixelFormat.getIntArgbInstance(), target, 0, width);
+        return variant;
+    }
+
+    /*
+     * Shrinks the pixels averaging all the source pixels which fall in each target pixel, weighting the colors by their alpha
+     * so that the transparent pixels don't darken the borders.
+     */
+    private static int[] shrink(final int[] source, final int sourceWidth, final int sourceHeight, final int width,
+                                final int height) {
+        final int[] target = new int[width * height];
+        for (int y = 0; y < height; y++) {
+            final int fromY = y * sourceHeight / height;
+            final int toY = Math.max(fromY + 1, (y + 1) * sourceHeight / height);
+            for (int x = 0; x < width; x++) {
+                final int fromX = x * sourceWidth / width;
+                final int toX = Math.max(fromX + 1, (x + 1) * sourceWidth / width);
+                long alpha = 0;
+                long red = 0;
+                long green = 0;
+                long blue = 0;
+                for (int sy = fromY; sy < toY; sy++) {
+                    for (int sx = fromX; sx < toX; sx++) {
+                        final int argb = source[sy * sourceWidth + sx];
+                        final int a = argb >>> 24;
+                        alpha += a;
+                        red += ((argb >> 16) & 0xFF) * a;
+                        green += ((argb >> 8) & 0xFF) * a;
+                        blue += (argb & 0xFF) * a;
+                    }
+                }
+                final int count = (toY - fromY) * (toX - fromX);
+                target[y * width + x] = alpha == 0 ? 0
+                                                   : (int) (alpha / count) << 24
+                                                     | (int) (red / alpha) << 16
+                                                     | (int) (green / alpha) << 8
+                                                     | (int) (blue / alpha);
+            }
+        }
+        return target;
+    }
+
+    /*
+     * Enlarges the pixels interpolating linearly the four source pixels nearest to the center of each target pixel.
+     */
+    private static int[] enlarge(final int[] source, final int sourceWidth, final int sourceHeight, final int width,
+                                 final int height) {
+        final int[] target = new int[width * height];
+        for (int y = 0; y < height; y++) {
+            final double sourceY = Math.max(0, (y + 0.5) * sourceHeight / height - 0.5);
+            final int y0 = Math.min((int) sourceY, sourceHeight - 1);
+            final int y1 = Math.min(y0 + 1, sourceHeight - 1);
+            final double dy = sourceY - y0;
+            for (int x = 0; x < width; x++) {
+                final double sourceX = Math.max(0, (x + 0.5) * sourceWidth / width - 0.5);
+                final int x0 = Math.min((int) sourceX, sourceWidth - 1);
+                final int x1 = Math.min(x0 + 1, sourceWidth - 1);
+                final double dx = sourceX - x0;
+                int argb = 0;
+                for (int shift = 0; shift < 32; shift += 8) {
+                    final double top = channel(source[y0 * sourceWidth + x0], shift) * (1 - dx)
+                                       + channel(source[y0 * sourceWidth + x1], shift) * dx;
+                    final double bottom = channel(source[y1 * sourceWidth + x0], shift) * (1 - dx)
+                                          + channel(source[y1 * sourceWidth + x1], shift) * dx;
+                    argb |= (int) Math.round(top * (1 - dy) + bottom * dy) << shift;
+                }
+                target[y * width + x] = argb;
+            }
+        }
+        return target;
+    }
+
+    private static int channel(final int argb, final int shift) {
+        return (argb >>> shift) & 0xFF;
+    }
+}
@@ -0,0 +1,83 @@
+package it.unibo.jmpcoon.view.game;
+
+import java.util.Collection;
+import java.util.Objects;
+import java.util.function.DoubleSupplier;
+
+import javafx.geometry.Rectangle2D;
+import javafx.scene.Group;
+import javafx.scene.Node;
+import javafx.scene.SnapshotParameters;
+import javafx.scene.image.ImageView;
+import javafx.scene.layout.Pane;
+import javafx.scene.paint.Color;
+import javafx.scene.transform.Transform;
+
+/**
+ * A layer of the view made of {@link Node}s which never change, such as the ones of the platforms and of the ladders. The nodes
+ * are drawn once into a single image, which is the only node of this layer shown in the scene, so the cost of drawing the layer
+ * doesn't depend on the number of nodes in it. The nodes are positioned in the coordinates of the world and projected through a
+ * {@link WorldProjection} when drawn. The image has as many pixels as the screen shows, so it isn't enlarged on the HiDPI
+ * screens. It's drawn again only when the layer is resized or when the scale of the screen changes.
+ */
+public final class StaticLayer extends Pane {
+    private final Group content;
+    private final WorldProjection projection;
+    private final DoubleSupplier outputScale;
+    private final ImageView image;
+    private double drawnWidth;
+    private double drawnHeight;
+    private double drawnScale;
+
+    /**
+     * Builds a new {@link StaticLayer} made of the given {@link Node}s.
+     * @param nodes the {@link Node}s of this layer, positioned in the coordinates of the world
+     * @param projection the {@link WorldProjection} of the scene in which this layer will be shown
+     * @param outputScale a supplier of the scale of the screen on which this layer is shown, the number of pixels of the screen
+     * in a pixel of the scene
+     */
+    public StaticLayer(final Collection<? extends Node> nodes, final WorldProjection projection,
+                       final DoubleSupplier outputScale) {
+        super();
+        this.projection = projection;
+        this.outputScale = Objects.requireNonNull(outputScale);
+        /* the nodes are kept outside the scene, they're used only for drawing the image */
+        this.content = new Group(nodes.toArray(new Node[nodes.size()]));
+        this.content.getTransforms().add(projection.getTransform());
+        this.image = new ImageView();
+        this.getChildren().add(this.image);
+        this.draw(projection.getSceneWidth(), projection.getSceneHeight());
+        this.widthProperty().addListener((observable, oldWidth, newWidth) -> this.draw(newWidth.doubleValue(), this.drawnHeight));
+        this.heightProperty().addListener((observable, oldHeight, newHeight) -> this.draw(this.drawnWidth,
+                                                                                          newHeight.doubleValue()));
+    }
+
+    /**
+     * Draws again the image of this layer if the scale of the screen on which it's shown has changed since it was drawn.
+     */
+    public void redraw() {
+        this.draw(this.drawnWidth, this.drawnHeight);
+    }
+
+    /*
+     * Draws the nodes of this layer in the image shown, if the size of the image or the scale of the screen is changed. The
+     * layer is resized after the projection has been changed, so the nodes are already projected into the new scene.
+     */
+    private void draw(final double width, final double height) {
+        final double scale = this.outputScale.getAsDouble();
+        if (width > 0 && height > 0 && (width != this.drawnWidth || height != this.drawnHeight || scale != this.drawnScale)
+            && width == this.projection.getSceneWidth() && height == this.projection.getSceneHeight()) {
+            final SnapshotParameters parameters = new SnapshotParameters();
+            parameters.setFill(Color.TRANSPARENT);
+            /* the viewport is in the pixels of the image, which are the ones of the screen */
+            parameters.setTransform(Transform.scale(scale, scale));
+            parameters.setViewport(new Rectangle2D(0, 0, width * scale, height * scale));
+            this.image.setImage(this.content.snapshot(parameters, null));
+            this.image.setFitWidth(width);
+            this.image.setFitHeight(height);
+            this.drawnWidth = width;
+            this.drawnHeight = height;
+            this.drawnScale = scale;
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package it.unibo.jmpcoon.view.game;
+
+import java.util.Objects;
+
+import javafx.scene.transform.Affine;
+import javafx.scene.transform.Transform;
+
+import org.apache.commons.lang3.tuple.Pair;
+
+/**
+ * The projection of the coordinates of the {@link it.unibo.jmpcoon.model.world.World} into the ones of the scene in which it's
+ * drawn. The world has its origin in the bottom left corner and its y axis pointing up, while the scene has its origin in the
+ * top left corner and its y axis pointing down, so the projection scales and flips the coordinates. It's a single
+ * {@link Transform} shared by all the layers of the game, which is changed when the scene is resized, so that all the nodes
+ * positioned in the coordinates of the world are projected again at once.
+ */
+public final class WorldProjection {
+    private final Pair<Double, Double> worldDimensions;
+    private final Affine transform;
+    private double sceneWidth;
+    private double sceneHeight;
+
+    /**
+     * Builds a new {@link WorldProjection}.
+     * @param worldDimensions the dimensions of the {@link it.unibo.jmpcoon.model.world.World}
+     * @param sceneWidth the width of the scene in which the {@link it.unibo.jmpcoon.model.world.World} is drawn
+     * @param sceneHeight the height of the scene in which the {@link it.unibo.jmpcoon.model.world.World} is drawn
+     */
+    public WorldProjection(final Pair<Double, Double> worldDimensions, final double sceneWidth, final double sceneHeight) {
+        this.worldDimensions = Objects.requireNonNull(worldDimensions);
+        this.transform = new Affine();
+        this.setSceneDimensions(sceneWidth, sceneHeight);
+    }
+
+    /**
+     * Changes the dimensions of the scene in which the {@link it.unibo.jmpcoon.model.world.World} is drawn, updating the
+     * {@link Transform} of this projection. It should be called by the JavaFX thread.
+     * @param sceneWidth the new width of the scene
+     * @param sceneHeight the new height of the scene
+     */
+    public void setSceneDimensions(final double sceneWidth, final double sceneHeight) {
+        this.sceneWidth = sceneWidth;
+        this.sceneHeight = sceneHeight;
+        this.transform.setMxx(sceneWidth / this.worldDimensions.getLeft());
+        this.transform.setMyy(-sceneHeight / this.worldDimensions.getRight());
+        this.transform.setTy(sceneHeight);
+    }
+
+    /**
+     * Returns the {@link Transform} which projects the coordinates of the world into the ones of the scene. The nodes to which
+     * it's applied should be positioned in the coordinates of the world and, as the y axis is flipped, they should be flipped
+     * vertically too so as not to be drawn upside down.
+     * @return the {@link Transform} of this projection
+     */
+    public Transform getTransform() {
+        return this.transform;
+    }
+
+    /**
+     * Returns how many pixels of the scene a unit of the world takes along the x axis.
+     * @return the pixels of the scene per unit of the world along the x axis
+     */
+    public double getScaleX() {
+        return this.transform.getMxx();
+    }
+
+    /**
+     * Returns how many pixels of the scene a unit of the world takes along the y axis.
+     * @return the pixels of the scene per unit of the world along the y axis
+     */
+    public double getScaleY() {
+        return -this.transform.getMyy();
+    }
+
+    /**
+     * Returns the width of the scene in which the {@link it.unibo.jmpcoon.model.world.World} is drawn.
+     * @return the width of the scene
+     */
+    public double getSceneWidth() {
+        return this.sceneWidth;
+    }
+
+    /**
+     * Returns the height of the scene in which the {@link it.unibo.jmpcoon.model.world.World} is drawn.
+     * @return the height of the scene
+     */
+    public double getSceneHeight() {
+        return this.sceneHeight;
+    }
+}